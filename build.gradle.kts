@@ -3,4 +3,6 @@ plugins {
     id("com.android.application") version "8.0.0" apply false
     id("com.android.library") version "8.0.0" apply false
     id("org.jetbrains.kotlin.android") version "1.7.20" apply false
+    id("org.jetbrains.kotlin.jvm") version "1.7.20" apply false
+    id("me.champeau.jmh") version "0.7.1" apply false
 }
\ No newline at end of file
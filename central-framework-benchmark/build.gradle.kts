@@ -0,0 +1,59 @@
+import org.jetbrains.kotlin.gradle.tasks.KotlinCompile
+
+plugins {
+    id("org.jetbrains.kotlin.jvm")
+    id("me.champeau.jmh")
+}
+
+/**
+ * 基准测试直接复用 central-framework 的源码，只排除依赖 Android 框架的部分，
+ * 因此可以在普通 JVM 上运行，不需要设备或模拟器
+ */
+val frameworkSources = "${rootDir}/central-framework/src/main/java"
+
+/**
+ * central.android 包下只保留不依赖 Android 框架的应用上下文与环境
+ */
+val jvmCompatibleAndroidSources = setOf(
+    "central/android/context/AndroidApplicationContext.kt",
+    "central/android/env/AndroidEnvironment.kt"
+)
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+kotlin {
+    sourceSets.getByName("main").kotlin {
+        srcDir(frameworkSources)
+        exclude { element ->
+            val path = element.relativePath.pathString
+            (path.startsWith("central/android/") && path !in jvmCompatibleAndroidSources)
+                || path.startsWith("central/kotlin/org/json/")
+                || path.startsWith("central/bean/aop/async/")
+                || path == "central/util/json/KotlinSerializer.kt"
+        }
+    }
+}
+
+sourceSets {
+    main {
+        resources.srcDir("${rootDir}/central-framework/src/main/resources")
+    }
+}
+
+tasks.withType<KotlinCompile> {
+    kotlinOptions.jvmTarget = "1.8"
+}
+
+dependencies {
+    implementation("com.google.code.gson:gson:2.10.1")
+}
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(2)
+    resultFormat.set("JSON")
+}
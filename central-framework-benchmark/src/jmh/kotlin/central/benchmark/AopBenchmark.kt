@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.benchmark
+
+import central.bean.aop.MethodInvocation
+import central.bean.aop.Pointcut
+import central.bean.aop.metrics.TimingPointcut
+import central.bean.aop.support.AopProxyProcessor
+import org.openjdk.jmh.annotations.*
+import java.lang.reflect.Method
+import java.util.concurrent.TimeUnit
+
+/**
+ * 切面代理基准测试
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class AopBenchmark {
+
+    interface Calculator {
+        fun add(a: Int, b: Int): Int
+
+        fun negate(a: Int): Int
+    }
+
+    class DefaultCalculator : Calculator {
+        override fun add(a: Int, b: Int): Int = a + b
+
+        override fun negate(a: Int): Int = -a
+    }
+
+    /**
+     * 只拦截 add 方法，直接执行下一个切面
+     */
+    class PassThroughPointcut : Pointcut {
+        override fun matches(method: Method, targetClass: Class<*>): Boolean = method.name == "add"
+
+        override fun invoke(invocation: MethodInvocation): Any? = invocation.proceed()
+    }
+
+    private lateinit var direct: Calculator
+
+    private lateinit var proxied: Calculator
+
+    private lateinit var timed: Calculator
+
+    private var value = 1
+
+    @Setup
+    fun setup() {
+        this.direct = DefaultCalculator()
+        val processor = AopProxyProcessor(listOf(PassThroughPointcut(), PassThroughPointcut(), PassThroughPointcut()))
+        this.proxied = processor.processAfterInitialization("calculator", DefaultCalculator()) as Calculator
+        this.timed = AopProxyProcessor(listOf(TimingPointcut(listOf("central.benchmark.**"))))
+            .processAfterInitialization("calculator", DefaultCalculator()) as Calculator
+    }
+
+    /**
+     * 直接调用
+     */
+    @Benchmark
+    fun direct(): Int {
+        return this.direct.negate(this.value)
+    }
+
+    /**
+     * 通过代理调用没有匹配任何切面的方法
+     */
+    @Benchmark
+    fun unmatched(): Int {
+        return this.proxied.negate(this.value)
+    }
+
+    /**
+     * 通过代理调用匹配了三个切面的方法
+     */
+    @Benchmark
+    fun matched(): Int {
+        return this.proxied.add(this.value, this.value)
+    }
+
+    /**
+     * 通过代理调用统计耗时的方法
+     */
+    @Benchmark
+    fun timed(): Int {
+        return this.timed.negate(this.value)
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.benchmark
+
+import central.android.context.AndroidApplicationContext
+import central.bean.factory.Autowired
+import central.bean.factory.support.RootBeanDefinition
+import central.bean.factory.support.processor.bean.AutowiredProcessor
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * 字段注入基准测试
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class AutowiredBenchmark {
+
+    class FirstService
+
+    class SecondService
+
+    class ThirdService
+
+    class InjectedBean {
+        @Autowired
+        lateinit var first: FirstService
+
+        @Autowired
+        lateinit var second: SecondService
+
+        @Autowired
+        lateinit var third: ThirdService
+    }
+
+    private lateinit var processor: AutowiredProcessor
+
+    @Setup
+    fun setup() {
+        val context = AndroidApplicationContext()
+        listOf(FirstService::class.java, SecondService::class.java, ThirdService::class.java).forEach {
+            context.beanFactory.registry.registerDefinition(RootBeanDefinition(it))
+        }
+        context.refresh()
+
+        this.processor = AutowiredProcessor(context)
+    }
+
+    /**
+     * 对新创建的对象执行字段注入
+     */
+    @Benchmark
+    fun inject(): Any {
+        return this.processor.processBeforeInitialization("injectedBean", InjectedBean())
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.benchmark
+
+import central.bean.factory.config.InstanceFactoryBean
+import central.bean.factory.support.GenericBeanFactory
+import central.bean.factory.support.RootBeanDefinition
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Bean 查找基准测试
+ *
+ * 测试在不同数量的 Bean 定义下，按名称与按类型获取单例的耗时
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class BeanFactoryBenchmark {
+
+    class FillerBean
+
+    class TargetBean
+
+    /**
+     * 已注册的 Bean 定义数量
+     */
+    @Param("10", "100", "1000")
+    @JvmField
+    var definitions: Int = 0
+
+    private lateinit var factory: GenericBeanFactory
+
+    @Setup
+    fun setup() {
+        this.factory = GenericBeanFactory()
+        for (i in 1 until this.definitions) {
+            this.factory.registry.registerDefinition(RootBeanDefinition(FillerBean::class.java, name = "filler$i", factory = InstanceFactoryBean(FillerBean())))
+        }
+        this.factory.registry.registerDefinition(RootBeanDefinition(TargetBean::class.java, factory = InstanceFactoryBean(TargetBean())))
+        this.factory.preInstantiateSingletons()
+    }
+
+    @Benchmark
+    fun getBeanByName(): Any? {
+        return this.factory.getBean("targetBean")
+    }
+
+    @Benchmark
+    fun getBeanByType(): Any? {
+        return this.factory.getBean(TargetBean::class.java)
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.benchmark
+
+import central.android.context.AndroidApplicationContext
+import central.bean.context.support.ChildApplicationContext
+import central.bean.factory.Autowired
+import central.bean.factory.support.RootBeanDefinition
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * 子上下文基准测试
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class ChildContextBenchmark {
+
+    class Repository
+
+    class PageState {
+        @Autowired
+        lateinit var repository: Repository
+    }
+
+    private lateinit var parent: AndroidApplicationContext
+
+    @Setup
+    fun setup() {
+        this.parent = AndroidApplicationContext()
+        this.parent.beanFactory.registry.registerDefinition(RootBeanDefinition(Repository::class.java))
+        this.parent.refresh()
+    }
+
+    /**
+     * 创建子上下文、初始化页面级别的 Bean 并关闭子上下文
+     */
+    @Benchmark
+    fun lifecycle(): Any {
+        val child = ChildApplicationContext(this.parent)
+        child.register(PageState::class.java)
+        child.refresh()
+        val state = child.requireBean(PageState::class.java)
+        child.close()
+        return state
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.benchmark
+
+import central.bean.context.ApplicationEvent
+import central.bean.context.channel.EventChannel
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * 高频事件通道基准测试
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class EventChannelBenchmark {
+
+    class ProgressEvent(override val source: Any, val progress: Int) : ApplicationEvent
+
+    private val sources = Array(8) { "page-$it" }
+
+    private val events = Array(64) { ProgressEvent(this.sources[it % this.sources.size], it) }
+
+    private lateinit var plain: EventChannel<ProgressEvent>
+
+    private lateinit var coalescing: EventChannel<ProgressEvent>
+
+    private var index = 0
+
+    private var sum = 0
+
+    @Setup
+    fun setup() {
+        this.plain = EventChannel(64)
+        this.coalescing = EventChannel(64, coalescingKey = { it.source })
+    }
+
+    private fun next(): ProgressEvent {
+        this.index = (this.index + 1) and 63
+        return this.events[this.index]
+    }
+
+    /**
+     * 发送事件，缓冲区满后丢弃最早的事件
+     */
+    @Benchmark
+    fun offer(): Boolean {
+        return this.plain.offer(this.next())
+    }
+
+    /**
+     * 发送事件，合并同一个键的事件
+     */
+    @Benchmark
+    fun offerCoalescing(): Boolean {
+        return this.coalescing.offer(this.next())
+    }
+
+    /**
+     * 发送 64 个事件后批量消费
+     */
+    @Benchmark
+    @OperationsPerInvocation(64)
+    fun offerAndDrain(): Int {
+        for (i in 0 until 64) {
+            this.plain.offer(this.next())
+        }
+        return this.plain.drain { this.sum += it.progress }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.benchmark
+
+import central.android.context.AndroidApplicationContext
+import central.bean.factory.config.ConstructorInvokingFactoryBean
+import central.bean.factory.support.RootBeanDefinition
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import central.bean.factory.config.Scope as BeanScope
+
+/**
+ * 原型 Bean 创建基准测试
+ *
+ * 原型 Bean 通过 [ConstructorInvokingFactoryBean] 创建，每次获取都需要解析构造函数参数并调用构造函数
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class PrototypeBenchmark {
+
+    class FirstDependency
+
+    class SecondDependency
+
+    class ThirdDependency
+
+    @BeanScope(singleton = false)
+    class PrototypeBean(val first: FirstDependency, val second: SecondDependency, val third: ThirdDependency)
+
+    private lateinit var context: AndroidApplicationContext
+
+    private lateinit var factory: ConstructorInvokingFactoryBean<PrototypeBean>
+
+    @Setup
+    fun setup() {
+        this.context = AndroidApplicationContext()
+        listOf(FirstDependency::class.java, SecondDependency::class.java, ThirdDependency::class.java, PrototypeBean::class.java).forEach {
+            this.context.beanFactory.registry.registerDefinition(RootBeanDefinition(it))
+        }
+        this.context.refresh()
+
+        this.factory = ConstructorInvokingFactoryBean(PrototypeBean::class.java)
+        this.factory.applicationContext = this.context
+    }
+
+    /**
+     * 直接调用构造函数，作为对照
+     */
+    @Benchmark
+    fun baseline(): PrototypeBean {
+        return PrototypeBean(FirstDependency(), SecondDependency(), ThirdDependency())
+    }
+
+    /**
+     * 只通过 FactoryBean 创建，不经过 Bean 工厂与后置处理器
+     */
+    @Benchmark
+    fun factoryBean(): PrototypeBean {
+        return this.factory.getBean()
+    }
+
+    /**
+     * 通过应用上下文获取，包含后置处理器的开销
+     */
+    @Benchmark
+    fun getBean(): PrototypeBean {
+        return this.context.requireBean("prototypeBean")
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.benchmark
+
+import central.android.context.AndroidApplicationContext
+import central.bean.factory.Autowired
+import central.bean.factory.BeanFactory
+import central.bean.factory.FactoryBean
+import central.bean.factory.config.Bean
+import central.bean.factory.config.Configuration
+import central.bean.factory.config.DependencyDescriptor
+import central.bean.factory.support.RootBeanDefinition
+import central.bean.factory.support.processor.factory.ConfigurationBeanPostProcessor
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * 应用上下文刷新基准测试
+ *
+ * 使用一个合成的配置图：少量通过 @Configuration、构造函数与 @Autowired 注入的组件，
+ * 加上指定数量的节点 Bean，每个节点依赖前一个节点以及 index / 2 的节点
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+open class RefreshBenchmark {
+
+    class Repository
+
+    class Service(val repository: Repository)
+
+    class Controller {
+        @Autowired
+        lateinit var service: Service
+    }
+
+    class Client(val name: String)
+
+    @Configuration
+    class BenchmarkConfiguration {
+        @Bean
+        fun client(): Client = Client("benchmark")
+    }
+
+    class Node(val dependencies: List<Node>)
+
+    /**
+     * 节点 Bean 的工厂
+     */
+    class NodeFactoryBean(private val beanFactory: BeanFactory, private val dependencies: List<String>) : FactoryBean<Node> {
+        override val singleton: Boolean = true
+
+        override val lazy: Boolean = false
+
+        override fun getBean(): Node = Node(this.dependencies.map { this.beanFactory.requireBean<Node>(it) })
+
+        override fun getBeanType(): Class<*> = Node::class.java
+
+        override fun getDependencies(): List<DependencyDescriptor> = this.dependencies.map { DependencyDescriptor(Node::class.java, it) }
+    }
+
+    /**
+     * 节点 Bean 的数量
+     */
+    @Param("50", "500")
+    @JvmField
+    var nodes: Int = 0
+
+    @Benchmark
+    fun refresh(): AndroidApplicationContext {
+        val context = AndroidApplicationContext()
+        val registry = context.beanFactory.registry
+        listOf(Repository::class.java, Service::class.java, Controller::class.java, BenchmarkConfiguration::class.java).forEach {
+            registry.registerDefinition(RootBeanDefinition(it))
+        }
+        for (i in 0 until this.nodes) {
+            val dependencies = if (i == 0) emptyList() else listOf("node${i - 1}", "node${i / 2}").distinct()
+            registry.registerDefinition(RootBeanDefinition(Node::class.java, name = "node$i", factory = NodeFactoryBean(context.beanFactory, dependencies)))
+        }
+        context.addBeanFactoryPostProcessor(ConfigurationBeanPostProcessor())
+        context.refresh()
+        return context
+    }
+}
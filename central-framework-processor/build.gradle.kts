@@ -0,0 +1,70 @@
+plugins {
+    id("java-library")
+    id("maven-publish")
+}
+
+version = "1.0.x-SNAPSHOT"
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+    withSourcesJar()
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+publishing {
+    publications {
+        register("release", MavenPublication::class.java) {
+            groupId = "com.central-x.android"
+            artifactId = "central-framework-processor"
+            version = project.version.toString()
+            pom {
+                name.set("central-framework-processor")
+                description.set("Bean Index Processor for Central Framework for Android")
+                url.set("https://central-x.com")
+                licenses {
+                    license {
+                        name.set("The Apache Software License, Version 2.0")
+                        url.set("https://www.apache.org/licenses/LICENSE-2.0.txt")
+                        distribution.set("repo")
+                    }
+                }
+                developers {
+                    developer {
+                        name.set("Alan Yeh")
+                        email.set("alan@yeh.cn")
+                        url.set("https://github.com/alan-yeh")
+                    }
+                }
+                scm {
+                    connection.set("scm:https://github.com/central-x/central-framework-android.git")
+                    url.set("https://github.com/central-x/central-framework-android")
+                }
+            }
+
+            from(components.getByName("java"))
+        }
+
+        repositories {
+            val releaseUrl = if (project.version.toString().endsWith("-SNAPSHOT")) {
+                "https://deploy.central-x.com/repository/maven-snapshots/"
+            } else if (project.version.toString().endsWith(".RELEASE")){
+                "https://deploy.central-x.com/repository/maven-releases/"
+            } else {
+                throw IllegalArgumentException("Version malformed: Project version must end with '.RELEASE' or '-SNAPSHOT'")
+            }
+
+            maven {
+                name = "nexus"
+                url = uri(releaseUrl)
+                credentials {
+                    username = project.extra.get("NEXUS_USERNAME")?.toString()
+                    password = project.extra.get("NEXUS_PASSWORD")?.toString()
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,574 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Bean 索引生成器
+ * <p>
+ * 在编译期为每个带有 @Configuration 注解的配置类生成 {@code <配置类名>_BeanIndex} 类，记录配置类通过 @Import 引入的组件、
+ * 组件选用的构造函数、带有 @Bean 注解的方法以及组件的注入点。运行时 ConfigurationBeanPostProcessor 会优先加载该索引，
+ * 从而跳过反射解析。
+ * <p>
+ * 使用方法（Kotlin 项目）:
+ * <pre>
+ * plugins {
+ *     kotlin("kapt")
+ * }
+ *
+ * dependencies {
+ *     kapt("com.central-x.android:central-framework-processor:${version}")
+ * }
+ * </pre>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@SupportedAnnotationTypes(BeanIndexProcessor.CONFIGURATION)
+public class BeanIndexProcessor extends AbstractProcessor {
+    static final String CONFIGURATION = "central.bean.factory.config.Configuration";
+    private static final String IMPORT = "central.bean.factory.config.Import";
+    private static final String BEAN = "central.bean.factory.config.Bean";
+    private static final String COMPONENT = "central.bean.factory.config.Component";
+    private static final String SCOPE = "central.bean.factory.config.Scope";
+    private static final String LAZY_INIT = "central.bean.factory.config.LazyInit";
+    private static final String DEPENDS_ON = "central.bean.factory.config.DependsOn";
+    private static final String PRIMARY = "central.bean.factory.config.Primary";
+    private static final String MAIN_THREAD_INIT = "central.bean.factory.config.MainThreadInit";
+    private static final String AUTOWIRED = "central.bean.factory.Autowired";
+    private static final String QUALIFIER = "central.bean.factory.Qualifier";
+    private static final String VALUE = "central.bean.factory.Value";
+    private static final String BEAN_PROVIDER = "central.bean.factory.BeanProvider";
+
+    private static final String SUFFIX = "_BeanIndex";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement configuration = this.processingEnv.getElementUtils().getTypeElement(CONFIGURATION);
+        if (configuration == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(configuration)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            try {
+                this.generate((TypeElement) element);
+            } catch (IOException ex) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot generate bean index: " + ex.getMessage(), element);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成配置类的索引
+     */
+    private void generate(TypeElement configuration) throws IOException {
+        String packageName = this.getPackage(configuration).getQualifiedName().toString();
+        String indexName = this.getBinaryName(configuration).substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + SUFFIX;
+
+        StringBuilder definitions = new StringBuilder();
+        Map<TypeElement, List<String>> injectionPoints = new LinkedHashMap<>();
+        if (this.isAccessible(configuration, packageName)) {
+            injectionPoints.put(configuration, this.getInjectionPoints(configuration));
+        }
+
+        // @Import 引入的组件
+        AnnotationMirror imports = this.findAnnotation(configuration, IMPORT);
+        if (imports != null) {
+            for (AnnotationValue value : this.getArray(imports, "value")) {
+                TypeElement component = (TypeElement) ((DeclaredType) value.getValue()).asElement();
+                definitions.append(this.generateComponent(component, packageName));
+                if (this.isAccessible(component, packageName)) {
+                    injectionPoints.put(component, this.getInjectionPoints(component));
+                }
+            }
+        }
+
+        // @Bean 方法。子类重写的方法只以子类的声明为准，与运行时通过反射获取的公开方法保持一致
+        Set<String> signatures = new HashSet<>();
+        for (TypeElement type = configuration; type != null; type = this.getSuperclass(type)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.PUBLIC) || !signatures.add(this.getSignature(method))) {
+                    continue;
+                }
+                if (this.findAnnotation(method, BEAN) != null && method.getReturnType().getKind() != TypeKind.VOID) {
+                    definitions.append(this.generateMethod(configuration, method));
+                }
+            }
+        }
+
+        StringBuilder points = new StringBuilder();
+        for (Map.Entry<TypeElement, List<String>> entry : injectionPoints.entrySet()) {
+            points.append("        points.put(").append(this.getClassLiteral(entry.getKey().asType())).append(", java.util.Arrays.<InjectionPoint>asList(");
+            points.append(String.join(", ", entry.getValue()));
+            points.append("));\n");
+        }
+
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? indexName : packageName + "." + indexName, configuration);
+        try (Writer writer = file.openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import central.bean.factory.config.BeanDefinition;\n");
+            writer.write("import central.bean.factory.config.DependencyDescriptor;\n");
+            writer.write("import central.bean.factory.support.RootBeanDefinition;\n");
+            writer.write("import central.bean.factory.support.index.BeanIndex;\n");
+            writer.write("import central.bean.factory.support.index.BeanIndexes;\n");
+            writer.write("import central.bean.factory.support.index.IndexedFactoryBean;\n");
+            writer.write("import central.bean.factory.support.index.InjectionPoint;\n\n");
+            writer.write("import java.util.ArrayList;\n");
+            writer.write("import java.util.HashMap;\n");
+            writer.write("import java.util.List;\n");
+            writer.write("import java.util.Map;\n\n");
+            writer.write("/**\n * Bean index of {@link " + configuration.getQualifiedName() + "}, generated by " + BeanIndexProcessor.class.getName() + "\n */\n");
+            writer.write("public final class " + indexName + " implements BeanIndex {\n");
+            writer.write("    @Override\n");
+            writer.write("    public List<BeanDefinition> getDefinitions(final BeanDefinition configuration) {\n");
+            writer.write("        List<BeanDefinition> definitions = new ArrayList<>();\n");
+            writer.write(definitions.toString());
+            writer.write("        return definitions;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public Map<Class<?>, List<InjectionPoint>> getInjectionPoints() {\n");
+            writer.write("        Map<Class<?>, List<InjectionPoint>> points = new HashMap<>();\n");
+            writer.write(points.toString());
+            writer.write("        return points;\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    /**
+     * 生成组件的 Bean 定义
+     */
+    private String generateComponent(TypeElement component, String packageName) {
+        ExecutableElement constructor = this.determineConstructor(component);
+        if (constructor == null || !this.isAccessible(component, packageName) || component.getModifiers().contains(Modifier.ABSTRACT)) {
+            // 无法直接调用构造函数，运行时通过反射创建
+            return "        definitions.add(BeanIndexes.reflective(" + this.getClassLiteral(component.asType()) + "));\n";
+        }
+
+        AnnotationMirror named = this.findAnnotation(component, COMPONENT);
+        String name = named == null ? "" : (String) this.getValue(named, "value");
+        if (name.isEmpty()) {
+            String simpleName = component.getSimpleName().toString();
+            name = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+        }
+
+        String type = this.getTypeName(component.asType());
+        return this.generateDefinition(component, type, type, name, "new " + type + "(" + this.generateArguments(constructor) + ")", this.generateDependencies(constructor));
+    }
+
+    /**
+     * 生成 @Bean 方法的 Bean 定义
+     */
+    private String generateMethod(TypeElement configuration, ExecutableElement method) {
+        AnnotationMirror bean = this.findAnnotation(method, BEAN);
+        String name = (String) this.getValue(bean, "name");
+        if (name.isEmpty()) {
+            name = method.getSimpleName().toString();
+        }
+
+        String target;
+        List<String> dependencies = new ArrayList<>();
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            target = this.getTypeName(configuration.asType());
+        } else {
+            target = "this.<" + this.getTypeName(configuration.asType()) + ">configuration(configuration.getName())";
+            // 需要先创建配置类
+            dependencies.add("new DependencyDescriptor(configuration.getType(), configuration.getName(), true)");
+        }
+        dependencies.addAll(this.generateDependencies(method));
+
+        String type = this.getTypeName(this.box(method.getReturnType()));
+        return this.generateDefinition(method, this.getTypeName(method.getReturnType()), type, name, target + "." + method.getSimpleName() + "(" + this.generateArguments(method) + ")", dependencies);
+    }
+
+    /**
+     * 生成 Bean 定义
+     */
+    private String generateDefinition(Element element, String rawType, String type, String name, String expression, List<String> dependencies) {
+        AnnotationMirror scope = this.findAnnotation(element, SCOPE);
+        String scopeName;
+        if (scope == null) {
+            scopeName = "singleton";
+        } else if (!((String) this.getValue(scope, "target")).isEmpty()) {
+            scopeName = (String) this.getValue(scope, "target");
+        } else {
+            scopeName = (Boolean) this.getValue(scope, "singleton") ? "singleton" : "prototype";
+        }
+        boolean singleton = scopeName.equals("singleton");
+        AnnotationMirror lazyInit = this.findAnnotation(element, LAZY_INIT);
+        boolean lazy = lazyInit != null && (Boolean) this.getValue(lazyInit, "value");
+        boolean primary = this.findAnnotation(element, PRIMARY) != null;
+        boolean mainThread = this.findAnnotation(element, MAIN_THREAD_INIT) != null;
+
+        List<String> dependsOn = new ArrayList<>();
+        AnnotationMirror depends = this.findAnnotation(element, DEPENDS_ON);
+        if (depends != null) {
+            for (AnnotationValue value : this.getArray(depends, "value")) {
+                dependsOn.add(this.literal((String) value.getValue()));
+            }
+        }
+
+        return "        definitions.add(new RootBeanDefinition(" + rawType + ".class, " + this.literal(name) + ", " + singleton + ", " + lazy + ", "
+                + "java.util.Arrays.<String>asList(" + String.join(", ", dependsOn) + "), " + primary + ", "
+                + "new IndexedFactoryBean<" + type + ">(" + rawType + ".class, " + singleton + ", " + lazy + ") {\n"
+                + "            @Override\n"
+                + "            protected " + type + " create() {\n"
+                + "                return " + expression + ";\n"
+                + "            }\n\n"
+                + "            @Override\n"
+                + "            public List<DependencyDescriptor> getDependencies() {\n"
+                + "                return java.util.Arrays.<DependencyDescriptor>asList(" + String.join(", ", dependencies) + ");\n"
+                + "            }\n"
+                + "        }, " + mainThread + ", " + this.literal(scopeName) + "));\n";
+    }
+
+    /**
+     * 生成构造函数或方法的参数
+     */
+    private String generateArguments(ExecutableElement executable) {
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : executable.getParameters()) {
+            AnnotationMirror value = this.findAnnotation(parameter, VALUE);
+            AnnotationMirror autowired = this.findAnnotation(parameter, AUTOWIRED);
+            AnnotationMirror qualifier = this.findAnnotation(parameter, QUALIFIER);
+
+            String expression;
+            boolean required;
+            if (value != null) {
+                expression = this.literal((String) this.getValue(value, "value"));
+                required = (Boolean) this.getValue(value, "required");
+            } else {
+                expression = "null";
+                required = autowired != null && (Boolean) this.getValue(autowired, "required");
+            }
+            String name = value == null && qualifier != null ? this.literal((String) this.getValue(qualifier, "value")) : "null";
+            if (value == null && this.getTypeName(parameter.asType()).equals(BEAN_PROVIDER)) {
+                // BeanProvider<T> 在使用时才获取 Bean
+                arguments.add("provider(" + this.getClassLiteral(this.getTypeArgument(parameter.asType())) + ", " + name + ")");
+            } else {
+                arguments.add("argument(" + this.getClassLiteral(parameter.asType()) + ", " + name + ", " + expression + ", " + required + ")");
+            }
+        }
+        return String.join(", ", arguments);
+    }
+
+    /**
+     * 生成构造函数或方法的依赖描述，通过 @Value 注入的参数不依赖其它 Bean
+     */
+    private List<String> generateDependencies(ExecutableElement executable) {
+        List<String> dependencies = new ArrayList<>();
+        for (VariableElement parameter : executable.getParameters()) {
+            if (this.findAnnotation(parameter, VALUE) != null) {
+                continue;
+            }
+            AnnotationMirror autowired = this.findAnnotation(parameter, AUTOWIRED);
+            AnnotationMirror qualifier = this.findAnnotation(parameter, QUALIFIER);
+            boolean required = autowired != null && (Boolean) this.getValue(autowired, "required");
+            String name = qualifier != null ? this.literal((String) this.getValue(qualifier, "value")) : "null";
+            dependencies.add("new DependencyDescriptor(" + this.getClassLiteral(parameter.asType()) + ", " + name + ", " + required + ")");
+        }
+        return dependencies;
+    }
+
+    /**
+     * 选择构造函数
+     * <p>
+     * 优先使用带 @Autowired 注解的构造函数，其次使用参数多的构造函数
+     */
+    private ExecutableElement determineConstructor(TypeElement component) {
+        ExecutableElement candidate = null;
+        int candidateWeight = -1;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(component.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            int weight = constructor.getParameters().size() + (this.findAnnotation(constructor, AUTOWIRED) != null ? 10000 : 0);
+            if (weight > candidateWeight) {
+                candidate = constructor;
+                candidateWeight = weight;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * 获取组件的注入点
+     * <p>
+     * 与 AutowiredProcessor 的规则一致：带 @Autowired 或 @Qualifier 注解的字段、Kotlin 属性、Setter 方法，以及带 @Autowired 注解的公开方法
+     */
+    private List<String> getInjectionPoints(TypeElement component) {
+        List<String> points = new ArrayList<>();
+
+        for (VariableElement field : ElementFilter.fieldsIn(component.getEnclosedElements())) {
+            AnnotationMirror autowired = this.findAnnotation(field, AUTOWIRED);
+            AnnotationMirror qualifier = this.findAnnotation(field, QUALIFIER);
+            if (autowired != null || qualifier != null) {
+                points.add(this.generatePoint("FIELD", field.getSimpleName().toString(), Collections.singletonList(field.asType()), Collections.singletonList(qualifier), Collections.singletonList(autowired)));
+            }
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(component.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            AnnotationMirror autowired = this.findAnnotation(method, AUTOWIRED);
+            AnnotationMirror qualifier = this.findAnnotation(method, QUALIFIER);
+
+            if (method.getModifiers().contains(Modifier.STATIC)) {
+                // Kotlin 属性上的注解保存在 getXxx$annotations() 方法上
+                if (methodName.startsWith("get") && methodName.endsWith("$annotations") && method.getParameters().isEmpty() && (autowired != null || qualifier != null)) {
+                    String property = methodName.substring(3, methodName.length() - "$annotations".length());
+                    property = Character.toLowerCase(property.charAt(0)) + property.substring(1);
+                    for (VariableElement field : ElementFilter.fieldsIn(component.getEnclosedElements())) {
+                        if (field.getSimpleName().contentEquals(property)) {
+                            points.add(this.generatePoint("FIELD", property, Collections.singletonList(field.asType()), Collections.singletonList(qualifier), Collections.singletonList(autowired)));
+                        }
+                    }
+                }
+                continue;
+            }
+
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+
+            List<TypeMirror> types = new ArrayList<>();
+            for (VariableElement parameter : method.getParameters()) {
+                types.add(parameter.asType());
+            }
+
+            if (methodName.startsWith("set") && method.getParameters().size() == 1) {
+                if (autowired != null || qualifier != null) {
+                    points.add(this.generatePoint("METHOD", methodName, types, Collections.singletonList(qualifier), Collections.singletonList(autowired)));
+                }
+            } else if (autowired != null) {
+                List<AnnotationMirror> qualifiers = new ArrayList<>();
+                List<AnnotationMirror> autowireds = new ArrayList<>();
+                for (VariableElement parameter : method.getParameters()) {
+                    qualifiers.add(this.findAnnotation(parameter, QUALIFIER));
+                    autowireds.add(this.findAnnotation(parameter, AUTOWIRED));
+                }
+                points.add(this.generatePoint("METHOD", methodName, types, qualifiers, autowireds));
+            }
+        }
+
+        return points;
+    }
+
+    /**
+     * 生成注入点
+     */
+    private String generatePoint(String kind, String name, List<TypeMirror> types, List<AnnotationMirror> qualifiers, List<AnnotationMirror> autowireds) {
+        List<String> typeLiterals = new ArrayList<>();
+        List<String> qualifierLiterals = new ArrayList<>();
+        List<String> requiredLiterals = new ArrayList<>();
+        for (int i = 0; i < types.size(); i++) {
+            typeLiterals.add(this.getClassLiteral(types.get(i)));
+            qualifierLiterals.add(qualifiers.get(i) == null ? "null" : this.literal((String) this.getValue(qualifiers.get(i), "value")));
+            requiredLiterals.add(String.valueOf(autowireds.get(i) == null || (Boolean) this.getValue(autowireds.get(i), "required")));
+        }
+        return "new InjectionPoint(InjectionPoint.Kind." + kind + ", " + this.literal(name) + ", "
+                + "new Class<?>[]{" + String.join(", ", typeLiterals) + "}, "
+                + "new String[]{" + String.join(", ", qualifierLiterals) + "}, "
+                + "new boolean[]{" + String.join(", ", requiredLiterals) + "})";
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // Utilities
+
+    private AnnotationMirror findAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object getValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AnnotationValue> getArray(AnnotationMirror annotation, String name) {
+        Object value = this.getValue(annotation, name);
+        return value instanceof List ? (List<? extends AnnotationValue>) value : Collections.<AnnotationValue>emptyList();
+    }
+
+    private PackageElement getPackage(Element element) {
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return (PackageElement) element;
+    }
+
+    private String getBinaryName(TypeElement type) {
+        return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    /**
+     * 获取方法签名（方法名与擦除后的参数类型），用于判断方法是否被子类重写
+     */
+    private String getSignature(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(method.getSimpleName());
+        for (VariableElement parameter : method.getParameters()) {
+            signature.append(',').append(this.processingEnv.getTypeUtils().erasure(parameter.asType()));
+        }
+        return signature.toString();
+    }
+
+    /**
+     * 判断生成的索引类是否可以直接访问该类型
+     */
+    private boolean isAccessible(TypeElement type, String packageName) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !this.getPackage(element).getQualifiedName().contentEquals(packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取泛型类型的第一个类型参数，如 BeanProvider<T> 中的 T
+     */
+    private TypeMirror getTypeArgument(TypeMirror type) {
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        TypeMirror argument = arguments.isEmpty() ? null : arguments.get(0);
+        if (argument instanceof WildcardType) {
+            argument = ((WildcardType) argument).getExtendsBound();
+        }
+        if (argument == null || argument.getKind() == TypeKind.WILDCARD) {
+            return this.processingEnv.getElementUtils().getTypeElement("java.lang.Object").asType();
+        }
+        return argument;
+    }
+
+    private TypeMirror box(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return this.processingEnv.getTypeUtils().boxedClass(this.processingEnv.getTypeUtils().getPrimitiveType(type.getKind())).asType();
+        }
+        return type;
+    }
+
+    /**
+     * 获取类型的源码名称（擦除泛型，去除类型注解）
+     */
+    private String getTypeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return this.getTypeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            case TYPEVAR:
+                return this.getTypeName(this.processingEnv.getTypeUtils().erasure(type));
+            default:
+                return type.getKind().name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+
+    private String getClassLiteral(TypeMirror type) {
+        return this.getTypeName(type) + ".class";
+    }
+
+    private String literal(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
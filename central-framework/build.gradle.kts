@@ -63,6 +63,8 @@ dependencies {
     implementation("com.google.code.gson:gson:2.10.1")
 
     testImplementation("junit:junit:4.13.2")
+    // 单元测试中使用索引处理器编译示例配置类，并加载生成的索引
+    testImplementation(project(":central-framework-processor"))
     androidTestImplementation("androidx.test.ext:junit:1.1.3")
     androidTestImplementation("androidx.test:runner:1.5.2")
     androidTestImplementation("androidx.test.espresso:espresso-core:3.4.0")
@@ -0,0 +1,2 @@
+# Bean 索引由 BeanIndexes 通过反射加载
+-keep class **_BeanIndex { <init>(); }
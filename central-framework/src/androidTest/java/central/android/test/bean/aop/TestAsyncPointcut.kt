@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.android.test.bean.aop
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.SmallTest
+import central.android.context.AndroidApplicationContext
+import central.android.promise.Promise
+import central.bean.aop.async.Async
+import central.bean.aop.async.AsyncPointcut
+import central.bean.factory.BeanCreationException
+import central.bean.factory.config.Bean
+import central.bean.factory.config.Configuration
+import central.bean.factory.support.RootBeanDefinition
+import central.bean.factory.support.processor.factory.ConfigurationBeanPostProcessor
+import org.junit.Assert.*
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.lang.reflect.Method
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+/**
+ * AsyncPointcut Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+@SmallTest
+@RunWith(AndroidJUnit4::class)
+class TestAsyncPointcut {
+
+    interface Worker {
+        fun io(): Promise<String>
+
+        fun background(): Promise<String>
+
+        fun error(): Promise<String>
+
+        fun notify(latch: CountDownLatch)
+    }
+
+    class DefaultWorker : Worker {
+        /**
+         * 在名为 ioExecutor 的执行器中执行
+         */
+        @Async("ioExecutor")
+        override fun io(): Promise<String> = Promise.resolved(Thread.currentThread().name)
+
+        /**
+         * 在默认执行器中执行
+         */
+        @Async
+        override fun background(): Promise<String> = Promise.resolved(Thread.currentThread().name)
+
+        @Async
+        override fun error(): Promise<String> = throw StackOverflowError("error")
+
+        @Async
+        override fun notify(latch: CountDownLatch) {
+            latch.countDown()
+            throw IllegalStateException("notify")
+        }
+    }
+
+    interface BadWorker {
+        fun compute(): String
+    }
+
+    class DefaultBadWorker : BadWorker {
+        @Async
+        override fun compute(): String = "compute"
+    }
+
+    @Configuration
+    class AsyncConfiguration {
+        @Bean
+        fun asyncPointcut(): AsyncPointcut = AsyncPointcut { method, throwable -> errors.add(method to throwable) }
+
+        @Bean
+        fun ioExecutor(): Executor = Executor { Thread(it, "io-thread").start() }
+    }
+
+    companion object {
+        /**
+         * 返回 void 的异步方法抛出的异常
+         */
+        private val errors = LinkedBlockingQueue<Pair<Method, Throwable>>()
+    }
+
+    private fun createContext(vararg types: Class<*>): AndroidApplicationContext {
+        val context = AndroidApplicationContext()
+        context.addBeanFactoryPostProcessor(ConfigurationBeanPostProcessor())
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(AsyncConfiguration::class.java))
+        for (type in types) {
+            context.beanFactory.registry.registerDefinition(RootBeanDefinition(type))
+        }
+        context.refresh()
+        return context
+    }
+
+    /**
+     * 等待 Promise 完成
+     */
+    private fun <T> Promise<T>.await(): Promise<T> {
+        val deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5)
+        while (this.state == Promise.State.Pending && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+        assertNotEquals(Promise.State.Pending, this.state)
+        return this
+    }
+
+    /**
+     * 测试按 @Async 指定的名称获取执行器，没有指定时使用内置的线程池
+     */
+    @Test
+    fun case1() {
+        val context = createContext(DefaultWorker::class.java)
+        val worker = context.requireBean(Worker::class.java)
+
+        assertEquals("io-thread", worker.io().await().result)
+        // 没有名为 asyncExecutor 的执行器时，使用内置的线程池
+        assertTrue(worker.background().await().result.startsWith("central-async-"))
+
+        context.close()
+    }
+
+    /**
+     * 测试异步方法抛出的异常
+     */
+    @Test
+    fun case2() {
+        errors.clear()
+        val context = createContext(DefaultWorker::class.java)
+        val worker = context.requireBean(Worker::class.java)
+
+        // 返回 Promise 的方法抛出 Error 时，Promise 进入失败状态
+        val promise = worker.error().await()
+        assertEquals(Promise.State.Rejected, promise.state)
+        assertTrue(promise.error.cause is StackOverflowError)
+
+        // 返回 void 的方法抛出的异常交给异常处理器处理
+        val latch = CountDownLatch(1)
+        worker.notify(latch)
+        assertTrue(latch.await(5, TimeUnit.SECONDS))
+        val (method, error) = errors.poll(5, TimeUnit.SECONDS)!!
+        assertEquals("notify", method.name)
+        assertTrue(error is IllegalStateException)
+
+        context.close()
+    }
+
+    /**
+     * 测试返回值类型不是 Promise 或 void 的 @Async 方法
+     */
+    @Test
+    fun case3() {
+        val exception = assertThrows(BeanCreationException::class.java) { createContext(DefaultBadWorker::class.java) }
+        var cause: Throwable? = exception
+        while (cause != null && cause.message?.contains("@Async method must return Promise or void") != true) {
+            cause = cause.cause
+        }
+        assertNotNull(cause)
+    }
+}
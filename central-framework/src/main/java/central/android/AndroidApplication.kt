@@ -25,10 +25,17 @@
 package central.android
 
 import android.app.Application
+import android.os.Handler
+import android.os.Looper
 import central.android.context.AndroidApplicationContext
 import central.android.env.AndroidEnvironment
+import central.android.promise.Promise
+import central.android.promise.PromiseCallbackWithResolver
 import central.bean.context.ApplicationContext
 import central.bean.context.ConfigurableApplicationContext
+import central.bean.context.support.ChildApplicationContext
+import central.bean.factory.BeanException
+import central.bean.factory.support.GenericBeanFactory
 import central.bean.factory.support.RootBeanDefinition
 import central.bean.factory.support.processor.bean.*
 import central.bean.factory.support.processor.factory.ConfigurationBeanPostProcessor
@@ -36,6 +43,8 @@ import central.env.ConfigurableEnvironment
 import central.io.ResourceLoader
 import central.io.support.ClassPathResourceLoader
 import central.io.support.GenericResourceLoader
+import java.io.File
+import java.util.concurrent.Executor
 
 /**
  * Android Application
@@ -62,11 +71,55 @@ class AndroidApplication(private val application: Application) {
         }
 
         /**
-         * 停止
+         * 异步启动一个新的应用
+         *
+         * 在当前线程中准备上下文后立即返回，上下文在后台线程中刷新，避免阻塞 Application.onCreate。
+         * 刷新过程中可以通过 [applicationContext] 获取 Bean，还没有初始化的 Bean 会按需创建（包括其依赖），不需要等待所有单例初始化完毕
+         *
+         * @return 上下文刷新完毕后完成
+         */
+        @JvmStatic
+        fun runAsync(application: Application, vararg sources: Class<*>): Promise<ApplicationContext> {
+            val context = AndroidApplication(application).prepare(*sources)
+            // 需要在主线程中初始化的 Bean 交给主线程创建
+            val handler = Handler(Looper.getMainLooper())
+            (context.beanFactory as? GenericBeanFactory)?.mainThreadExecutor = Executor { handler.post(it) }
+            context.refreshAsync { Thread(it, "central-refresh").start() }
+            this.applicationContext = context
+
+            return Promise(PromiseCallbackWithResolver<Void, ApplicationContext> { _, resolver ->
+                context.whenRefreshed { error ->
+                    if (error == null) {
+                        resolver.resolve(context, null)
+                    } else {
+                        resolver.resolve(null, error as? RuntimeException ?: BeanException(error.message, error))
+                    }
+                }
+            })
+        }
+
+        /**
+         * 创建子上下文，用于保存页面（如 Activity、WebView）级别的 Bean。应用还没有启动时返回空
+         *
+         * 子上下文中找不到的 Bean 会从应用上下文中查找，创建子上下文不需要重新刷新应用上下文。页面销毁时需要关闭子上下文
+         */
+        @JvmStatic
+        fun createChildContext(): ChildApplicationContext? {
+            if (!this::applicationContext.isInitialized) {
+                return null
+            }
+            val parent = this.applicationContext as? ConfigurableApplicationContext ?: return null
+            return ChildApplicationContext(parent)
+        }
+
+        /**
+         * 停止应用，按依赖关系的逆序销毁所有单例，释放文件句柄、线程池等资源
          */
         @JvmStatic
         fun stop() {
-            // 销毁 Bean 工厂
+            if (this::applicationContext.isInitialized) {
+                (this.applicationContext as? ConfigurableApplicationContext)?.close()
+            }
         }
     }
 
@@ -74,22 +127,33 @@ class AndroidApplication(private val application: Application) {
      * 运行应用
      */
     fun run(vararg sources: Class<*>): ConfigurableApplicationContext {
-        val applicationEnvironment = prepareEnvironment()
-        val resourceLoader = prepareResourceLoader()
-        val applicationContext = prepareContext(application, applicationEnvironment, resourceLoader, sources)
-        return applicationContext.also {
+        return this.prepare(*sources).also {
             // 刷新上下文，完成上下文初始化
             it.refresh()
         }
     }
 
+    /**
+     * 准备应用，返回还没有刷新的上下文
+     */
+    private fun prepare(vararg sources: Class<*>): AndroidApplicationContext {
+        val applicationEnvironment = prepareEnvironment()
+        val resourceLoader = prepareResourceLoader()
+        return prepareContext(application, applicationEnvironment, resourceLoader, sources)
+    }
+
     /**
      * 准备上下文
      */
-    private fun prepareContext(application: Application, environment: ConfigurableEnvironment, resourceLoader: ResourceLoader, sources: Array<out Class<*>>): ConfigurableApplicationContext {
-        val context: ConfigurableApplicationContext = AndroidApplicationContext()
+    private fun prepareContext(application: Application, environment: ConfigurableEnvironment, resourceLoader: ResourceLoader, sources: Array<out Class<*>>): AndroidApplicationContext {
+        val context = AndroidApplicationContext()
         context.environment = environment
 
+        // 配置类的解析结果保存在快照中，应用更新后（版本号或安装时间变化）快照失效
+        val packageInfo = application.packageManager.getPackageInfo(application.packageName, 0)
+        context.snapshotKey = "${packageInfo.longVersionCode}:${packageInfo.lastUpdateTime}"
+        context.snapshotFile = File(application.codeCacheDir, "central-context.snapshot")
+
         // 预注册一些 Bean
         context.beanFactory.registerSingleton("applicationContext", context)
         context.beanFactory.registerSingleton("application", application)
@@ -25,6 +25,7 @@
 package central.android.bridge
 
 import central.android.AndroidContext
+import central.bean.context.ApplicationContext
 
 /**
  * Bridge Context
@@ -39,4 +40,11 @@ interface BridgeContext : AndroidContext {
     fun obtainWebView(): BridgeWebView? {
         return null
     }
+
+    /**
+     * 返回当前页面的应用上下文，页面级别的 Bean 会随页面一起销毁。如果当前上下文没有页面级别的应用上下文，则返回空
+     */
+    fun obtainApplicationContext(): ApplicationContext? {
+        return null
+    }
 }
\ No newline at end of file
@@ -32,7 +32,10 @@ import android.content.pm.PackageManager
 import android.os.Bundle
 import android.widget.RelativeLayout
 import androidx.appcompat.app.AppCompatActivity
+import central.android.AndroidApplication
 import central.android.R
+import central.bean.context.ApplicationContext
+import central.bean.context.support.ChildApplicationContext
 import central.bean.factory.Autowired
 import java.net.URI
 import java.security.KeyPair
@@ -53,6 +56,8 @@ class BridgeWebActivity : AppCompatActivity(), BridgeContext {
 
     override fun obtainWebView(): BridgeWebView = this.webView
 
+    override fun obtainApplicationContext(): ApplicationContext? = this.pageContext
+
     companion object {
         private const val URI = "BridgeWebActivity.uri"
         private const val MAIN = "BridgeWebActivity.main"
@@ -78,6 +83,11 @@ class BridgeWebActivity : AppCompatActivity(), BridgeContext {
     private lateinit var keyPair: KeyPair
 
     private lateinit var webView: BridgeWebView
+
+    /**
+     * 页面级别的应用上下文，随页面一起销毁
+     */
+    private var pageContext: ChildApplicationContext? = null
     private var main = false // 是否主页面（如果是主页面的话，按返回键会提示是否退出应用）
 
     override fun onCreate(savedInstanceState: Bundle?) {
@@ -85,6 +95,7 @@ class BridgeWebActivity : AppCompatActivity(), BridgeContext {
         super.onCreate(savedInstanceState)
         this.main = this.intent.getBooleanExtra(MAIN, false)
         this.initWebView()
+        this.initPageContext()
 
         var indexUri: String? = null
         try {
@@ -100,6 +111,24 @@ class BridgeWebActivity : AppCompatActivity(), BridgeContext {
         this.webView.loadUri(URI(indexUri))
     }
 
+    override fun onDestroy() {
+        // 销毁页面级别的 Bean
+        this.pageContext?.close()
+        this.pageContext = null
+        super.onDestroy()
+    }
+
+    /**
+     * 初始化页面级别的应用上下文
+     */
+    private fun initPageContext() {
+        this.pageContext = AndroidApplication.createChildContext()?.also {
+            it.beanFactory.registerSingleton("activity", this)
+            it.beanFactory.registerSingleton("webView", this.webView)
+            it.refresh()
+        }
+    }
+
     /**
      * 初始化 WebView
      */
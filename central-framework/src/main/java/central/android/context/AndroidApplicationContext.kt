@@ -25,26 +25,40 @@
 package central.android.context
 
 import central.android.env.AndroidEnvironment
+import central.bean.aop.Pointcut
+import central.bean.aop.support.AopProxyProcessor
 import central.bean.context.ApplicationEvent
 import central.bean.context.ApplicationListener
 import central.bean.context.ApplicationPublisher
 import central.bean.context.ConfigurableApplicationContext
+import central.bean.context.event.ContextClosedEvent
 import central.bean.context.event.ContextRefreshedEvent
-import central.bean.context.support.GenericApplicationPublisher
+import central.bean.context.support.AsyncApplicationPublisher
+import central.bean.context.support.ContextSnapshot
 import central.bean.factory.BeanException
 import central.bean.factory.ConfigurableBeanFactory
 import central.bean.factory.Prioritized
 import central.bean.factory.PriorityComparator
 import central.bean.factory.config.BeanFactoryPostProcessor
 import central.bean.factory.config.BeanPostProcessor
+import central.bean.factory.config.DependencyDescriptor
+import central.bean.factory.metrics.ApplicationStartup
+import central.bean.factory.metrics.StartupStep
 import central.bean.factory.support.GenericBeanFactory
 import central.bean.factory.support.processor.bean.*
+import central.bean.factory.support.processor.factory.ConfigurationBeanPostProcessor
 import central.convert.ConfigurableConverter
 import central.convert.Converter
 import central.convert.support.GenericConverter
 import central.env.ConfigurableEnvironment
 import central.io.ResourceLoader
 import central.io.support.ClassPathResourceLoader
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
 
 /**
  * Android 应用上下文
@@ -60,29 +74,253 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
 
     var resourceLoader: ResourceLoader = ClassPathResourceLoader(Thread.currentThread().contextClassLoader ?: AndroidApplicationContext::class.java.classLoader)
 
+    override var applicationStartup: ApplicationStartup
+        get() = this.beanFactory.applicationStartup
+        set(value) {
+            this.beanFactory.applicationStartup = value
+        }
+
+    /**
+     * 上下文快照文件，为空时不使用快照
+     *
+     * 第一次刷新后将配置类的解析结果保存到该文件，之后的刷新直接从快照恢复
+     *
+     * @see ContextSnapshot
+     */
+    var snapshotFile: File? = null
+
+    /**
+     * 上下文快照键（如应用的版本号），与快照中记录的键不一致时，快照失效
+     */
+    var snapshotKey: String? = null
+
+    /**
+     * 是否已从快照中恢复
+     */
+    private var snapshotRestored = false
+
+    /**
+     * 配置类解析出来的 Bean 定义名称，用于生成快照
+     */
+    private val configurationDefinitions = mutableListOf<String>()
+
+    private val autowiredProcessor = AutowiredProcessor(this)
+
+    /**
+     * 是否正在异步刷新
+     */
+    @Volatile
+    private var refreshingAsync = false
+
+    /**
+     * 执行异步刷新的线程
+     */
+    @Volatile
+    private var refreshThread: Thread? = null
+
+    /**
+     * Bean 定义已准备完毕（BeanFactoryPostProcessor、BeanPostProcessor、事件分发器等已初始化），此时可以按需创建 Bean
+     */
+    private val definitionsReady = CountDownLatch(1)
+
+    /**
+     * 刷新已结束（无论成功还是失败）
+     */
+    private val refreshed = CountDownLatch(1)
+
+    /**
+     * 刷新过程中出现的异常
+     */
+    @Volatile
+    private var refreshFailure: Throwable? = null
+
+    /**
+     * 等待刷新结束的回调，刷新结束后置为空
+     */
+    private var refreshCallbacks: MutableList<(Throwable?) -> Unit>? = mutableListOf()
+
+    /**
+     * 异步刷新上下文
+     *
+     * 在 Bean 定义准备完毕之前，其它线程获取 Bean 时会等待；之后获取还没有初始化的 Bean 时，会按需创建该 Bean 及其依赖，
+     * 不需要等待所有单例初始化完毕
+     *
+     * @param executor 用于执行刷新
+     * @see whenRefreshed
+     */
+    fun refreshAsync(executor: Executor) {
+        this.refreshingAsync = true
+        executor.execute {
+            this.refreshThread = Thread.currentThread()
+            try {
+                this.refresh()
+            } catch (ex: Throwable) {
+                // 异常已通过 whenRefreshed 回调
+            } finally {
+                this.refreshThread = null
+            }
+        }
+    }
+
+    /**
+     * 刷新结束后回调。如果刷新已结束，直接在当前线程回调
+     *
+     * @param callback 刷新失败时，参数为刷新过程中出现的异常
+     */
+    fun whenRefreshed(callback: (Throwable?) -> Unit) {
+        synchronized(this) {
+            val callbacks = this.refreshCallbacks
+            if (callbacks != null) {
+                callbacks.add(callback)
+                return
+            }
+        }
+        callback(this.refreshFailure)
+    }
+
+    /**
+     * 等待刷新结束。不要在主线程中等待异步刷新，需要在主线程中初始化的 Bean 会交给主线程创建
+     *
+     * @return 刷新是否已结束
+     */
+    fun awaitRefresh(timeout: Long, unit: TimeUnit): Boolean {
+        return this.refreshed.await(timeout, unit)
+    }
+
+    /**
+     * Bean 定义已准备完毕的 BeanFactory
+     */
+    private val readyBeanFactory: ConfigurableBeanFactory
+        get() {
+            this.awaitDefinitions()
+            return this.beanFactory
+        }
+
+    /**
+     * 异步刷新时，等待 Bean 定义准备完毕
+     */
+    private fun awaitDefinitions() {
+        if (!this.refreshingAsync || Thread.currentThread() === this.refreshThread) {
+            return
+        }
+        if (this.definitionsReady.count > 0) {
+            this.definitionsReady.await()
+        }
+        val failure = this.refreshFailure
+        if (failure != null) {
+            throw BeanException("Application context refresh failed: ${failure.message}", failure)
+        }
+    }
+
     override fun refresh() {
+        val refreshStep = this.applicationStartup.start("context.refresh")
         prepareBeanFactory()
 
         try {
+            // 从快照中恢复配置类的解析结果
+            this.step("context.snapshot.restore") { this.restoreSnapshot() }
             // 执行 BeanFactoryPostProcessor
-            this.postProcessBeanFactory()
+            this.step("context.beanFactory.postProcess") { this.postProcessBeanFactory() }
             // 注册 BeanPostProcessor
-            this.registerBeanPostProcessors()
+            this.step("context.beanPostProcessors.register") { this.registerBeanPostProcessors() }
             // 初始化事件分发器
-            this.initApplicationPublisher()
+            this.step("context.publisher.init") { this.initApplicationPublisher() }
             // 初始化其它 Bean
-            this.onRefresh()
+            this.step("context.onRefresh") { this.onRefresh() }
             // 注册事件监听器
-            this.registerListeners()
+            this.step("context.listeners.register") { this.registerListeners() }
             // 完成 BeanFactory 的初始化，初始化那些剩余的非延迟初始化的 Bean
-            this.finishBeanFactoryInitialization()
+            this.step("context.beanFactory.finish") { this.finishBeanFactoryInitialization() }
             // 完成 Refresh
-            this.finishRefresh()
-        } catch (ex: BeanException) {
-            // 销毁所有已创建的单例，防止资源游离（内存泄露）
-            this.beanFactory.destroySingletons()
+            this.step("context.refresh.finish") { this.finishRefresh() }
+            // 保存快照
+            this.step("context.snapshot.save") { this.saveSnapshot() }
+        } catch (ex: Throwable) {
+            this.refreshFailure = ex
+            if (ex is BeanException) {
+                // 销毁所有已创建的单例，防止资源游离（内存泄露）
+                this.beanFactory.destroySingletons()
+            }
 
             throw ex
+        } finally {
+            refreshStep.end()
+            this.definitionsReady.countDown()
+            val callbacks = synchronized(this) { this.refreshCallbacks.also { this.refreshCallbacks = null } }
+            callbacks?.forEach { it(this.refreshFailure) }
+            this.refreshed.countDown()
+        }
+    }
+
+    /**
+     * 从快照中恢复配置类的解析结果
+     */
+    private fun restoreSnapshot() {
+        val file = this.snapshotFile ?: return
+        val key = this.snapshotKey ?: return
+        if (!file.isFile) {
+            return
+        }
+
+        try {
+            val snapshot = file.inputStream().use { ContextSnapshot.readFrom(it, key) }
+            if (snapshot == null) {
+                // 快照已过期
+                file.delete()
+                return
+            }
+            snapshot.restore(this.beanFactory, this.autowiredProcessor)
+            this.snapshotRestored = true
+        } catch (ex: Exception) {
+            // 快照已损坏，或者快照中记录的类已不存在，重新解析配置类
+            file.delete()
+        }
+    }
+
+    /**
+     * 保存快照。快照只在没有从快照中恢复时保存
+     */
+    private fun saveSnapshot() {
+        val file = this.snapshotFile ?: return
+        val key = this.snapshotKey ?: return
+        if (this.snapshotRestored) {
+            return
+        }
+
+        val snapshot = ContextSnapshot.capture(key, this.beanFactory, this.configurationDefinitions, this.autowiredProcessor) ?: return
+        val temp = File(file.parentFile, "${file.name}.tmp")
+        try {
+            temp.outputStream().use(snapshot::writeTo)
+            if (!temp.renameTo(file)) {
+                temp.delete()
+            }
+        } catch (ex: IOException) {
+            // 保存失败不影响应用运行，下次启动时重新解析
+            temp.delete()
+        }
+    }
+
+    /**
+     * 在启动步骤中执行
+     */
+    private inline fun step(name: String, action: () -> Unit) {
+        val step = this.applicationStartup.start(name)
+        try {
+            action()
+        } finally {
+            step.end()
+        }
+    }
+
+    /**
+     * 执行 BeanFactoryPostProcessor，并记录执行耗时
+     */
+    private fun invokeBeanFactoryPostProcessor(processor: BeanFactoryPostProcessor) {
+        val step = this.applicationStartup.start("context.beanFactory.postProcessor").tag(StartupStep.PROCESSOR, processor.javaClass.name)
+        try {
+            processor.postProcessBeanFactory(this.beanFactory)
+        } finally {
+            step.end()
         }
     }
 
@@ -95,7 +333,7 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
         this.beanFactory.addBeanPostProcessor(ApplicationContextAwareProcessor(this))
         this.beanFactory.addBeanPostProcessor(EnvironmentAwareProcessor(this.environment))
         this.beanFactory.addBeanPostProcessor(ResourceLoaderAwareProcessor(this.resourceLoader))
-        this.beanFactory.addBeanPostProcessor(AutowiredProcessor(this))
+        this.beanFactory.addBeanPostProcessor(this.autowiredProcessor)
         // 用于特殊处理 ApplicationListener
         this.beanFactory.addBeanPostProcessor(ApplicationListenerDetector(this))
     }
@@ -106,7 +344,18 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
     private fun postProcessBeanFactory() {
         // 1. 优先执行预注册的 BeanFactoryPostProcessor
         for (processor in this.beanFactoryPostProcessors) {
-            processor.postProcessBeanFactory(this.beanFactory)
+            if (processor is ConfigurationBeanPostProcessor) {
+                if (this.snapshotRestored) {
+                    // 配置类的解析结果已从快照中恢复
+                    continue
+                }
+                // 记录配置类解析出来的 Bean 定义
+                val names = this.beanFactory.registry.getDefinitionNames().toSet()
+                this.invokeBeanFactoryPostProcessor(processor)
+                this.beanFactory.registry.getDefinitionNames().filterTo(this.configurationDefinitions) { it !in names }
+            } else {
+                this.invokeBeanFactoryPostProcessor(processor)
+            }
         }
 
         // 2. 接着执行用户动态定义的 BeanFactoryPostProcessor
@@ -129,12 +378,12 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
         // 执行实现了 Prioritized 接口的 BeanFactoryPostProcessor
         prioritizedPostProcessors.sortedWith(PriorityComparator())
         for (processor in prioritizedPostProcessors) {
-            processor.postProcessBeanFactory(this.beanFactory)
+            this.invokeBeanFactoryPostProcessor(processor)
         }
 
         // 接着执行没有实现 Prioritized 接口的 BeanFactoryPostProcessor
         for (processor in nonPrioritizedPostProcessors) {
-            processor.postProcessBeanFactory(this.beanFactory)
+            this.invokeBeanFactoryPostProcessor(processor)
         }
     }
 
@@ -163,6 +412,12 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
         // 注册其它的 BeanPostProcessor
         nonPrioritizedPostProcessor.forEach(this.beanFactory::addBeanPostProcessor)
 
+        // 注册切面代理处理器
+        val pointcuts = this.beanFactory.getBeansOfType(Pointcut::class.java).values.sortedWith(PriorityComparator())
+        if (pointcuts.isNotEmpty()) {
+            this.beanFactory.addBeanPostProcessor(AopProxyProcessor(pointcuts))
+        }
+
         // 注册 ApplicationListenerDetector
         this.beanFactory.addBeanPostProcessor(ApplicationListenerDetector(this))
     }
@@ -173,8 +428,9 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
     private fun initApplicationPublisher() {
         val applicationPublisher = this.beanFactory.getBean("applicationPublisher", ApplicationPublisher::class.java)
         if (applicationPublisher == null) {
-            // 标准事件广播器
-            this.applicationPublisher = GenericApplicationPublisher(this.beanFactory)
+            // 标准事件广播器，异步监听器使用名为 applicationEventExecutor 的执行器
+            val executor = this.beanFactory.getBean(AsyncApplicationPublisher.EXECUTOR_BEAN_NAME, Executor::class.java)
+            this.applicationPublisher = AsyncApplicationPublisher(this.beanFactory, executor)
             this.beanFactory.registerSingleton("applicationPublisher", this.applicationPublisher)
         } else {
             // 支持用户自定义事件广播器
@@ -216,6 +472,9 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
             this.beanFactory.addBeanPostProcessor(ConverterDetector(converter))
         }
 
+        // Bean 定义已准备完毕，异步刷新时，其它线程可以开始按需创建 Bean
+        this.definitionsReady.countDown()
+
         // 初始化剩余非延迟初始化的单例
         this.beanFactory.preInstantiateSingletons()
     }
@@ -235,6 +494,28 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
     }
 
 
+    /**
+     * 是否已关闭
+     */
+    private val closed = AtomicBoolean()
+
+    override fun close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return
+        }
+
+        if (this::applicationPublisher.isInitialized) {
+            this.publishEvent(ContextClosedEvent(this))
+        }
+
+        val step = this.applicationStartup.start("context.close")
+        try {
+            this.beanFactory.destroySingletons()
+        } finally {
+            step.end()
+        }
+    }
+
     override fun addBeanFactoryPostProcessor(processor: BeanFactoryPostProcessor) {
         this.beanFactoryPostProcessors.add(processor)
     }
@@ -242,23 +523,27 @@ open class AndroidApplicationContext : ConfigurableApplicationContext {
     /////////////////////////////////////////////////////////////////////////////////////
     // ListableBeanFactory
 
-    override fun <T> getBeansOfType(requiredType: Class<T>): Map<String, T> = this.beanFactory.getBeansOfType(requiredType)
-    override fun getBeanNamesForType(type: Class<*>): List<String> = this.beanFactory.getBeanNamesForType(type)
-    override fun getBeanNamesForType(type: Class<*>, includeNonSingletons: Boolean, allowEagerInit: Boolean): List<String> = this.beanFactory.getBeanNamesForType(type, includeNonSingletons, allowEagerInit)
-    override fun getBeansWithAnnotations(annotationTypes: List<Class<out Annotation>>): Map<String, Any> = this.beanFactory.getBeansWithAnnotations(annotationTypes)
-    override fun <T> getBean(name: String): T? = this.beanFactory.getBean(name)
-    override fun <T> getBean(name: String, requiredType: Class<T>): T? = this.beanFactory.getBean(name, requiredType)
-    override fun <T> getBean(requiredType: Class<T>): T? = this.beanFactory.getBean(requiredType)
-    override fun containsBean(name: String): Boolean = this.beanFactory.containsBean(name)
-    override fun getType(name: String): Class<*>? = this.beanFactory.getType(name)
-    override fun isTypeMatch(name: String, type: Class<*>): Boolean = this.beanFactory.isTypeMatch(name, type)
+    override fun <T> getBeansOfType(requiredType: Class<T>): Map<String, T> = this.readyBeanFactory.getBeansOfType(requiredType)
+    override fun getBeanNamesForType(type: Class<*>): List<String> = this.readyBeanFactory.getBeanNamesForType(type)
+    override fun getBeanNamesForType(type: Class<*>, includeNonSingletons: Boolean, allowEagerInit: Boolean): List<String> = this.readyBeanFactory.getBeanNamesForType(type, includeNonSingletons, allowEagerInit)
+    override fun getBeansWithAnnotations(annotationTypes: List<Class<out Annotation>>): Map<String, Any> = this.readyBeanFactory.getBeansWithAnnotations(annotationTypes)
+    override fun <T> getBean(name: String): T? = this.readyBeanFactory.getBean(name)
+    override fun <T> getBean(name: String, requiredType: Class<T>): T? = this.readyBeanFactory.getBean(name, requiredType)
+    override fun <T> getBean(requiredType: Class<T>): T? = this.readyBeanFactory.getBean(requiredType)
+    override fun resolveDependency(descriptor: DependencyDescriptor): Any? = this.readyBeanFactory.resolveDependency(descriptor)
+    override fun containsBean(name: String): Boolean = this.readyBeanFactory.containsBean(name)
+    override fun getType(name: String): Class<*>? = this.readyBeanFactory.getType(name)
+    override fun isTypeMatch(name: String, type: Class<*>): Boolean = this.readyBeanFactory.isTypeMatch(name, type)
 
     /////////////////////////////////////////////////////////////////////////////////////
     // ApplicationPublisher
 
     private lateinit var applicationPublisher: ApplicationPublisher
 
-    override fun publishEvent(event: ApplicationEvent) = this.applicationPublisher.publishEvent(event)
+    override fun publishEvent(event: ApplicationEvent) {
+        this.awaitDefinitions()
+        this.applicationPublisher.publishEvent(event)
+    }
     override fun addApplicationListener(listener: ApplicationListener<*>) = this.applicationPublisher.addApplicationListener(listener)
     override fun addApplicationListenerBean(listenerBeanName: String) = this.applicationPublisher.addApplicationListenerBean(listenerBeanName)
     override fun removeApplicationListener(listener: ApplicationListener<*>) = this.applicationPublisher.removeApplicationListener(listener)
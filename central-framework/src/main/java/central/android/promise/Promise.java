@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -52,6 +53,13 @@ public class Promise<R> {
     private static final ExecutorService threadPool = Executors.newFixedThreadPool(3);
     /// 用于返回主线程
     private static final Handler handler = new Handler(Looper.getMainLooper());
+    /// 用于在当前线程直接执行
+    private static final Executor direct = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
 
     public enum State {
         /**
@@ -155,6 +163,16 @@ public class Promise<R> {
      * @param callback PromiseCallbackWithResolver
      */
     public <A> Promise(final PromiseCallbackWithResolver<A, R> callback) {
+        this(callback, null);
+    }
+
+    /**
+     * 创建一个未执行的Promise
+     *
+     * @param callback PromiseCallbackWithResolver
+     * @param executor 用于执行回调, 为空时在主线程执行
+     */
+    private <A> Promise(final PromiseCallbackWithResolver<A, R> callback, Executor executor) {
         this.state = State.Pending;
 
         final PromiseResolver<R> finalResolver = new PromiseResolver<R>() {
@@ -204,7 +222,7 @@ public class Promise<R> {
         };
 
         //创建Promise之后, 直接开始执行任务
-        Promise.handler.post(new Runnable() {
+        final Runnable task = new Runnable() {
             @Override
             public void run() {
                 try {
@@ -213,7 +231,12 @@ public class Promise<R> {
                     finalResolver.resolve(null, ex);
                 }
             }
-        });
+        };
+        if (executor == null) {
+            Promise.handler.post(task);
+        } else {
+            executor.execute(task);
+        }
     }
 
     /**
@@ -505,6 +528,19 @@ public class Promise<R> {
         }
     }
 
+    /**
+     * 在当前线程创建一个正常返回的 Promise, 不需要先经过主线程
+     * 一般用作 @Async 方法的返回值
+     */
+    public static <R> Promise<R> resolved(final R result) {
+        return new Promise<>(new PromiseCallbackWithResolver<Void, R>() {
+            @Override
+            public void call(Void arg, PromiseResolver<R> resolver) {
+                resolver.resolve(result, null);
+            }
+        }, Promise.direct);
+    }
+
     /**
      * 创建一个错误的 Promise
      */
@@ -566,6 +602,32 @@ public class Promise<R> {
         });
     }
 
+    /**
+     * 创建在指定执行器中执行的 Promise
+     * 回调直接派发给执行器, 不需要先经过主线程
+     *
+     * @param executor 执行器
+     * @param callback PromiseCallbackWithResolver
+     */
+    public static <R> Promise<R> create(Executor executor, PromiseCallbackWithResolver<Void, R> callback) {
+        return new Promise<>(callback, executor);
+    }
+
+    /**
+     * 在指定的执行器中创建异步 Promise
+     *
+     * @param executor 执行器
+     * @param supplier 异步任务
+     */
+    public static <R> Promise<R> async(Executor executor, final Supplier<R> supplier) {
+        return new Promise<>(new PromiseCallbackWithResolver<Void, R>() {
+            @Override
+            public void call(Void arg, PromiseResolver<R> resolver) {
+                resolver.resolve(supplier.get(), null);
+            }
+        }, executor);
+    }
+
     /**
      * 包装一系列的Promise对象,返回一个包装后的Promise对象,称之为A
      * 1. 当所有的Promise对象都变成成功态(Fulfilled)后,这个包装后的A才会把自己变成成功状态.
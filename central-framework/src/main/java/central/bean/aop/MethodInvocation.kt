@@ -57,4 +57,18 @@ interface MethodInvocation {
      * 返回当前待执行方法的对象
      */
     fun getTarget(): Any
+
+    /**
+     * 返回当前切面通过 [Pointcut.attach] 为该方法创建的附加信息
+     */
+    fun getAttachment(): Any? {
+        return null
+    }
+
+    /**
+     * 创建当前调用的副本
+     *
+     * 副本从当前切面之后的切面开始执行，不与当前调用共享状态，因此可以交给其它线程执行
+     */
+    fun copy(): MethodInvocation
 }
\ No newline at end of file
@@ -36,13 +36,50 @@ interface Pointcut {
     /**
      * 用于判断指定的方法是否为切面点
      *
+     * 每个类的每个方法只判断一次，判断结果会被缓存起来，因此本方法不能依赖方法调用时的状态
+     *
+     * @param method 待判断的方法信息（目标类中的方法，可以获取到实现类上的注解）
+     * @param targetClass 方法所在类
+     *
+     * @return 是否执行切面操作
+     */
+    fun matches(method: Method, targetClass: Class<*>): Boolean
+
+    /**
+     * 为匹配的方法创建附加信息（如该方法使用的缓存、统计指标）
+     *
+     * 每个类的每个方法只在 [matches] 返回 true 之后调用一次，方法调用时通过 [MethodInvocation.getAttachment] 获取，
+     * 因此切面不需要自己按方法保存状态
+     *
+     * @param method 匹配的方法（目标类中的方法）
+     * @param targetClass 方法所在类
+     *
+     * @return 附加信息，不需要时返回 null
+     */
+    fun attach(method: Method, targetClass: Class<*>): Any? {
+        return null
+    }
+
+    /**
+     * 是否需要在每次调用方法时，根据方法参数再次判断是否为切面点
+     *
+     * @see matches
+     */
+    val isRuntime: Boolean
+        get() = false
+
+    /**
+     * 根据方法参数判断指定的方法是否为切面点，只有 [isRuntime] 为 true，并且 [matches] 返回 true 时才会调用
+     *
      * @param method 待判断的方法信息
      * @param targetClass 方法所在类
      * @param arguments 方法参数
      *
      * @return 是否执行切面操作
      */
-    fun matches(method: Method, targetClass: Class<*>, arguments: Array<Any?>): Boolean
+    fun matches(method: Method, targetClass: Class<*>, arguments: Array<Any?>): Boolean {
+        return true
+    }
 
     /**
      * 执行切面操作
@@ -0,0 +1,48 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.async
+
+/**
+ * 在后台线程中执行方法
+ *
+ * 方法的返回值类型需要是 [central.android.promise.Promise] 或 void。返回 Promise 的方法，调用后立即返回一个代表执行结果的 Promise，
+ * 方法本身可以通过 [central.android.promise.Promise.resolved] 返回结果；返回 void 的方法，调用后立即返回，异常交给 [AsyncPointcut] 的异常处理器处理。
+ * 标注在类上时，该类所有返回值类型满足要求的接口方法都在后台线程中执行。
+ *
+ * 需要在应用上下文中注册 [AsyncPointcut]
+ *
+ * @author Alan Yeh
+ * @see AsyncPointcut
+ * @since 2026/10/17
+ */
+@MustBeDocumented
+@Target(AnnotationTarget.FUNCTION, AnnotationTarget.CLASS)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class Async(
+    /**
+     * 执行器（[java.util.concurrent.Executor]）的 Bean 名称，默认使用名为 [AsyncPointcut.DEFAULT_EXECUTOR_BEAN_NAME] 的执行器
+     */
+    val value: String = ""
+)
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.async
+
+import central.android.promise.Promise
+import central.bean.aop.MethodInvocation
+import central.bean.aop.Pointcut
+import central.bean.context.ApplicationContext
+import central.bean.context.ApplicationContextAware
+import central.bean.factory.BeanCreationException
+import central.bean.factory.DestroyableBean
+import central.util.concurrent.BackgroundExecutors
+import java.lang.reflect.Method
+import java.util.concurrent.Executor
+import java.util.concurrent.ThreadPoolExecutor
+
+/**
+ * 异步方法切面
+ *
+ * 将标注了 [Async] 的方法交给执行器执行，并通过 [Promise] 返回执行结果。任务直接派发给执行器，不需要先经过主线程。
+ * 执行器是 Bean，因此可以为不同的组件配置不同的执行器；没有配置执行器时，使用本切面内置的线程池。
+ * 将本切面注册为 Bean 即可生效：
+ *
+ * ```kotlin
+ * @Bean
+ * fun asyncPointcut() = AsyncPointcut()
+ *
+ * @Bean
+ * fun asyncExecutor(): Executor = Executors.newFixedThreadPool(4)
+ * ```
+ *
+ * 本切面之后的切面与目标方法在执行器的线程中执行。返回 void 的方法抛出的异常交给 [errorHandler] 处理，
+ * 默认交给执行线程的未捕获异常处理器
+ *
+ * @param errorHandler 返回 void 的异步方法的异常处理器
+ *
+ * @author Alan Yeh
+ * @see Async
+ * @since 2026/10/17
+ */
+class AsyncPointcut(
+    private val errorHandler: (Method, Throwable) -> Unit = { _, ex -> BackgroundExecutors.reportUncaught(ex) }
+) : Pointcut, ApplicationContextAware, DestroyableBean {
+
+    override lateinit var applicationContext: ApplicationContext
+
+    /**
+     * 执行器的 Bean 名称 -> 执行器。执行器在方法首次调用时获取，因此可以是延迟初始化的 Bean
+     */
+    @Volatile
+    private var executors = HashMap<String, Executor>()
+
+    private var defaultExecutor: ThreadPoolExecutor? = null
+
+    override fun matches(method: Method, targetClass: Class<*>): Boolean {
+        val annotation = method.getAnnotation(Async::class.java)
+        if (annotation == null && !targetClass.isAnnotationPresent(Async::class.java)) {
+            return false
+        }
+        if (method.returnType != Promise::class.java && method.returnType != Void.TYPE) {
+            if (annotation != null) {
+                throw BeanCreationException("@Async method must return Promise or void: ${targetClass.name}.${method.name}")
+            }
+            // 类上的注解只作用于返回值类型满足要求的方法
+            return false
+        }
+        return true
+    }
+
+    /**
+     * 获取方法使用的执行器的 Bean 名称（空字符串表示默认执行器）
+     */
+    override fun attach(method: Method, targetClass: Class<*>): Any {
+        return (method.getAnnotation(Async::class.java) ?: targetClass.getAnnotation(Async::class.java)!!).value
+    }
+
+    override fun invoke(invocation: MethodInvocation): Any? {
+        val method = invocation.getMethod()
+        val name = invocation.getAttachment() as? String ?: return invocation.proceed()
+        val executor = this.getExecutor(name)
+        // 当前调用返回后会恢复调用状态，因此交给其它线程执行的是调用的副本
+        val copy = invocation.copy()
+
+        if (method.returnType == Void.TYPE) {
+            executor.execute {
+                try {
+                    copy.proceed()
+                } catch (ex: Throwable) {
+                    this.errorHandler(method, ex)
+                }
+            }
+            return null
+        }
+
+        return Promise.create<Any?>(executor) { _, resolver ->
+            val result = try {
+                copy.proceed()
+            } catch (ex: RuntimeException) {
+                throw ex
+            } catch (ex: Throwable) {
+                // Promise 只处理 RuntimeException，其余异常（包括 Error）需要包装后才能使 Promise 进入失败状态
+                throw RuntimeException(ex.message, ex)
+            }
+            @Suppress("UNCHECKED_CAST")
+            if (result is Promise<*>) {
+                (result as Promise<Any?>).pipe(resolver)
+            } else {
+                resolver.resolve(null, null)
+            }
+        }
+    }
+
+    private fun getExecutor(name: String): Executor {
+        this.executors[name]?.let { return it }
+        synchronized(this) {
+            this.executors[name]?.let { return it }
+            val beanName = name.ifEmpty { DEFAULT_EXECUTOR_BEAN_NAME }
+            val executor = if (name.isNotEmpty() || this.applicationContext.containsBean(beanName)) {
+                this.applicationContext.requireBean(beanName, Executor::class.java)
+            } else {
+                this.defaultExecutor ?: BackgroundExecutors.create("central-async").also { this.defaultExecutor = it }
+            }
+            this.executors = HashMap(this.executors).also { it[name] = executor }
+            return executor
+        }
+    }
+
+    @Synchronized
+    override fun destroy() {
+        this.defaultExecutor?.shutdown()
+        this.defaultExecutor = null
+        this.executors = HashMap()
+    }
+
+    companion object {
+        /**
+         * 默认执行器的 Bean 名称
+         */
+        const val DEFAULT_EXECUTOR_BEAN_NAME = "asyncExecutor"
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.cache
+
+/**
+ * 缓存统计信息
+ *
+ * @param hitCount 命中次数（包括等待其它线程计算结果的次数）
+ * @param missCount 未命中次数
+ * @param loadFailureCount 计算失败的次数
+ * @param evictionCount 因超出容量而被淘汰的条目数量
+ * @param size 当前缓存的条目数量
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+data class CacheStats(val hitCount: Long, val missCount: Long, val loadFailureCount: Long, val evictionCount: Long, val size: Int) {
+    /**
+     * 请求次数
+     */
+    val requestCount: Long
+        get() = this.hitCount + this.missCount
+
+    /**
+     * 命中率
+     */
+    val hitRate: Double
+        get() = if (this.requestCount == 0L) 1.0 else this.hitCount.toDouble() / this.requestCount
+}
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.cache
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * 缓存方法的执行结果
+ *
+ * 以方法参数作为缓存键，参数相同时直接返回缓存的结果。只适用于没有副作用、结果只取决于参数的方法。
+ * 需要在应用上下文中注册 [CachingPointcut]
+ *
+ * @author Alan Yeh
+ * @see CachingPointcut
+ * @see CacheEvict
+ * @since 2026/10/17
+ */
+@MustBeDocumented
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class Cacheable(
+    /**
+     * 缓存名称，默认为 `类名.方法名(参数类型)`。名称相同的方法共用同一个缓存
+     */
+    val value: String = "",
+    /**
+     * 最多缓存的条目数量，超出后淘汰最久未使用的条目
+     */
+    val maximumSize: Int = 256,
+    /**
+     * 条目写入后的有效期，小于等于 0 时不过期
+     */
+    val expireAfterWrite: Long = 0,
+    /**
+     * 有效期单位
+     */
+    val timeUnit: TimeUnit = TimeUnit.MILLISECONDS
+)
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.cache
+
+import central.bean.aop.MethodInvocation
+import central.bean.aop.Pointcut
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 方法结果缓存切面
+ *
+ * 缓存标注了 [Cacheable] 的方法的执行结果，并在标注了 [CacheEvict] 的方法执行成功后清空指定的缓存。
+ * 将本切面注册为 Bean 即可生效：
+ *
+ * ```kotlin
+ * @Bean
+ * fun cachingPointcut() = CachingPointcut()
+ * ```
+ *
+ * 也可以通过 [getCache] 获取缓存，主动移除缓存条目或查看命中率等统计信息
+ *
+ * @author Alan Yeh
+ * @see Cacheable
+ * @see CacheEvict
+ * @since 2026/10/17
+ */
+class CachingPointcut internal constructor(private val ticker: () -> Long) : Pointcut {
+
+    constructor() : this(System::nanoTime)
+
+    /**
+     * 缓存名称 -> 缓存
+     */
+    private val caches = ConcurrentHashMap<String, MethodCache>()
+
+    override fun matches(method: Method, targetClass: Class<*>): Boolean {
+        return method.isAnnotationPresent(Cacheable::class.java) || method.isAnnotationPresent(CacheEvict::class.java)
+    }
+
+    /**
+     * 创建方法对应的缓存操作
+     */
+    override fun attach(method: Method, targetClass: Class<*>): Any {
+        val cacheable = method.getAnnotation(Cacheable::class.java)
+        val evict = method.getAnnotation(CacheEvict::class.java)
+        val cache = cacheable?.let {
+            val name = it.value.ifEmpty { "${targetClass.name}.${method.name}(${method.parameterTypes.joinToString(",") { type -> type.simpleName }})" }
+            this.caches.computeIfAbsent(name) { _ -> MethodCache(name, it.maximumSize, it.timeUnit.toNanos(it.expireAfterWrite), this.ticker) }
+        }
+        return Operation(cache, evict?.value?.toList().orEmpty())
+    }
+
+    override fun invoke(invocation: MethodInvocation): Any? {
+        val operation = invocation.getAttachment() as? Operation ?: return invocation.proceed()
+        val result = if (operation.cache != null) {
+            operation.cache.get(MethodCache.keyOf(invocation.getArguments())) { invocation.proceed() }
+        } else {
+            invocation.proceed()
+        }
+        for (name in operation.evictions) {
+            this.caches[name]?.invalidateAll()
+        }
+        return result
+    }
+
+    /**
+     * 获取指定名称的缓存。缓存在代理首次解析标注了 [Cacheable] 的方法时创建
+     *
+     * @param name 缓存名称
+     */
+    fun getCache(name: String): MethodCache? {
+        return this.caches[name]
+    }
+
+    /**
+     * 获取所有缓存
+     */
+    fun getCaches(): Collection<MethodCache> {
+        return this.caches.values
+    }
+
+    /**
+     * 清空所有缓存
+     */
+    fun invalidateAll() {
+        this.caches.values.forEach { it.invalidateAll() }
+    }
+
+    /**
+     * 缓存操作
+     *
+     * @param cache 需要缓存结果时使用的缓存
+     * @param evictions 方法执行成功后需要清空的缓存名称
+     */
+    private class Operation(val cache: MethodCache?, val evictions: List<String>)
+}
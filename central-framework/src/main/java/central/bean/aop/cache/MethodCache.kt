@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.cache
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 方法结果缓存
+ *
+ * 按最近最少使用的顺序淘汰超出容量的条目，过期的条目在下次访问时重新计算。多个线程同时请求同一个缓存键时，
+ * 只有一个线程执行计算，其它线程等待并共享该计算结果；计算失败时不缓存，等待的线程会收到同样的异常。
+ * 计算过程中在同一线程上再次请求同一个缓存键（递归计算）会抛出 [IllegalStateException]，而不是永远等待自己
+ *
+ * @param name 缓存名称
+ * @param maximumSize 最多缓存的条目数量
+ * @param expireAfterWrite 条目写入后的有效期（纳秒），小于等于 0 时不过期
+ * @param ticker 用于获取当前时间（纳秒）
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class MethodCache internal constructor(
+    val name: String,
+    private val maximumSize: Int,
+    private val expireAfterWrite: Long,
+    private val ticker: () -> Long = System::nanoTime
+) {
+    private val hits = LongAdder()
+    private val misses = LongAdder()
+    private val failures = LongAdder()
+    private val evictions = LongAdder()
+
+    /**
+     * 缓存条目，按访问顺序排列
+     */
+    private val entries = object : LinkedHashMap<Any, CacheEntry>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Any, CacheEntry>): Boolean {
+            if (this.size > this@MethodCache.maximumSize) {
+                this@MethodCache.evictions.increment()
+                return true
+            }
+            return false
+        }
+    }
+
+    /**
+     * 获取缓存的结果，如果没有缓存或已过期，则通过 [loader] 计算
+     *
+     * @param key 缓存键，参见 [keyOf]
+     * @param loader 用于计算结果
+     *
+     * @throws IllegalStateException [loader] 在计算过程中递归请求同一个缓存键
+     */
+    fun get(key: Any, loader: () -> Any?): Any? {
+        val now = this.ticker()
+        val entry: CacheEntry
+        var owner = false
+        synchronized(this.entries) {
+            val existing = this.entries[key]
+            if (existing != null && existing.expiresAt - now > 0) {
+                entry = existing
+            } else {
+                entry = CacheEntry()
+                this.entries[key] = entry
+                owner = true
+            }
+        }
+
+        if (!owner) {
+            check(entry.loader !== Thread.currentThread()) { "Recursive computation of cache '${this.name}' for key: $key" }
+            this.hits.increment()
+            return entry.await()
+        }
+
+        this.misses.increment()
+        try {
+            val value = loader()
+            entry.complete(value, null, if (this.expireAfterWrite > 0) this.ticker() + this.expireAfterWrite else Long.MAX_VALUE)
+            return value
+        } catch (ex: Throwable) {
+            this.failures.increment()
+            synchronized(this.entries) {
+                if (this.entries[key] === entry) {
+                    this.entries.remove(key)
+                }
+            }
+            entry.complete(null, ex, Long.MIN_VALUE)
+            throw ex
+        }
+    }
+
+    /**
+     * 移除指定的缓存条目
+     *
+     * @param arguments 方法参数
+     */
+    fun invalidate(vararg arguments: Any?) {
+        val key = keyOf(arrayOf(*arguments))
+        synchronized(this.entries) {
+            this.entries.remove(key)
+        }
+    }
+
+    /**
+     * 移除所有缓存条目
+     */
+    fun invalidateAll() {
+        synchronized(this.entries) {
+            this.entries.clear()
+        }
+    }
+
+    /**
+     * 当前缓存的条目数量（包括已过期但还没有被移除的条目）
+     */
+    val size: Int
+        get() = synchronized(this.entries) { this.entries.size }
+
+    /**
+     * 获取统计信息
+     */
+    fun getStats(): CacheStats {
+        return CacheStats(this.hits.sum(), this.misses.sum(), this.failures.sum(), this.evictions.sum(), this.size)
+    }
+
+    /**
+     * 缓存条目
+     *
+     * 创建时处于计算中的状态，计算完成前不会过期
+     */
+    private class CacheEntry {
+        private val latch = CountDownLatch(1)
+
+        /**
+         * 正在计算该条目的线程，计算完成后为 null
+         */
+        @Volatile
+        var loader: Thread? = Thread.currentThread()
+            private set
+
+        @Volatile
+        var expiresAt = Long.MAX_VALUE
+            private set
+
+        private var value: Any? = null
+
+        private var failure: Throwable? = null
+
+        fun complete(value: Any?, failure: Throwable?, expiresAt: Long) {
+            this.value = value
+            this.failure = failure
+            this.expiresAt = expiresAt
+            this.loader = null
+            this.latch.countDown()
+        }
+
+        fun await(): Any? {
+            this.latch.await()
+            this.failure?.let { throw it }
+            return this.value
+        }
+    }
+
+    /**
+     * 多个方法参数组成的缓存键
+     */
+    private class ArgumentsKey(private val arguments: Array<Any?>) {
+        private val hash = arguments.contentDeepHashCode()
+
+        override fun equals(other: Any?): Boolean {
+            return this === other || other is ArgumentsKey && this.hash == other.hash && this.arguments.contentDeepEquals(other.arguments)
+        }
+
+        override fun hashCode(): Int = this.hash
+    }
+
+    companion object {
+        private val EMPTY_KEY = Any()
+
+        private val NULL_KEY = Any()
+
+        /**
+         * 根据方法参数生成缓存键
+         *
+         * 没有参数或只有一个参数时不会创建包装对象，直接使用参数本身作为缓存键；有多个参数时直接使用参数数组，
+         * 因此调用后不能再修改该数组
+         */
+        internal fun keyOf(arguments: Array<Any?>): Any {
+            return when (arguments.size) {
+                0 -> EMPTY_KEY
+                1 -> {
+                    val argument = arguments[0] ?: NULL_KEY
+                    if (argument.javaClass.isArray) ArgumentsKey(arguments) else argument
+                }
+                else -> ArgumentsKey(arguments)
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.metrics
+
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * 延迟直方图
+ *
+ * 参考 HdrHistogram 的对数分桶：每个 2 的幂区间再平均分为 [SUB_BUCKETS] 个子桶，因此记录的值的相对误差不超过 1/[SUB_BUCKETS]。
+ * 直方图占用固定的内存，记录时只需要几次原子操作，不需要加锁
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class LatencyHistogram {
+    private val counts = AtomicLongArray(BUCKETS)
+    private val sum = AtomicLong()
+    private val min = AtomicLong(Long.MAX_VALUE)
+    private val max = AtomicLong()
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（纳秒）
+     */
+    fun record(nanos: Long) {
+        val value = nanos.coerceIn(0, HIGHEST_TRACKABLE_VALUE)
+        this.counts.incrementAndGet(indexOf(value))
+        this.sum.addAndGet(value)
+
+        var current = this.max.get()
+        while (value > current && !this.max.compareAndSet(current, value)) {
+            current = this.max.get()
+        }
+        current = this.min.get()
+        while (value < current && !this.min.compareAndSet(current, value)) {
+            current = this.min.get()
+        }
+    }
+
+    /**
+     * 获取当前直方图的快照
+     */
+    fun getSnapshot(): LatencySnapshot {
+        val counts = LongArray(BUCKETS) { this.counts.get(it) }
+        val count = counts.sum()
+        val min = this.min.get()
+        return LatencySnapshot(counts, count, if (count == 0L) 0 else min, this.max.get(), this.sum.get())
+    }
+
+    /**
+     * 清空已记录的数据
+     */
+    fun reset() {
+        for (i in 0 until BUCKETS) {
+            this.counts.set(i, 0)
+        }
+        this.sum.set(0)
+        this.min.set(Long.MAX_VALUE)
+        this.max.set(0)
+    }
+
+    companion object {
+        private const val SUB_BUCKET_BITS = 4
+
+        /**
+         * 每个 2 的幂区间的子桶数量
+         */
+        const val SUB_BUCKETS = 1 shl SUB_BUCKET_BITS
+
+        /**
+         * 最大的 2 的幂区间，超出的值按最大值记录（约 18 分钟）
+         */
+        private const val MAX_MAGNITUDE = 40
+
+        /**
+         * 可记录的最大值（纳秒）
+         */
+        const val HIGHEST_TRACKABLE_VALUE = (1L shl (MAX_MAGNITUDE + 1)) - 1
+
+        /**
+         * 桶的数量。小于 [SUB_BUCKETS] 的值每个值一个桶
+         */
+        internal const val BUCKETS = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS
+
+        /**
+         * 获取值所在的桶
+         */
+        internal fun indexOf(value: Long): Int {
+            if (value < SUB_BUCKETS) {
+                return value.toInt()
+            }
+            val magnitude = 63 - java.lang.Long.numberOfLeadingZeros(value)
+            val shift = magnitude - SUB_BUCKET_BITS
+            val sub = (value ushr shift).toInt() - SUB_BUCKETS
+            return SUB_BUCKETS + shift * SUB_BUCKETS + sub
+        }
+
+        /**
+         * 获取桶中可以记录的最大值
+         */
+        internal fun highestValueOf(index: Int): Long {
+            if (index < SUB_BUCKETS) {
+                return index.toLong()
+            }
+            val shift = (index - SUB_BUCKETS) / SUB_BUCKETS
+            val sub = (index - SUB_BUCKETS) % SUB_BUCKETS
+            val lowest = (SUB_BUCKETS + sub).toLong() shl shift
+            return lowest + (1L shl shift) - 1
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.metrics
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * 延迟直方图快照
+ *
+ * @param counts 每个桶记录的次数
+ * @param count 记录的总次数
+ * @param min 最小耗时（纳秒）
+ * @param max 最大耗时（纳秒）
+ * @param sum 总耗时（纳秒）
+ *
+ * @author Alan Yeh
+ * @see LatencyHistogram
+ * @since 2026/10/17
+ */
+class LatencySnapshot internal constructor(private val counts: LongArray, val count: Long, val min: Long, val max: Long, val sum: Long) {
+
+    /**
+     * 平均耗时（纳秒）
+     */
+    val mean: Double
+        get() = if (this.count == 0L) 0.0 else this.sum.toDouble() / this.count
+
+    val p50: Long
+        get() = this.getValueAtPercentile(50.0)
+
+    val p90: Long
+        get() = this.getValueAtPercentile(90.0)
+
+    val p99: Long
+        get() = this.getValueAtPercentile(99.0)
+
+    val p999: Long
+        get() = this.getValueAtPercentile(99.9)
+
+    /**
+     * 获取指定百分位的耗时（纳秒），相对误差不超过 1/[LatencyHistogram.SUB_BUCKETS]
+     *
+     * @param percentile 百分位，如 99.0
+     */
+    fun getValueAtPercentile(percentile: Double): Long {
+        if (this.count == 0L) {
+            return 0
+        }
+        val target = Math.ceil(percentile.coerceIn(0.0, 100.0) / 100.0 * this.count).toLong().coerceAtLeast(1)
+        var accumulated = 0L
+        for (index in this.counts.indices) {
+            accumulated += this.counts[index]
+            if (accumulated >= target) {
+                return LatencyHistogram.highestValueOf(index).coerceIn(this.min, this.max)
+            }
+        }
+        return this.max
+    }
+
+    override fun toString(): String {
+        fun millis(nanos: Long) = nanos / TimeUnit.MILLISECONDS.toNanos(1).toDouble()
+        return String.format("count=%d, mean=%.3fms, p50=%.3fms, p90=%.3fms, p99=%.3fms, p999=%.3fms, max=%.3fms",
+            this.count, this.mean / TimeUnit.MILLISECONDS.toNanos(1), millis(this.p50), millis(this.p90), millis(this.p99), millis(this.p999), millis(this.max))
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.metrics
+
+import central.bean.aop.MethodInvocation
+import central.bean.aop.Pointcut
+import central.bean.factory.DestroyableBean
+import central.bean.factory.Prioritized
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * 方法耗时统计切面
+ *
+ * 统计标注了 [Timed] 的方法（或类），以及 [packages] 中所有类的接口方法的执行耗时。每个指标对应一个 [LatencyHistogram]，
+ * 可以通过 [getSnapshots] 获取 p50、p99 等百分位耗时，或通过 [startReporting] 定期输出。
+ *
+ * 本切面的优先级最高，因此统计的耗时包含了其它切面的耗时。将本切面注册为 Bean 即可生效：
+ *
+ * ```kotlin
+ * @Bean
+ * fun timingPointcut() = TimingPointcut(listOf("com.example.service.**"))
+ * ```
+ *
+ * @param packages 需要统计的包，`com.example.*` 只匹配该包下的类，`com.example.**` 同时匹配子包下的类
+ *
+ * @author Alan Yeh
+ * @see Timed
+ * @since 2026/10/17
+ */
+class TimingPointcut(packages: List<String> = emptyList()) : Pointcut, Prioritized, DestroyableBean {
+
+    private val patterns = packages.map { compile(it) }
+
+    /**
+     * 指标名称 -> 直方图
+     */
+    private val metrics = ConcurrentHashMap<String, LatencyHistogram>()
+
+    private var reporter: ScheduledExecutorService? = null
+
+    override val priority: Int
+        get() = Prioritized.HIGHEST_PRIORITY
+
+    override fun matches(method: Method, targetClass: Class<*>): Boolean {
+        if (method.declaringClass == Any::class.java) {
+            return false
+        }
+        return method.isAnnotationPresent(Timed::class.java) || targetClass.isAnnotationPresent(Timed::class.java)
+            || this.patterns.any { it.matches(targetClass.name) }
+    }
+
+    /**
+     * 获取方法对应的直方图，重载的方法共用同一个指标
+     */
+    override fun attach(method: Method, targetClass: Class<*>): Any {
+        val timed = method.getAnnotation(Timed::class.java) ?: targetClass.getAnnotation(Timed::class.java)
+        val name = timed?.value?.takeIf { it.isNotEmpty() } ?: "${targetClass.name}.${method.name}"
+        return this.metrics.computeIfAbsent(name) { LatencyHistogram() }
+    }
+
+    override fun invoke(invocation: MethodInvocation): Any? {
+        val histogram = invocation.getAttachment() as? LatencyHistogram ?: return invocation.proceed()
+        val start = System.nanoTime()
+        try {
+            return invocation.proceed()
+        } finally {
+            histogram.record(System.nanoTime() - start)
+        }
+    }
+
+    /**
+     * 获取所有指标的快照
+     *
+     * @return 指标名称 -> 快照，按名称排序
+     */
+    fun getSnapshots(): Map<String, LatencySnapshot> {
+        return this.metrics.entries.sortedBy { it.key }.associate { it.key to it.value.getSnapshot() }
+    }
+
+    /**
+     * 获取指定指标的快照
+     *
+     * @param name 指标名称
+     */
+    fun getSnapshot(name: String): LatencySnapshot? {
+        return this.metrics[name]?.getSnapshot()
+    }
+
+    /**
+     * 清空所有指标已记录的数据
+     */
+    fun reset() {
+        this.metrics.values.forEach { it.reset() }
+    }
+
+    /**
+     * 导出为按 p99 倒序排列的文本摘要
+     *
+     * @param limit 最多输出的指标数量
+     */
+    fun toSummary(limit: Int = Int.MAX_VALUE): String {
+        val snapshots = this.getSnapshots().entries.filter { it.value.count > 0 }.sortedByDescending { it.value.p99 }
+        val builder = StringBuilder()
+        builder.append(String.format("%-10s %-10s %-10s %-10s %-10s %s%n", "Count", "Mean(ms)", "P50(ms)", "P99(ms)", "Max(ms)", "Method"))
+        for ((name, snapshot) in snapshots.take(limit)) {
+            builder.append(String.format("%-10d %-10.3f %-10.3f %-10.3f %-10.3f %s%n", snapshot.count,
+                snapshot.mean / 1_000_000.0, snapshot.p50 / 1_000_000.0, snapshot.p99 / 1_000_000.0, snapshot.max / 1_000_000.0, name))
+        }
+        if (snapshots.size > limit) {
+            builder.append("... ").append(snapshots.size - limit).append(" more methods").append(System.lineSeparator())
+        }
+        return builder.toString()
+    }
+
+    /**
+     * 定期输出所有指标的快照
+     *
+     * @param period 输出周期
+     * @param unit 周期单位
+     * @param reset 输出后是否清空已记录的数据，清空后每次输出的是最近一个周期的耗时
+     * @param reporter 用于输出快照，在后台线程中调用
+     */
+    @Synchronized
+    fun startReporting(period: Long, unit: TimeUnit, reset: Boolean = false, reporter: (Map<String, LatencySnapshot>) -> Unit) {
+        this.stopReporting()
+        this.reporter = Executors.newSingleThreadScheduledExecutor { runnable ->
+            Thread(runnable, "central-timing-reporter").also { it.isDaemon = true }
+        }.also {
+            it.scheduleAtFixedRate({
+                try {
+                    reporter(this.getSnapshots())
+                    if (reset) {
+                        this.reset()
+                    }
+                } catch (ignored: Exception) {
+                    // 异常会导致后续的输出任务被取消
+                }
+            }, period, period, unit)
+        }
+    }
+
+    /**
+     * 停止定期输出
+     */
+    @Synchronized
+    fun stopReporting() {
+        this.reporter?.shutdownNow()
+        this.reporter = null
+    }
+
+    override fun destroy() {
+        this.stopReporting()
+    }
+
+    companion object {
+        private fun compile(pattern: String): Regex {
+            val regex = when {
+                pattern.endsWith(".**") -> Regex.escape(pattern.removeSuffix(".**")) + "\\..+"
+                pattern.endsWith(".*") -> Regex.escape(pattern.removeSuffix(".*")) + "\\.[^.]+"
+                else -> Regex.escape(pattern)
+            }
+            return Regex(regex)
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.support
+
+import central.bean.aop.Pointcut
+import central.bean.factory.config.BeanPostProcessor
+import java.lang.reflect.Proxy
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 用于为匹配了切面的 Bean 创建基于接口的代理
+ *
+ * 每个类型只解析一次方法链。没有任何方法匹配切面的类型不会被代理，也不会再调用本处理器；
+ * 代理对象只实现了目标类的公开接口，因此需要通过接口注入或获取被代理的 Bean。
+ * 如果需要代理的 Bean 在循环依赖中已经把早期引用注入给了其它 Bean，创建时会抛出 BeanCreationException
+ *
+ * @param pointcuts 切面，按执行顺序排列
+ *
+ * @author Alan Yeh
+ * @see Pointcut
+ * @since 2026/10/17
+ */
+class AopProxyProcessor(pointcuts: List<Pointcut>) : BeanPostProcessor {
+
+    private val pointcuts = pointcuts.toList()
+
+    /**
+     * 方法链缓存
+     *
+     * bean type -> chains
+     */
+    private val chainsCache = ConcurrentHashMap<Class<*>, Any>()
+
+    override fun supports(beanType: Class<*>): Boolean {
+        return this.findChains(beanType) != null
+    }
+
+    override fun processAfterInitialization(name: String, bean: Any): Any {
+        val chains = this.findChains(bean.javaClass) ?: return bean
+        return Proxy.newProxyInstance(bean.javaClass.classLoader, chains.interfaces, GenericInvocationHandler(bean, chains))
+    }
+
+    private fun findChains(type: Class<*>): ProxyChains? {
+        if (Pointcut::class.java.isAssignableFrom(type) || Proxy.isProxyClass(type)) {
+            // 切面本身与已经创建的代理不需要再代理
+            return null
+        }
+        val chains = this.chainsCache[type] ?: this.chainsCache.computeIfAbsent(type) { ProxyChains.resolve(it, this.pointcuts) ?: NONE }
+        return chains as? ProxyChains
+    }
+
+    companion object {
+        /**
+         * 用于标记不需要代理的类型
+         */
+        private val NONE = Any()
+    }
+}
@@ -26,16 +26,49 @@ package central.bean.aop.support
 
 import java.lang.reflect.InvocationHandler
 import java.lang.reflect.Method
+import java.lang.reflect.Proxy
 
 /**
  * 代理
  *
+ * 将代理对象上的方法调用转发给目标对象。匹配了切面的方法通过 [GenericMethodInvocation] 依次执行切面，
+ * 其余方法直接调用目标对象的方法。代理对象的 hashCode 与目标对象相同，但只与代理了相同目标对象的代理相等
+ *
+ * @param target 目标对象
+ * @param chains 目标类的方法链
+ *
  * @author Alan Yeh
  * @since 2023/01/30
  */
-class GenericInvocationHandler : InvocationHandler {
+class GenericInvocationHandler internal constructor(private val target: Any, private val chains: ProxyChains) : InvocationHandler {
+
+    /**
+     * 获取被代理的目标对象
+     */
+    fun getTarget(): Any {
+        return this.target
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun invoke(proxy: Any, method: Method, args: Array<out Any?>?): Any? {
+        val arguments = (args ?: EMPTY_ARGUMENTS) as Array<Any?>
+        val chain = this.chains.getChain(method)
+        if (chain == null) {
+            if (method.declaringClass == Any::class.java && method.name == "equals") {
+                // 只与代理了相同目标对象的代理相等，保证与 hashCode 一致，并且满足对称性
+                val other = arguments[0] ?: return false
+                if (proxy === other) {
+                    return true
+                }
+                val handler = if (Proxy.isProxyClass(other.javaClass)) Proxy.getInvocationHandler(other) else null
+                return handler is GenericInvocationHandler && this.target == handler.target
+            }
+            return ProxyChains.invokeTarget(this.target, method, arguments)
+        }
+        return GenericMethodInvocation(this.target, method, arguments, chain.pointcuts, chain.method, chain.attachments).proceed()
+    }
 
-    override fun invoke(proxy: Any, method: Method, args: Array<out Any>): Any? {
-        return method.invoke(proxy, *args)
+    companion object {
+        private val EMPTY_ARGUMENTS = emptyArray<Any?>()
     }
-}
\ No newline at end of file
+}
@@ -31,33 +31,64 @@ import java.lang.reflect.Method
 /**
  * 标准方法调用
  *
+ * 一次方法调用只创建一个调用对象，通过下标依次执行切面，执行完所有切面后执行目标方法。
+ * 切面多次调用 [proceed] 时（如重试），每次都会从该切面之后的切面开始执行
+ *
+ * @param target 目标对象
+ * @param method 需要执行的方法
+ * @param arguments 方法参数
+ * @param interceptors 匹配该方法的切面
+ * @param targetMethod 目标类中的方法，用于切面获取实现类上的注解
+ * @param attachments 每个切面为该方法创建的附加信息，与 [interceptors] 一一对应
+ *
  * @author Alan Yeh
  * @since 2023/01/30
  */
-class GenericMethodInvocation(private val target: Any, private val method: Method, private val arguments: Array<Any?>, private val interceptors: List<Pointcut>, private val index: Int) : MethodInvocation {
+class GenericMethodInvocation(
+    private val target: Any,
+    private val method: Method,
+    private var arguments: Array<Any?>,
+    private val interceptors: Array<Pointcut>,
+    private val targetMethod: Method = method,
+    private val attachments: Array<Any?> = arrayOfNulls(interceptors.size)
+) : MethodInvocation {
 
-    constructor(target: Any, method: Method, arguments: Array<Any?>) : this(target, method, arguments, emptyList(), 0)
+    constructor(target: Any, method: Method, arguments: Array<Any?>) : this(target, method, arguments, emptyArray())
+
+    /**
+     * 下一个需要执行的切面
+     */
+    private var index = 0
 
     override fun proceed(): Any? {
-        return if (index >= interceptors.size) {
-            this.method.invoke(this.target, *this.arguments)
-        } else {
-            val invocation = GenericMethodInvocation(this.target, this.method, this.arguments, this.interceptors, this.index + 1)
-            this.interceptors[this.index + 1].invoke(invocation)
+        val current = this.index
+        try {
+            while (this.index < this.interceptors.size) {
+                val interceptor = this.interceptors[this.index++]
+                if (interceptor.isRuntime && !interceptor.matches(this.targetMethod, this.target.javaClass, this.arguments)) {
+                    // 方法参数不满足切面条件，跳过该切面
+                    continue
+                }
+                return interceptor.invoke(this)
+            }
+            return ProxyChains.invokeTarget(this.target, this.method, this.arguments)
+        } finally {
+            this.index = current
         }
     }
 
     override fun proceed(arguments: Array<Any?>): Any? {
-        return if (index >= interceptors.size) {
-            this.method.invoke(this.target, *arguments)
-        } else {
-            val invocation = GenericMethodInvocation(this.target, this.method, arguments, this.interceptors, this.index + 1)
-            return this.interceptors[this.index + 1].invoke(invocation)
+        val current = this.arguments
+        this.arguments = arguments
+        try {
+            return this.proceed()
+        } finally {
+            this.arguments = current
         }
     }
 
     override fun getMethod(): Method {
-        return this.method
+        return this.targetMethod
     }
 
     override fun getTarget(): Any {
@@ -67,4 +98,15 @@ class GenericMethodInvocation(private val target: Any, private val method: Metho
     override fun getArguments(): Array<Any?> {
         return this.arguments
     }
-}
\ No newline at end of file
+
+    override fun getAttachment(): Any? {
+        // 执行切面时，下标已经指向下一个切面
+        return if (this.index > 0) this.attachments[this.index - 1] else null
+    }
+
+    override fun copy(): MethodInvocation {
+        return GenericMethodInvocation(this.target, this.method, this.arguments.copyOf(), this.interceptors, this.targetMethod, this.attachments).also {
+            it.index = this.index
+        }
+    }
+}
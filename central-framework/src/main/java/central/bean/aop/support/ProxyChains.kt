@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.support
+
+import central.bean.aop.Pointcut
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Modifier
+import java.util.IdentityHashMap
+
+/**
+ * 代理方法链
+ *
+ * 记录目标类需要代理的接口，以及每个接口方法匹配的切面与切面的附加信息。每个类的每个方法只调用一次 [Pointcut.matches] 与 [Pointcut.attach]，
+ * 没有匹配任何切面的方法不会出现在方法链中，调用时直接执行目标方法
+ *
+ * @param interfaces 需要代理的接口
+ * @param chains 接口方法 -> 方法链
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+internal class ProxyChains private constructor(val interfaces: Array<Class<*>>, private val chains: Map<Method, MethodChain>) {
+
+    /**
+     * 按对象标识缓存的方法链
+     *
+     * 代理类每次调用都会传入同一个 Method 对象，按对象标识查找比 [Method.equals] 快得多。写入时复制，读取时不需要加锁
+     */
+    @Volatile
+    private var resolved = IdentityHashMap<Method, Any>()
+
+    /**
+     * 获取接口方法的方法链。如果该方法没有匹配任何切面，则返回 null
+     */
+    fun getChain(method: Method): MethodChain? {
+        val chain = this.resolved[method] ?: synchronized(this) {
+            val resolved = IdentityHashMap(this.resolved)
+            (this.chains[method] ?: NONE).also {
+                resolved[method] = it
+                this.resolved = resolved
+            }
+        }
+        return chain as? MethodChain
+    }
+
+    /**
+     * 方法链
+     *
+     * @param method 目标类中的方法，用于切面获取实现类上的注解
+     * @param pointcuts 匹配该方法的切面
+     * @param attachments 每个切面为该方法创建的附加信息，与 [pointcuts] 一一对应
+     */
+    class MethodChain(val method: Method, val pointcuts: Array<Pointcut>, val attachments: Array<Any?>)
+
+    companion object {
+        /**
+         * 用于标记没有匹配任何切面的方法
+         */
+        private val NONE = Any()
+
+        /**
+         * 解析目标类的方法链。如果目标类的所有接口方法都没有匹配任何切面，则返回 null
+         *
+         * @param targetClass 目标类
+         * @param pointcuts 所有切面
+         */
+        fun resolve(targetClass: Class<*>, pointcuts: List<Pointcut>): ProxyChains? {
+            if (pointcuts.isEmpty()) {
+                return null
+            }
+
+            val interfaces = LinkedHashSet<Class<*>>()
+            var current: Class<*>? = targetClass
+            while (current != null && current != Any::class.java) {
+                collectInterfaces(current, interfaces)
+                current = current.superclass
+            }
+            if (interfaces.isEmpty()) {
+                // 只支持基于接口的代理
+                return null
+            }
+
+            val chains = HashMap<Method, MethodChain>()
+            for (type in interfaces) {
+                for (method in type.methods) {
+                    if (chains.containsKey(method) || Modifier.isStatic(method.modifiers)) {
+                        continue
+                    }
+                    val specificMethod = try {
+                        targetClass.getMethod(method.name, *method.parameterTypes)
+                    } catch (ex: NoSuchMethodException) {
+                        method
+                    }
+                    val matched = pointcuts.filter { it.matches(specificMethod, targetClass) }
+                    if (matched.isNotEmpty()) {
+                        val attachments = Array(matched.size) { matched[it].attach(specificMethod, targetClass) }
+                        chains[method] = MethodChain(specificMethod, matched.toTypedArray(), attachments)
+                    }
+                }
+            }
+            if (chains.isEmpty()) {
+                return null
+            }
+
+            return ProxyChains(interfaces.toTypedArray(), chains)
+        }
+
+        private fun collectInterfaces(type: Class<*>, interfaces: MutableSet<Class<*>>) {
+            for (candidate in type.interfaces) {
+                // 非公开的接口只能由同一个包中的代理实现，因此不代理这些接口
+                if (Modifier.isPublic(candidate.modifiers) && interfaces.add(candidate)) {
+                    collectInterfaces(candidate, interfaces)
+                }
+            }
+        }
+
+        /**
+         * 执行目标方法，并将目标方法抛出的异常原样抛出
+         */
+        fun invokeTarget(target: Any, method: Method, arguments: Array<Any?>): Any? {
+            try {
+                return method.invoke(target, *arguments)
+            } catch (ex: InvocationTargetException) {
+                throw ex.targetException
+            }
+        }
+    }
+}
@@ -33,4 +33,10 @@ import central.env.EnvironmentCapable
  * @author Alan Yeh
  * @since 2023/01/19
  */
-interface ApplicationContext : BeanFactory, ApplicationPublisher, EnvironmentCapable
\ No newline at end of file
+interface ApplicationContext : BeanFactory, ApplicationPublisher, EnvironmentCapable {
+    /**
+     * 父上下文。在当前上下文中找不到 Bean 时，会继续从父上下文中查找
+     */
+    val parent: ApplicationContext?
+        get() = null
+}
\ No newline at end of file
@@ -27,6 +27,7 @@ package central.bean.context
 import central.bean.factory.BeanException
 import central.bean.factory.ConfigurableBeanFactory
 import central.bean.factory.config.BeanFactoryPostProcessor
+import central.bean.factory.metrics.ApplicationStartup
 import central.env.ConfigurableEnvironment
 
 /**
@@ -47,12 +48,26 @@ interface ConfigurableApplicationContext : ApplicationContext {
      */
     val beanFactory: ConfigurableBeanFactory
 
+    /**
+     * 启动过程记录器
+     *
+     * 默认不记录任何信息。如需分析启动耗时，可以在 [refresh] 之前设置为 [central.bean.factory.metrics.BufferingApplicationStartup]
+     */
+    var applicationStartup: ApplicationStartup
+
     /**
      * 刷新应用上下文
      */
     @Throws(BeanException::class, IllegalArgumentException::class)
     fun refresh()
 
+    /**
+     * 关闭应用上下文
+     *
+     * 发布 [central.bean.context.event.ContextClosedEvent] 事件后，按依赖关系的逆序销毁所有单例
+     */
+    fun close()
+
     /**
      * 添加 Bean 工厂后置处理器
      */
@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.channel
+
+/**
+ * 事件通道的背压策略，用于指定缓冲区已满时如何处理新事件
+ *
+ * @author Alan Yeh
+ * @see EventChannel
+ * @since 2026/10/17
+ */
+enum class BackpressurePolicy {
+    /**
+     * 丢弃最早的待处理事件，接收新事件
+     */
+    DROP_OLDEST,
+
+    /**
+     * 阻塞生产者，直到消费者取走事件。不能在消费者所在的线程中发送事件，否则会死锁
+     */
+    BLOCK,
+
+    /**
+     * 用新事件替换最新的待处理事件。在消费者跟上之前，只保留事件流的最新采样
+     */
+    SAMPLE
+}
@@ -0,0 +1,48 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.channel
+
+/**
+ * 事件通道统计信息
+ *
+ * @param capacity 缓冲区容量
+ * @param size 待处理的事件数量
+ * @param offeredCount 发送的事件数量
+ * @param droppedCount 因缓冲区已满而丢弃的事件数量
+ * @param coalescedCount 被合并（替换了同一个键的待处理事件）的事件数量
+ * @param drainedCount 消费者取走的事件数量
+ *
+ * @author Alan Yeh
+ * @see EventChannel
+ * @since 2026/10/17
+ */
+data class ChannelStatistics(
+    val capacity: Int,
+    val size: Int,
+    val offeredCount: Long,
+    val droppedCount: Long,
+    val coalescedCount: Long,
+    val drainedCount: Long
+)
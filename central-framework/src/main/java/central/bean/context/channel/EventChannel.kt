@@ -0,0 +1,334 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.channel
+
+import central.bean.context.ApplicationEvent
+import java.util.Arrays
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.locks.ReentrantLock
+
+/**
+ * 高频事件通道
+ *
+ * 用于进度、传感器数据等每秒可能发生数百次的事件。事件保存在预先分配的环形缓冲区中，缓冲区已满时按 [policy] 处理新事件，
+ * 因此生产者再快也不会让内存无限增长。消费者每次取走所有待处理的事件（批量消费）。
+ *
+ * 指定了 [coalescingKey] 时，在两次消费之间，同一个键只保留最新的事件：新事件替换同一个键的待处理事件，并保留该事件原来的位置。
+ * 合并索引同样是预先分配的（开放寻址），不会在发送事件时分配内存。
+ *
+ * ```kotlin
+ * val channel = EventChannel<ProgressEvent>(16, coalescingKey = { it.source })
+ * channel.dispatchTo(mainExecutor) { publisher.publishEvent(it) }
+ *
+ * // 在任意线程中发送事件
+ * channel.offer(ProgressEvent(webView, progress))
+ * ```
+ *
+ * @param capacity 缓冲区容量，会向上取整为 2 的幂
+ * @param policy 缓冲区已满时的背压策略
+ * @param coalescingKey 用于获取事件的合并键，为空时不合并事件
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class EventChannel<E : ApplicationEvent>(
+    capacity: Int,
+    private val policy: BackpressurePolicy = BackpressurePolicy.DROP_OLDEST,
+    private val coalescingKey: ((E) -> Any)? = null
+) {
+    /**
+     * 缓冲区容量
+     */
+    val capacity: Int = Integer.highestOneBit((capacity.coerceAtLeast(2) - 1) shl 1)
+
+    private val mask = this.capacity - 1
+
+    private val lock = ReentrantLock()
+
+    private val notFull = this.lock.newCondition()
+
+    /**
+     * 环形缓冲区
+     */
+    private val buffer = arrayOfNulls<Any>(this.capacity)
+
+    /**
+     * 消费时使用的缓冲区，避免在执行消费者时持有锁
+     */
+    private val batch = arrayOfNulls<Any>(this.capacity)
+
+    /**
+     * 下一个待消费的事件序号
+     */
+    private var head = 0L
+
+    /**
+     * 下一个写入的事件序号
+     */
+    private var tail = 0L
+
+    /**
+     * 合并索引：开放寻址的哈希表，保存合并键与该键的待处理事件序号。表的大小是缓冲区容量的两倍，
+     * 因为待处理事件不超过缓冲区容量，所以总能找到空位或已失效的位置
+     */
+    private val keys = arrayOfNulls<Any>(if (coalescingKey == null) 0 else this.capacity * 2)
+
+    private val sequences = LongArray(this.keys.size)
+
+    /**
+     * 缓冲区位置 -> 该位置的事件在合并索引中的位置
+     */
+    private val slotKeys = IntArray(if (coalescingKey == null) 0 else this.capacity)
+
+    private var offered = 0L
+    private var dropped = 0L
+    private var coalesced = 0L
+    private var drained = 0L
+
+    @Volatile
+    private var dispatcher: Runnable? = null
+
+    private var executor: Executor? = null
+
+    /**
+     * 是否已向执行器提交了消费任务
+     */
+    private val scheduled = AtomicBoolean()
+
+    /**
+     * 发送事件。背压策略为 [BackpressurePolicy.BLOCK] 时，缓冲区已满会一直等待
+     *
+     * @return 事件是否进入了缓冲区
+     */
+    fun offer(event: E): Boolean {
+        return this.offer(event, Long.MAX_VALUE, TimeUnit.NANOSECONDS)
+    }
+
+    /**
+     * 发送事件。背压策略为 [BackpressurePolicy.BLOCK] 时，缓冲区已满最多等待指定的时间
+     *
+     * @param event 事件
+     * @param timeout 最长等待时间
+     * @param unit 时间单位
+     *
+     * @return 事件是否进入了缓冲区，等待超时则返回 false
+     */
+    fun offer(event: E, timeout: Long, unit: TimeUnit): Boolean {
+        val key = this.coalescingKey?.invoke(event)
+        var nanos = unit.toNanos(timeout)
+        this.lock.lockInterruptibly()
+        try {
+            this.offered++
+            while (true) {
+                if (key != null) {
+                    val position = this.find(key)
+                    if (position >= 0) {
+                        // 替换同一个键的待处理事件
+                        this.buffer[(this.sequences[position] and this.mask.toLong()).toInt()] = event
+                        this.coalesced++
+                        return true
+                    }
+                }
+                if (this.tail - this.head < this.capacity) {
+                    break
+                }
+                when (this.policy) {
+                    BackpressurePolicy.DROP_OLDEST -> {
+                        // 被丢弃的事件在合并索引中的记录自动失效
+                        this.buffer[(this.head and this.mask.toLong()).toInt()] = null
+                        this.head++
+                        this.dropped++
+                    }
+                    BackpressurePolicy.SAMPLE -> {
+                        this.tail--
+                        this.dropped++
+                    }
+                    BackpressurePolicy.BLOCK -> {
+                        if (nanos <= 0) {
+                            this.dropped++
+                            return false
+                        }
+                        nanos = this.notFull.awaitNanos(nanos)
+                    }
+                }
+            }
+
+            val slot = (this.tail and this.mask.toLong()).toInt()
+            this.buffer[slot] = event
+            if (key != null) {
+                val position = -this.find(key) - 1
+                this.keys[position] = key
+                this.sequences[position] = this.tail
+                this.slotKeys[slot] = position
+            }
+            this.tail++
+        } finally {
+            this.lock.unlock()
+        }
+
+        this.schedule()
+        return true
+    }
+
+    /**
+     * 查找合并键的待处理事件
+     *
+     * @return 找到时返回该键在合并索引中的位置；没有找到时返回 -(可以写入的位置) - 1
+     */
+    private fun find(key: Any): Int {
+        val size = this.keys.size
+        var position = spread(key.hashCode()) and (size - 1)
+        var free = -1
+        for (i in 0 until size) {
+            val current = this.keys[position]
+            if (current == null) {
+                return -(if (free >= 0) free else position) - 1
+            }
+            val live = this.isLive(position)
+            if (current == key) {
+                return if (live) position else -position - 1
+            }
+            if (free < 0 && !live) {
+                free = position
+            }
+            position = (position + 1) and (size - 1)
+        }
+        return -free - 1
+    }
+
+    /**
+     * 合并索引中的记录是否仍然对应一个待处理事件
+     */
+    private fun isLive(position: Int): Boolean {
+        val sequence = this.sequences[position]
+        return sequence >= this.head && sequence < this.tail && this.slotKeys[(sequence and this.mask.toLong()).toInt()] == position
+    }
+
+    /**
+     * 取走所有待处理的事件，并依次交给消费者处理。同一时间只能有一个线程消费
+     *
+     * @param consumer 消费者
+     * @return 取走的事件数量
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun drain(consumer: (E) -> Unit): Int {
+        synchronized(this.batch) {
+            val count: Int
+            this.lock.lock()
+            try {
+                count = (this.tail - this.head).toInt()
+                for (i in 0 until count) {
+                    val slot = ((this.head + i) and this.mask.toLong()).toInt()
+                    this.batch[i] = this.buffer[slot]
+                    this.buffer[slot] = null
+                }
+                this.head = this.tail
+                this.drained += count
+                Arrays.fill(this.keys, null)
+                this.notFull.signalAll()
+            } finally {
+                this.lock.unlock()
+            }
+
+            try {
+                for (i in 0 until count) {
+                    consumer(this.batch[i] as E)
+                }
+            } finally {
+                Arrays.fill(this.batch, 0, count, null)
+            }
+            return count
+        }
+    }
+
+    /**
+     * 有事件时自动在指定的执行器中消费。同一时间最多只有一个消费任务，消费期间发送的事件会在下一批中处理
+     *
+     * @param executor 执行器，如主线程的 Handler
+     * @param consumer 消费者
+     */
+    fun dispatchTo(executor: Executor, consumer: (E) -> Unit) {
+        this.lock.lock()
+        try {
+            check(this.dispatcher == null) { "EventChannel already has a consumer" }
+            this.executor = executor
+            this.dispatcher = object : Runnable {
+                override fun run() {
+                    try {
+                        this@EventChannel.drain(consumer)
+                    } finally {
+                        this@EventChannel.scheduled.set(false)
+                        if (this@EventChannel.size > 0) {
+                            this@EventChannel.schedule()
+                        }
+                    }
+                }
+            }
+        } finally {
+            this.lock.unlock()
+        }
+        this.schedule()
+    }
+
+    private fun schedule() {
+        val dispatcher = this.dispatcher ?: return
+        if (!this.scheduled.get() && this.scheduled.compareAndSet(false, true)) {
+            this.executor!!.execute(dispatcher)
+        }
+    }
+
+    /**
+     * 待处理的事件数量
+     */
+    val size: Int
+        get() {
+            this.lock.lock()
+            try {
+                return (this.tail - this.head).toInt()
+            } finally {
+                this.lock.unlock()
+            }
+        }
+
+    /**
+     * 获取统计信息
+     */
+    fun getStatistics(): ChannelStatistics {
+        this.lock.lock()
+        try {
+            return ChannelStatistics(this.capacity, (this.tail - this.head).toInt(), this.offered, this.dropped, this.coalesced, this.drained)
+        } finally {
+            this.lock.unlock()
+        }
+    }
+
+    companion object {
+        private fun spread(hash: Int): Int {
+            return hash xor (hash ushr 16)
+        }
+    }
+}
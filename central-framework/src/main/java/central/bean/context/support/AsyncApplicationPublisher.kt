@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.bean.aop.metrics.LatencyHistogram
+import central.bean.context.ApplicationEvent
+import central.bean.context.ApplicationListener
+import central.bean.context.AsyncApplicationListener
+import central.bean.context.event.EventDelivery
+import central.bean.context.event.EventDeliveryMode
+import central.bean.factory.BeanFactory
+import central.bean.factory.DestroyableBean
+import central.util.concurrent.BackgroundExecutors
+import java.util.IdentityHashMap
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executor
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 支持异步投递的事件广播器
+ *
+ * 监听器可以通过 [EventDelivery] 注解或 [AsyncApplicationListener] 接口选择同步或异步接收事件，其余监听器使用 [defaultMode]。
+ * 异步监听器在 [executor] 中执行，每个监听器都有自己的事件队列，因此同一个监听器总是按发布顺序依次接收事件，
+ * 不同监听器之间可以并行执行。
+ *
+ * 同步监听器抛出的异常会传递给发布者；异步监听器抛出的异常交给 [errorHandler] 处理，并计入 [ListenerStatistics.failedCount]。
+ * 默认的异常处理器将异常交给投递线程的未捕获异常处理器
+ *
+ * @param beanFactory 用于获取以 Bean 名称添加的监听器
+ * @param executor 异步监听器的执行器，为空时在第一次异步投递时创建内置的线程池
+ * @param defaultMode 没有指定投递方式的监听器使用的投递方式
+ * @param errorHandler 异步监听器的异常处理器
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class AsyncApplicationPublisher(
+    beanFactory: BeanFactory,
+    executor: Executor? = null,
+    private val defaultMode: EventDeliveryMode = EventDeliveryMode.SYNC,
+    private val errorHandler: (ApplicationListener<*>, ApplicationEvent, Throwable) -> Unit = { _, _, ex -> BackgroundExecutors.reportUncaught(ex) }
+) : GenericApplicationPublisher(beanFactory), DestroyableBean {
+
+    private var executor: Executor? = executor
+
+    /**
+     * 内置的线程池，销毁时关闭
+     */
+    private var defaultExecutor: ThreadPoolExecutor? = null
+
+    /**
+     * 监听器 -> 投递器。写入时复制，读取时不需要加锁
+     */
+    @Volatile
+    private var dispatchers = IdentityHashMap<ApplicationListener<*>, ListenerDispatcher>()
+
+    override fun invokeListener(listener: ApplicationListener<*>, event: ApplicationEvent, exactType: Boolean) {
+        val dispatcher = this.dispatchers[listener] ?: this.createDispatcher(listener)
+        if (dispatcher.mode == EventDeliveryMode.ASYNC) {
+            dispatcher.enqueue(event, exactType)
+        } else {
+            dispatcher.deliver(event, exactType)
+        }
+    }
+
+    /**
+     * 获取所有监听器的投递统计信息
+     */
+    fun getStatistics(): List<ListenerStatistics> {
+        return this.dispatchers.values.map { it.getStatistics() }
+    }
+
+    /**
+     * 所有异步监听器等待执行的事件数量
+     */
+    val queueDepth: Int
+        get() = this.dispatchers.values.sumOf { it.depth.get() }
+
+    override fun onListenerRemoved(listener: ApplicationListener<*>) {
+        synchronized(this) {
+            // 已经进入队列的事件会继续投递
+            this.dispatchers = IdentityHashMap(this.dispatchers).also { it.remove(listener) }
+        }
+    }
+
+    @Synchronized
+    override fun destroy() {
+        // 内置线程池会执行完已经进入队列的事件
+        val defaultExecutor = this.defaultExecutor ?: return
+        defaultExecutor.shutdown()
+        // 之后的异步投递重新创建内置线程池
+        this.defaultExecutor = null
+        this.executor = null
+    }
+
+    private fun createDispatcher(listener: ApplicationListener<*>): ListenerDispatcher {
+        synchronized(this) {
+            this.dispatchers[listener]?.let { return it }
+            val dispatcher = ListenerDispatcher(listener, resolveMode(listener.javaClass))
+            this.dispatchers = IdentityHashMap(this.dispatchers).also { it[listener] = dispatcher }
+            return dispatcher
+        }
+    }
+
+    private fun resolveMode(listenerType: Class<*>): EventDeliveryMode {
+        val mode = modes.computeIfAbsent(listenerType) {
+            it.getAnnotation(EventDelivery::class.java)?.value
+                ?: if (AsyncApplicationListener::class.java.isAssignableFrom(it)) EventDeliveryMode.ASYNC else NO_MODE
+        }
+        return mode as? EventDeliveryMode ?: this.defaultMode
+    }
+
+    @Synchronized
+    private fun getExecutor(): Executor {
+        return this.executor ?: BackgroundExecutors.create("central-event").also {
+            this.defaultExecutor = it
+            this.executor = it
+        }
+    }
+
+    /**
+     * 监听器投递器
+     *
+     * 异步投递时，事件先进入监听器自己的队列。队列从空变为非空时，向执行器提交一个投递任务，该任务依次投递队列中的事件，
+     * 因此同一个监听器同时最多只有一个投递任务在执行。每个任务最多连续投递 [BATCH_SIZE] 个事件，之后重新提交，避免长期占用执行器的线程
+     */
+    private inner class ListenerDispatcher(private val listener: ApplicationListener<*>, val mode: EventDeliveryMode) : Runnable {
+        private val events = ConcurrentLinkedQueue<PendingEvent>()
+
+        /**
+         * 等待执行的事件数量（包括正在执行的事件）
+         */
+        val depth = AtomicInteger()
+
+        private val delivered = LongAdder()
+
+        private val failed = LongAdder()
+
+        private val latency = LatencyHistogram()
+
+        fun enqueue(event: ApplicationEvent, exactType: Boolean) {
+            val pending = PendingEvent(event, exactType)
+            this.events.add(pending)
+            if (this.depth.getAndIncrement() == 0) {
+                this.submit(pending)?.let { throw it }
+            }
+        }
+
+        /**
+         * 提交投递任务。提交失败时（如执行器拒绝执行）撤销 [pending] 的入队并返回异常，
+         * 否则 [depth] 会一直大于 0，之后的事件都不会再提交
+         */
+        private fun submit(pending: PendingEvent): Throwable? {
+            try {
+                this@AsyncApplicationPublisher.getExecutor().execute(this)
+                return null
+            } catch (ex: Throwable) {
+                this.events.remove(pending)
+                if (this.depth.decrementAndGet() > 0) {
+                    // 提交期间又有事件进入队列，由当前线程负责重新提交
+                    val next = this.events.peek()
+                    if (next != null) {
+                        this.submit(next)?.let { this@AsyncApplicationPublisher.errorHandler(this.listener, next.event, it) }
+                    }
+                }
+                return ex
+            }
+        }
+
+        override fun run() {
+            var processed = 0
+            while (true) {
+                val pending = this.events.poll()!!
+                try {
+                    this.deliver(pending.event, pending.exactType)
+                } catch (ex: Throwable) {
+                    this@AsyncApplicationPublisher.errorHandler(this.listener, pending.event, ex)
+                }
+                if (this.depth.decrementAndGet() == 0) {
+                    return
+                }
+                if (++processed >= BATCH_SIZE) {
+                    try {
+                        this@AsyncApplicationPublisher.getExecutor().execute(this)
+                        return
+                    } catch (ex: Throwable) {
+                        // 无法重新提交时，继续在当前线程中投递
+                        processed = 0
+                    }
+                }
+            }
+        }
+
+        fun deliver(event: ApplicationEvent, exactType: Boolean) {
+            val start = System.nanoTime()
+            try {
+                super@AsyncApplicationPublisher.invokeListener(this.listener, event, exactType)
+                this.delivered.increment()
+            } catch (ex: Throwable) {
+                this.failed.increment()
+                throw ex
+            } finally {
+                this.latency.record(System.nanoTime() - start)
+            }
+        }
+
+        fun getStatistics(): ListenerStatistics {
+            return ListenerStatistics(this.listener.javaClass.name, this.mode, this.depth.get(), this.delivered.sum(), this.failed.sum(), this.latency.getSnapshot())
+        }
+    }
+
+    private class PendingEvent(val event: ApplicationEvent, val exactType: Boolean)
+
+    companion object {
+        /**
+         * 默认执行器的 Bean 名称
+         */
+        const val EXECUTOR_BEAN_NAME = "applicationEventExecutor"
+
+        /**
+         * 每个投递任务最多连续投递的事件数量
+         */
+        private const val BATCH_SIZE = 64
+
+        /**
+         * 用于标记没有指定投递方式的监听器类型
+         */
+        private val NO_MODE = Any()
+
+        /**
+         * 监听器类型 -> 投递方式
+         */
+        private val modes = ConcurrentHashMap<Class<*>, Any>()
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.bean.context.ApplicationContext
+import central.bean.context.ApplicationEvent
+import central.bean.context.ApplicationListener
+import central.bean.context.ApplicationPublisher
+import central.bean.context.ConfigurableApplicationContext
+import central.bean.context.event.ContextClosedEvent
+import central.bean.context.event.ContextRefreshedEvent
+import central.bean.factory.BeanException
+import central.bean.factory.ConfigurableBeanFactory
+import central.bean.factory.config.BeanFactoryPostProcessor
+import central.bean.factory.config.DependencyDescriptor
+import central.bean.factory.metrics.ApplicationStartup
+import central.bean.factory.support.GenericBeanFactory
+import central.bean.factory.support.RootBeanDefinition
+import central.bean.factory.support.processor.bean.*
+import central.convert.Converter
+import central.env.ConfigurableEnvironment
+import central.io.ResourceLoader
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * 子应用上下文
+ *
+ * 用于保存页面（如 Activity、WebView）级别的 Bean。子上下文只有一个很小的 Bean 定义注册中心，
+ * 在子上下文中找不到的 Bean 会继续从父上下文中查找；子上下文与父上下文共享环境和类型转换服务，创建子上下文时不需要重新执行父上下文的刷新过程。
+ *
+ * 子上下文有独立的销毁周期，关闭子上下文时只会销毁子上下文中的单例，不会影响父上下文。
+ * 子上下文中发布的事件会继续在父上下文中发布，但子上下文自身的刷新、关闭事件只通知子上下文中的监听器。
+ *
+ * @param parent 父上下文
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+open class ChildApplicationContext(override val parent: ConfigurableApplicationContext) : ConfigurableApplicationContext {
+    override val beanFactory: ConfigurableBeanFactory = GenericBeanFactory().also {
+        it.parentBeanFactory = parent
+        it.converter = ParentConverter(parent)
+        it.applicationStartup = parent.applicationStartup
+        // 子上下文中的 Bean 很少，不需要为创建、销毁单例启动线程池
+        it.preInstantiationParallelism = 1
+        it.destructionParallelism = 1
+    }
+
+    override var environment: ConfigurableEnvironment = parent.environment
+
+    override var applicationStartup: ApplicationStartup
+        get() = this.beanFactory.applicationStartup
+        set(value) {
+            this.beanFactory.applicationStartup = value
+        }
+
+    private val beanFactoryPostProcessors: MutableList<BeanFactoryPostProcessor> = mutableListOf()
+
+    private val applicationPublisher: ApplicationPublisher = GenericApplicationPublisher(this.beanFactory)
+
+    /**
+     * 是否已关闭
+     */
+    private val closed = AtomicBoolean()
+
+    init {
+        this.beanFactory.addBeanPostProcessor(BeanNameAwareProcessor())
+        this.beanFactory.addBeanPostProcessor(ApplicationContextAwareProcessor(this))
+        this.beanFactory.addBeanPostProcessor(EnvironmentAwareProcessor(this.environment))
+        val resourceLoader = parent.beanFactory.getBean<Any>("resourceLoader")
+        if (resourceLoader is ResourceLoader) {
+            this.beanFactory.addBeanPostProcessor(ResourceLoaderAwareProcessor(resourceLoader))
+        }
+        this.beanFactory.addBeanPostProcessor(AutowiredProcessor(this))
+        this.beanFactory.addBeanPostProcessor(ApplicationListenerDetector(this))
+    }
+
+    /**
+     * 注册组件
+     *
+     * @param types 组件类型
+     */
+    fun register(vararg types: Class<*>) {
+        for (type in types) {
+            this.beanFactory.registry.registerDefinition(RootBeanDefinition(type))
+        }
+    }
+
+    /**
+     * 刷新子上下文
+     *
+     * 只执行通过 [addBeanFactoryPostProcessor] 添加的 BeanFactoryPostProcessor，并初始化子上下文中非延迟初始化的单例
+     */
+    override fun refresh() {
+        val step = this.applicationStartup.start("context.child.refresh")
+        try {
+            for (processor in this.beanFactoryPostProcessors) {
+                processor.postProcessBeanFactory(this.beanFactory)
+            }
+            this.beanFactory.preInstantiateSingletons()
+            this.applicationPublisher.publishEvent(ContextRefreshedEvent(this))
+        } catch (ex: BeanException) {
+            this.beanFactory.destroySingletons()
+            throw ex
+        } finally {
+            step.end()
+        }
+    }
+
+    override fun close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return
+        }
+
+        this.applicationPublisher.publishEvent(ContextClosedEvent(this))
+
+        val step = this.applicationStartup.start("context.child.close")
+        try {
+            this.beanFactory.destroySingletons()
+        } finally {
+            step.end()
+        }
+    }
+
+    override fun addBeanFactoryPostProcessor(processor: BeanFactoryPostProcessor) {
+        this.beanFactoryPostProcessors.add(processor)
+    }
+
+    /////////////////////////////////////////////////////////////////////////////////////
+    // ListableBeanFactory
+
+    override fun <T> getBeansOfType(requiredType: Class<T>): Map<String, T> = this.beanFactory.getBeansOfType(requiredType)
+    override fun getBeanNamesForType(type: Class<*>): List<String> = this.beanFactory.getBeanNamesForType(type)
+    override fun getBeanNamesForType(type: Class<*>, includeNonSingletons: Boolean, allowEagerInit: Boolean): List<String> = this.beanFactory.getBeanNamesForType(type, includeNonSingletons, allowEagerInit)
+    override fun getBeansWithAnnotations(annotationTypes: List<Class<out Annotation>>): Map<String, Any> = this.beanFactory.getBeansWithAnnotations(annotationTypes)
+    override fun <T> getBean(name: String): T? = this.beanFactory.getBean(name)
+    override fun <T> getBean(name: String, requiredType: Class<T>): T? = this.beanFactory.getBean(name, requiredType)
+    override fun <T> getBean(requiredType: Class<T>): T? = this.beanFactory.getBean(requiredType)
+    override fun resolveDependency(descriptor: DependencyDescriptor): Any? = this.beanFactory.resolveDependency(descriptor)
+    override fun containsBean(name: String): Boolean = this.beanFactory.containsBean(name)
+    override fun getType(name: String): Class<*>? = this.beanFactory.getType(name)
+    override fun isTypeMatch(name: String, type: Class<*>): Boolean = this.beanFactory.isTypeMatch(name, type)
+
+    /////////////////////////////////////////////////////////////////////////////////////
+    // ApplicationPublisher
+
+    override fun publishEvent(event: ApplicationEvent) {
+        this.applicationPublisher.publishEvent(event)
+        // 子上下文中发布的事件，继续在父上下文中发布
+        this.parent.publishEvent(event)
+    }
+
+    override fun addApplicationListener(listener: ApplicationListener<*>) = this.applicationPublisher.addApplicationListener(listener)
+    override fun addApplicationListenerBean(listenerBeanName: String) = this.applicationPublisher.addApplicationListenerBean(listenerBeanName)
+    override fun removeApplicationListener(listener: ApplicationListener<*>) = this.applicationPublisher.removeApplicationListener(listener)
+    override fun removeApplicationListenerBean(listenerBeanName: String) = this.applicationPublisher.removeApplicationListenerBean(listenerBeanName)
+    override fun removeAllListeners() = this.applicationPublisher.removeAllListeners()
+
+    /**
+     * 使用父上下文的类型转换服务
+     *
+     * 每次转换时才获取父上下文的类型转换服务，因为父上下文可能在子上下文创建之后才完成初始化并替换类型转换服务
+     */
+    private class ParentConverter(private val parent: ConfigurableApplicationContext) : Converter {
+        override fun support(source: Class<*>, target: Class<*>): Boolean {
+            return this.parent.beanFactory.converter.support(source, target)
+        }
+
+        override fun <T> convert(source: Any?, target: Class<T>): T? {
+            return this.parent.beanFactory.converter.convert(source, target)
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.bean.factory.ConfigurableBeanFactory
+import central.bean.factory.config.BeanDefinition
+import central.bean.factory.config.Configuration
+import central.bean.factory.config.ConstructorInvokingFactoryBean
+import central.bean.factory.config.MethodInvokingFactoryBean
+import central.bean.factory.support.BeanReference
+import central.bean.factory.support.GenericBeanFactory
+import central.bean.factory.support.RootBeanDefinition
+import central.bean.factory.support.index.BeanIndexes
+import central.bean.factory.support.index.IndexedFactoryBean
+import central.bean.factory.support.index.InjectionPoint
+import central.bean.factory.support.processor.bean.AutowiredProcessor
+import java.io.*
+import java.lang.reflect.Proxy
+
+/**
+ * 应用上下文快照
+ *
+ * 同一个版本的应用每次启动时，配置类解析出来的 Bean 定义、选中的构造函数、注入点以及单例的依赖关系都是一样的。
+ * 快照在第一次启动时记录这些信息，之后的启动直接从快照中恢复，不再需要解析配置类、读取 .imports 文件以及扫描字段和方法。
+ *
+ * 快照通过 [key]（如应用的版本号）判断是否有效，键不一致时快照失效。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class ContextSnapshot private constructor(
+    /**
+     * 快照键
+     */
+    val key: String,
+    /**
+     * 配置类解析出来的 Bean 定义，按注册顺序排列
+     */
+    private val definitions: List<DefinitionRecord>,
+    /**
+     * 注入点
+     * type name -> injection points
+     */
+    private val injectionPoints: Map<String, List<InjectionPointRecord>>,
+    /**
+     * 单例之间的依赖关系
+     * bean name -> 依赖的 bean name
+     */
+    private val dependencies: Map<String, Set<String>>,
+    /**
+     * 单例的创建顺序
+     */
+    private val creationOrder: List<String>
+) {
+
+    /**
+     * 将快照恢复到 Bean 工厂
+     *
+     * 所有的类、构造函数和方法都解析成功后才会注册 Bean 定义，因此恢复失败时不会修改 Bean 工厂
+     *
+     * @param beanFactory Bean 工厂
+     * @param autowiredProcessor 用于恢复注入点
+     * @throws ReflectiveOperationException 快照中记录的类、构造函数或方法已不存在
+     */
+    @Throws(ReflectiveOperationException::class)
+    fun restore(beanFactory: ConfigurableBeanFactory, autowiredProcessor: AutowiredProcessor) {
+        val registry = beanFactory.registry
+        val classLoader = beanFactory.beanClassLoader
+
+        // 解析 Bean 定义
+        val restored = LinkedHashMap<String, BeanDefinition>()
+        for (record in this.definitions) {
+            val existing = registry.getDefinition(record.name) ?: restored[record.name]
+            if (record.kind == FactoryKind.INDEX) {
+                // 由配置类的 Bean 索引提供 Bean 定义
+                val configuration = existing ?: throw ClassNotFoundException("Cannot find configuration '${record.name}'")
+                val index = BeanIndexes.find(configuration.type) ?: throw ClassNotFoundException("Cannot find bean index of '${configuration.type.name}'")
+                for (definition in index.getDefinitions(configuration)) {
+                    if (registry.getDefinition(definition.name) == null && !restored.containsKey(definition.name)) {
+                        restored[definition.name] = definition
+                    }
+                }
+                continue
+            }
+            if (existing != null) {
+                continue
+            }
+            restored[record.name] = this.restoreDefinition(record, classLoader) { name -> registry.getDefinition(name) ?: restored[name] }
+        }
+
+        // 注入点。类型已不存在时忽略，由 AutowiredProcessor 重新扫描
+        val injectionPoints = mutableListOf<Pair<Class<*>, List<InjectionPoint>>>()
+        for ((typeName, points) in this.injectionPoints) {
+            try {
+                val type = resolveClass(typeName, classLoader)
+                injectionPoints.add(type to points.map { it.toInjectionPoint(classLoader) })
+            } catch (ignored: ReflectiveOperationException) {
+            }
+        }
+
+        // 注册过程中出现冲突时，移除本次已注册的 Bean 定义
+        val registered = mutableListOf<String>()
+        try {
+            for (definition in restored.values) {
+                registry.registerDefinition(definition)
+                registered.add(definition.name)
+            }
+        } catch (ex: Exception) {
+            registered.forEach(registry::removeDefinition)
+            throw ex
+        }
+        injectionPoints.forEach { (type, points) -> autowiredProcessor.registerInjectionPoints(type, points) }
+        if (beanFactory is GenericBeanFactory) {
+            beanFactory.instantiationDependencies = this.dependencies
+            beanFactory.instantiationOrder = this.creationOrder
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun restoreDefinition(record: DefinitionRecord, classLoader: ClassLoader, lookup: (String) -> BeanDefinition?): BeanDefinition {
+        val type = resolveClass(record.typeName, classLoader) as Class<Any>
+        val parameterTypes = record.parameterTypes.map { resolveClass(it, classLoader) }.toTypedArray()
+        val factory = when (record.kind) {
+            FactoryKind.CONSTRUCTOR -> ConstructorInvokingFactoryBean(type, type.getConstructor(*parameterTypes))
+            FactoryKind.METHOD -> {
+                val configuration = lookup(record.configuration!!) ?: throw ClassNotFoundException("Cannot find configuration '${record.configuration}'")
+                MethodInvokingFactoryBean(BeanReference(configuration), configuration.type.getMethod(record.methodName!!, *parameterTypes))
+            }
+            FactoryKind.INDEX -> throw IllegalStateException("Indexed definitions are restored by bean index")
+        }
+        return RootBeanDefinition(
+            type = type,
+            name = record.name,
+            singleton = record.singleton,
+            lazyInit = record.lazyInit,
+            dependsOn = record.dependsOn,
+            primary = record.primary,
+            factory = factory,
+            mainThread = record.mainThread,
+            scope = record.scope
+        )
+    }
+
+    /**
+     * 写入快照
+     */
+    @Throws(IOException::class)
+    fun writeTo(output: OutputStream) {
+        val data = DataOutputStream(BufferedOutputStream(output))
+        data.writeInt(MAGIC)
+        data.writeInt(FORMAT_VERSION)
+        data.writeUTF(this.key)
+
+        data.writeInt(this.definitions.size)
+        for (record in this.definitions) {
+            record.writeTo(data)
+        }
+
+        data.writeInt(this.injectionPoints.size)
+        for ((type, points) in this.injectionPoints) {
+            data.writeUTF(type)
+            data.writeInt(points.size)
+            points.forEach { it.writeTo(data) }
+        }
+
+        data.writeInt(this.dependencies.size)
+        for ((name, dependencies) in this.dependencies) {
+            data.writeUTF(name)
+            writeStrings(data, dependencies)
+        }
+
+        writeStrings(data, this.creationOrder)
+        data.flush()
+    }
+
+    /**
+     * Bean 工厂的类型
+     */
+    private enum class FactoryKind {
+        /**
+         * 通过构造函数创建
+         */
+        CONSTRUCTOR,
+
+        /**
+         * 通过配置类的 @Bean 方法创建
+         */
+        METHOD,
+
+        /**
+         * 配置类的 Bean 定义由 Bean 索引提供
+         */
+        INDEX
+    }
+
+    /**
+     * Bean 定义记录
+     */
+    private class DefinitionRecord(
+        val kind: FactoryKind,
+        val name: String,
+        val typeName: String = "",
+        val singleton: Boolean = true,
+        val lazyInit: Boolean = false,
+        val dependsOn: List<String> = emptyList(),
+        val primary: Boolean = false,
+        val mainThread: Boolean = false,
+        val scope: String = "",
+        val configuration: String? = null,
+        val methodName: String? = null,
+        val parameterTypes: List<String> = emptyList()
+    ) {
+        fun writeTo(data: DataOutputStream) {
+            data.writeByte(this.kind.ordinal)
+            data.writeUTF(this.name)
+            if (this.kind == FactoryKind.INDEX) {
+                return
+            }
+            data.writeUTF(this.typeName)
+            data.writeBoolean(this.singleton)
+            data.writeBoolean(this.lazyInit)
+            writeStrings(data, this.dependsOn)
+            data.writeBoolean(this.primary)
+            data.writeBoolean(this.mainThread)
+            data.writeUTF(this.scope)
+            if (this.kind == FactoryKind.METHOD) {
+                data.writeUTF(this.configuration!!)
+                data.writeUTF(this.methodName!!)
+            }
+            writeStrings(data, this.parameterTypes)
+        }
+
+        companion object {
+            fun readFrom(data: DataInputStream): DefinitionRecord {
+                val kind = FactoryKind.values()[data.readUnsignedByte()]
+                val name = data.readUTF()
+                if (kind == FactoryKind.INDEX) {
+                    return DefinitionRecord(kind, name)
+                }
+                val typeName = data.readUTF()
+                val singleton = data.readBoolean()
+                val lazyInit = data.readBoolean()
+                val dependsOn = readStrings(data)
+                val primary = data.readBoolean()
+                val mainThread = data.readBoolean()
+                val scope = data.readUTF()
+                var configuration: String? = null
+                var methodName: String? = null
+                if (kind == FactoryKind.METHOD) {
+                    configuration = data.readUTF()
+                    methodName = data.readUTF()
+                }
+                val parameterTypes = readStrings(data)
+                return DefinitionRecord(kind, name, typeName, singleton, lazyInit, dependsOn, primary, mainThread, scope, configuration, methodName, parameterTypes)
+            }
+        }
+    }
+
+    /**
+     * 注入点记录
+     */
+    private class InjectionPointRecord(
+        val kind: InjectionPoint.Kind,
+        val name: String,
+        val types: List<String>,
+        val qualifiers: List<String?>,
+        val required: List<Boolean>
+    ) {
+        constructor(point: InjectionPoint) : this(point.kind, point.name, point.types.map { it.name }, point.qualifiers.asList(), point.required.asList())
+
+        fun toInjectionPoint(classLoader: ClassLoader): InjectionPoint {
+            return InjectionPoint(
+                this.kind,
+                this.name,
+                this.types.map { resolveClass(it, classLoader) }.toTypedArray(),
+                this.qualifiers.toTypedArray(),
+                this.required.toBooleanArray()
+            )
+        }
+
+        fun writeTo(data: DataOutputStream) {
+            data.writeByte(this.kind.ordinal)
+            data.writeUTF(this.name)
+            data.writeInt(this.types.size)
+            for (index in this.types.indices) {
+                data.writeUTF(this.types[index])
+                data.writeUTF(this.qualifiers[index] ?: "")
+                data.writeBoolean(this.required[index])
+            }
+        }
+
+        companion object {
+            fun readFrom(data: DataInputStream): InjectionPointRecord {
+                val kind = InjectionPoint.Kind.values()[data.readUnsignedByte()]
+                val name = data.readUTF()
+                val size = data.readInt()
+                val types = ArrayList<String>(size)
+                val qualifiers = ArrayList<String?>(size)
+                val required = ArrayList<Boolean>(size)
+                repeat(size) {
+                    types.add(data.readUTF())
+                    qualifiers.add(data.readUTF().ifEmpty { null })
+                    required.add(data.readBoolean())
+                }
+                return InjectionPointRecord(kind, name, types, qualifiers, required)
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * 文件标识
+         */
+        private const val MAGIC = 0x43534E50
+
+        /**
+         * 快照格式版本，格式发生变化时需要递增
+         */
+        private const val FORMAT_VERSION = 1
+
+        /**
+         * 基本类型
+         */
+        private val PRIMITIVES = listOf(
+            Boolean::class.javaPrimitiveType!!, Byte::class.javaPrimitiveType!!, Char::class.javaPrimitiveType!!, Short::class.javaPrimitiveType!!,
+            Int::class.javaPrimitiveType!!, Long::class.javaPrimitiveType!!, Float::class.javaPrimitiveType!!, Double::class.javaPrimitiveType!!
+        ).associateBy { it.name }
+
+        /**
+         * 记录应用上下文快照
+         *
+         * @param key 快照键
+         * @param beanFactory Bean 工厂
+         * @param configurationDefinitions 配置类解析出来的 Bean 定义名称
+         * @param autowiredProcessor 用于获取已解析的注入点
+         * @return 快照。存在无法记录的 Bean 定义（如用户自定义的 FactoryBean）时返回 null
+         */
+        @JvmStatic
+        fun capture(key: String, beanFactory: ConfigurableBeanFactory, configurationDefinitions: Collection<String>, autowiredProcessor: AutowiredProcessor): ContextSnapshot? {
+            val registry = beanFactory.registry
+            val names = configurationDefinitions.toSet()
+
+            val definitions = mutableListOf<DefinitionRecord>()
+            for (name in registry.getDefinitionNames()) {
+                val definition = registry.getDefinition(name) ?: continue
+                if (name in names) {
+                    val factory = definition.factory
+                    when {
+                        // 由 Bean 索引提供的定义，随配置类一起恢复
+                        factory is IndexedFactoryBean<*> -> {}
+                        factory is ConstructorInvokingFactoryBean<*> -> definitions.add(
+                            record(definition, FactoryKind.CONSTRUCTOR, parameterTypes = factory.getConstructor().parameterTypes.map { it.name })
+                        )
+                        factory is MethodInvokingFactoryBean && factory.instance is BeanReference -> definitions.add(
+                            record(definition, FactoryKind.METHOD, factory.instance.definition.name, factory.method.name, factory.method.parameterTypes.map { it.name })
+                        )
+                        else -> return null
+                    }
+                }
+                if (definition.type.isAnnotationPresent(Configuration::class.java) && BeanIndexes.find(definition.type) != null) {
+                    definitions.add(DefinitionRecord(FactoryKind.INDEX, name))
+                }
+            }
+
+            val injectionPoints = LinkedHashMap<String, List<InjectionPointRecord>>()
+            for ((type, points) in autowiredProcessor.getResolvedInjectionPoints()) {
+                if (Proxy.isProxyClass(type) || type.isSynthetic || type.isAnonymousClass || type.isLocalClass) {
+                    // 无法通过类名重新加载
+                    continue
+                }
+                injectionPoints[type.name] = points.map { InjectionPointRecord(it) }
+            }
+
+            val factory = beanFactory as? GenericBeanFactory
+            return ContextSnapshot(key, definitions, injectionPoints, factory?.instantiationDependencies.orEmpty(), factory?.instantiationOrder.orEmpty())
+        }
+
+        private fun record(definition: BeanDefinition, kind: FactoryKind, configuration: String? = null, methodName: String? = null, parameterTypes: List<String>): DefinitionRecord {
+            return DefinitionRecord(
+                kind, definition.name, definition.type.name, definition.singleton, definition.lazyInit, definition.dependsOn,
+                definition.primary, definition.mainThread, definition.scope, configuration, methodName, parameterTypes
+            )
+        }
+
+        /**
+         * 读取快照
+         *
+         * @param key 快照键
+         * @return 快照。文件格式或快照键不一致时返回 null
+         */
+        @JvmStatic
+        @Throws(IOException::class)
+        fun readFrom(input: InputStream, key: String): ContextSnapshot? {
+            val data = DataInputStream(BufferedInputStream(input))
+            if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION || data.readUTF() != key) {
+                return null
+            }
+
+            val definitions = List(data.readInt()) { DefinitionRecord.readFrom(data) }
+
+            val injectionPoints = LinkedHashMap<String, List<InjectionPointRecord>>()
+            repeat(data.readInt()) {
+                val type = data.readUTF()
+                injectionPoints[type] = List(data.readInt()) { InjectionPointRecord.readFrom(data) }
+            }
+
+            val dependencies = LinkedHashMap<String, Set<String>>()
+            repeat(data.readInt()) {
+                dependencies[data.readUTF()] = readStrings(data).toSet()
+            }
+
+            val creationOrder = readStrings(data)
+            return ContextSnapshot(key, definitions, injectionPoints, dependencies, creationOrder)
+        }
+
+        private fun resolveClass(name: String, classLoader: ClassLoader): Class<*> {
+            return PRIMITIVES[name] ?: Class.forName(name, false, classLoader)
+        }
+
+        private fun writeStrings(data: DataOutputStream, values: Collection<String>) {
+            data.writeInt(values.size)
+            values.forEach(data::writeUTF)
+        }
+
+        private fun readStrings(data: DataInputStream): List<String> {
+            return List(data.readInt()) { data.readUTF() }
+        }
+    }
+}
@@ -28,30 +28,244 @@ import central.bean.context.ApplicationEvent
 import central.bean.context.ApplicationListener
 import central.bean.context.ApplicationPublisher
 import central.bean.factory.BeanFactory
+import java.lang.reflect.ParameterizedType
+import java.lang.reflect.Type
+import java.lang.reflect.TypeVariable
+import java.lang.reflect.WildcardType
+import java.util.Collections
+import java.util.IdentityHashMap
+import java.util.concurrent.ConcurrentHashMap
 
 /**
  * 标准事件广播器
  *
+ * 添加监听器时解析一次监听器的事件类型（[ApplicationListener] 的泛型参数），发布事件时按事件类型建立监听器索引，
+ * 因此每次发布只需要查找一次索引，不需要逐个判断监听器是否支持该事件。添加或移除监听器时会创建新的索引。
+ *
+ * 通过 [addApplicationListenerBean] 添加的监听器，在第一次收到匹配的事件时才会从 [beanFactory] 中获取
+ *
  * @author Alan Yeh
  * @since 2023/02/06
  */
-class GenericApplicationPublisher(private val beanFactory: BeanFactory): ApplicationPublisher {
+open class GenericApplicationPublisher(private val beanFactory: BeanFactory) : ApplicationPublisher {
+
+    /**
+     * 监听器索引。写入时复制，发布事件时不需要加锁
+     */
+    @Volatile
+    private var listeners = ListenerIndex(emptyList())
+
     override fun publishEvent(event: ApplicationEvent) {
+        val listeners = this.listeners
+        for (registration in listeners.getRegistrations(event.javaClass)) {
+            val listener = registration.resolve(this.beanFactory, listeners.instances) ?: continue
+            this.invokeListener(listener, event, registration.exactType)
+        }
+    }
+
+    /**
+     * 执行监听器
+     *
+     * @param listener 监听器
+     * @param event 事件
+     * @param exactType 是否已解析出监听器的事件类型。没有解析出事件类型的监听器会收到所有事件，因此需要忽略将事件转换为监听器的事件类型时的异常
+     */
+    @Suppress("UNCHECKED_CAST")
+    protected open fun invokeListener(listener: ApplicationListener<*>, event: ApplicationEvent, exactType: Boolean) {
+        try {
+            (listener as ApplicationListener<ApplicationEvent>).onApplicationEvent(event)
+        } catch (ex: ClassCastException) {
+            if (exactType || !isEventCastFailure(ex, event.javaClass)) {
+                throw ex
+            }
+            // 监听器不支持该事件
+        }
+    }
+
+    /**
+     * 判断异常是否由事件本身的类型转换引起，而不是监听器内部的其它类型转换
+     *
+     * 不同的运行时中异常信息的格式不同，可能以事件的类名、"class " 加类名或模块名加类名开头
+     */
+    private fun isEventCastFailure(ex: ClassCastException, eventType: Class<*>): Boolean {
+        val message = ex.message ?: return false
+        if (message.startsWith(eventType.name) || message.startsWith(eventType.toString())) {
+            return true
+        }
+        val index = message.indexOf('/')
+        return index >= 0 && message.startsWith(eventType.name, index + 1)
     }
 
     override fun addApplicationListener(listener: ApplicationListener<*>) {
+        this.update { registrations ->
+            if (registrations.none { it.listener === listener }) {
+                val eventType = resolveEventType(listener.javaClass)
+                registrations.add(ListenerRegistration(eventType ?: ApplicationEvent::class.java, eventType != null, listener, null))
+            }
+        }
     }
 
     override fun addApplicationListenerBean(listenerBeanName: String) {
+        this.update { registrations ->
+            if (registrations.none { it.beanName == listenerBeanName }) {
+                // 根据 Bean 的类型解析事件类型，不需要创建 Bean
+                val eventType = this.beanFactory.getType(listenerBeanName)?.let { resolveEventType(it) }
+                registrations.add(ListenerRegistration(eventType ?: ApplicationEvent::class.java, eventType != null, null, listenerBeanName))
+            }
+        }
     }
 
     override fun removeApplicationListener(listener: ApplicationListener<*>) {
+        this.update { registrations -> registrations.removeAll { it.listener === listener } }
     }
 
     override fun removeApplicationListenerBean(listenerBeanName: String) {
+        this.update { registrations -> registrations.removeAll { it.beanName == listenerBeanName } }
     }
 
     override fun removeAllListeners() {
+        this.update { registrations -> registrations.clear() }
+    }
+
+    /**
+     * 监听器被移除后调用。以 Bean 名称添加的监听器，只有已经获取过该 Bean 时才会调用
+     *
+     * @param listener 被移除的监听器
+     */
+    protected open fun onListenerRemoved(listener: ApplicationListener<*>) {
+    }
+
+    /**
+     * 修改监听器，并创建新的索引
+     */
+    private fun update(action: (MutableList<ListenerRegistration>) -> Unit) {
+        val removed = mutableListOf<ApplicationListener<*>>()
+        synchronized(this) {
+            val previous = this.listeners.registrations
+            val registrations = previous.toMutableList()
+            action(registrations)
+            this.listeners = ListenerIndex(registrations)
+
+            // 同一个监听器可能同时以对象和 Bean 名称添加，只有全部移除后才算被移除
+            val remaining = Collections.newSetFromMap(IdentityHashMap<ApplicationListener<*>, Boolean>())
+            registrations.mapNotNullTo(remaining) { it.resolved }
+            for (registration in previous) {
+                val listener = registration.resolved ?: continue
+                if (remaining.add(listener)) {
+                    removed.add(listener)
+                }
+            }
+        }
+        removed.forEach(this::onListenerRemoved)
     }
 
-}
\ No newline at end of file
+    /**
+     * 监听器索引
+     *
+     * @param registrations 所有监听器，按添加顺序排列
+     */
+    private class ListenerIndex(val registrations: List<ListenerRegistration>) {
+        /**
+         * 直接添加的监听器对象，用于排除以 Bean 名称添加的同一个监听器
+         */
+        val instances: Set<ApplicationListener<*>> = Collections.newSetFromMap(IdentityHashMap<ApplicationListener<*>, Boolean>()).also { instances ->
+            this.registrations.mapNotNullTo(instances) { it.listener }
+        }
+
+        /**
+         * event type -> registrations
+         */
+        private val cache = ConcurrentHashMap<Class<*>, Array<ListenerRegistration>>()
+
+        /**
+         * 获取支持指定事件类型的监听器
+         */
+        fun getRegistrations(eventType: Class<*>): Array<ListenerRegistration> {
+            return this.cache[eventType] ?: this.cache.computeIfAbsent(eventType) { type ->
+                this.registrations.filter { it.eventType.isAssignableFrom(type) }.toTypedArray()
+            }
+        }
+    }
+
+    /**
+     * 监听器
+     *
+     * @param eventType 监听器的事件类型
+     * @param exactType 是否已解析出监听器的事件类型
+     * @param listener 直接添加的监听器
+     * @param beanName 以 Bean 名称添加的监听器
+     */
+    private class ListenerRegistration(val eventType: Class<*>, val exactType: Boolean, val listener: ApplicationListener<*>?, val beanName: String?) {
+        /**
+         * 已获取的监听器
+         */
+        @Volatile
+        var resolved: ApplicationListener<*>? = listener
+            private set
+
+        /**
+         * 获取监听器，如果监听器是以 Bean 名称添加的，并且同时直接添加了该对象，则返回 null，由直接添加的那一项负责执行
+         */
+        fun resolve(beanFactory: BeanFactory, instances: Set<ApplicationListener<*>>): ApplicationListener<*>? {
+            val listener = this.resolved ?: beanFactory.getBean(this.beanName!!, ApplicationListener::class.java)?.also { this.resolved = it } ?: return null
+            return if (this.beanName != null && listener in instances) null else listener
+        }
+    }
+
+    companion object {
+        /**
+         * 监听器类型 -> 事件类型
+         */
+        private val eventTypes = ConcurrentHashMap<Class<*>, Any>()
+
+        private val UNRESOLVED = Any()
+
+        /**
+         * 解析监听器的事件类型。如果无法解析，则返回 null
+         */
+        internal fun resolveEventType(listenerType: Class<*>): Class<*>? {
+            val eventType = eventTypes[listenerType] ?: eventTypes.computeIfAbsent(listenerType) {
+                findEventType(it, emptyMap())?.let { type -> toClass(type) } ?: UNRESOLVED
+            }
+            return eventType as? Class<*>
+        }
+
+        /**
+         * 沿着继承关系查找 [ApplicationListener] 的泛型参数
+         *
+         * @param type 当前类型
+         * @param bindings 子类中已确定的泛型变量
+         */
+        private fun findEventType(type: Type, bindings: Map<TypeVariable<*>, Type>): Type? {
+            val raw: Class<*>
+            val variables = HashMap<TypeVariable<*>, Type>()
+            when (type) {
+                is Class<*> -> raw = type
+                is ParameterizedType -> {
+                    raw = type.rawType as Class<*>
+                    raw.typeParameters.zip(type.actualTypeArguments).forEach { (variable, argument) ->
+                        variables[variable] = if (argument is TypeVariable<*>) bindings[argument] ?: argument else argument
+                    }
+                }
+                else -> return null
+            }
+            if (raw == ApplicationListener::class.java) {
+                return variables[raw.typeParameters[0]]
+            }
+            for (parent in raw.genericInterfaces) {
+                findEventType(parent, variables)?.let { return it }
+            }
+            return raw.genericSuperclass?.let { findEventType(it, variables) }
+        }
+
+        private fun toClass(type: Type): Class<*>? {
+            return when (type) {
+                is Class<*> -> type
+                is ParameterizedType -> type.rawType as? Class<*>
+                is TypeVariable<*> -> type.bounds.firstOrNull()?.let { toClass(it) }
+                is WildcardType -> type.upperBounds.firstOrNull()?.let { toClass(it) }
+                else -> null
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.bean.aop.metrics.LatencySnapshot
+import central.bean.context.event.EventDeliveryMode
+
+/**
+ * 监听器的事件投递统计信息
+ *
+ * @param listener 监听器名称（类名）
+ * @param mode 投递方式
+ * @param queueDepth 等待执行的事件数量
+ * @param deliveredCount 已执行的事件数量
+ * @param failedCount 执行失败的事件数量
+ * @param latency 监听器的执行耗时
+ *
+ * @author Alan Yeh
+ * @see AsyncApplicationPublisher
+ * @since 2026/10/17
+ */
+data class ListenerStatistics(
+    val listener: String,
+    val mode: EventDeliveryMode,
+    val queueDepth: Int,
+    val deliveredCount: Long,
+    val failedCount: Long,
+    val latency: LatencySnapshot
+)
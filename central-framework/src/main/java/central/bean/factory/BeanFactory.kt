@@ -24,6 +24,8 @@
 
 package central.bean.factory
 
+import central.bean.factory.config.DependencyDescriptor
+
 /**
  * Bean Factory
  *
@@ -71,6 +73,22 @@ interface BeanFactory {
         return getBean(requiredType) ?: throw NoSuchBeanException("Cannot find bean with type '${requiredType.name}'")
     }
 
+    /**
+     * 解析依赖，用于获取需要注入的 Bean。如果没有找到符合条件的 Bean，则返回 null
+     *
+     * 与 [getBean] 不同的是，Bean 工厂可以返回延迟解析的代理对象（如依赖的 Bean 是延迟初始化的单例），
+     * 或者返回 [BeanProvider]（依赖的类型是 BeanProvider 时）
+     *
+     * @param descriptor 依赖描述
+     */
+    fun resolveDependency(descriptor: DependencyDescriptor): Any? {
+        return if (descriptor.qualifier != null) {
+            this.getBean(descriptor.qualifier, descriptor.type)
+        } else {
+            this.getBean(descriptor.type)
+        }
+    }
+
     /**
      * 获取所有符合指定类型的 Bean
      *
@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory
+
+/**
+ * Bean 提供者
+ *
+ * 注入 BeanProvider<T> 时，Bean 工厂不会立即获取目标 Bean，而是在调用 [getObject] 或 [getIfAvailable] 时才获取，
+ * 因此可以用于注入延迟初始化的 Bean，或者注入可能不存在的 Bean
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+interface BeanProvider<T> {
+    /**
+     * 获取 Bean，如果 Bean 不存在，将抛出 NoSuchBeanException
+     */
+    @Throws(NoSuchBeanException::class)
+    fun getObject(): T
+
+    /**
+     * 获取 Bean，如果 Bean 不存在，则返回 null
+     */
+    fun getIfAvailable(): T?
+}
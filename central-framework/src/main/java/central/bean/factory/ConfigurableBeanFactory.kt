@@ -26,7 +26,11 @@ package central.bean.factory
 
 import central.bean.factory.config.BeanDefinitionRegistry
 import central.bean.factory.config.BeanPostProcessor
+import central.bean.factory.config.BeanScope
+import central.bean.factory.config.DestructionReport
+import central.bean.factory.metrics.ApplicationStartup
 import central.convert.Converter
+import java.util.concurrent.TimeUnit
 
 /**
  * 可配置的 Bean 工厂
@@ -50,6 +54,18 @@ interface ConfigurableBeanFactory: BeanFactory {
      * Bean 定义注册中心
      */
     var registry: BeanDefinitionRegistry
+
+    /**
+     * 启动过程记录器，用于记录 Bean 的创建过程
+     */
+    var applicationStartup: ApplicationStartup
+
+    /**
+     * 父 Bean 工厂
+     *
+     * 在当前 Bean 工厂中找不到 Bean 时，继续从父 Bean 工厂中查找。按类型列举 Bean 的方法（如 [BeanFactory.getBeansOfType]）只查找当前 Bean 工厂
+     */
+    var parentBeanFactory: BeanFactory?
     
     /**
      * 销毁 Bean
@@ -63,9 +79,20 @@ interface ConfigurableBeanFactory: BeanFactory {
 
     /**
      * 销毁所有单例
+     *
+     * 按依赖关系的逆序销毁，依赖其它 Bean 的单例先销毁
      */
     fun destroySingletons()
 
+    /**
+     * 在指定的时间内销毁所有单例，超时后不再销毁剩余的单例
+     *
+     * @param timeout 截止时间
+     * @param unit 时间单位
+     * @return 销毁结果，包括每个 Bean 的销毁耗时
+     */
+    fun destroySingletons(timeout: Long, unit: TimeUnit): DestructionReport
+
     /**
      * 清空 Bean
      */
@@ -78,6 +105,22 @@ interface ConfigurableBeanFactory: BeanFactory {
      */
     fun preInstantiateSingletons()
 
+    /**
+     * 注册作用域
+     *
+     * @param name 作用域名称
+     * @param scope 作用域
+     * @see central.bean.factory.config.ScopeTarget
+     */
+    fun registerScope(name: String, scope: BeanScope)
+
+    /**
+     * 获取已注册的作用域。如果没有找到指定的作用域，则返回 null
+     *
+     * @param name 作用域名称
+     */
+    fun getRegisteredScope(name: String): BeanScope?
+
     /**
      * 添加 Bean 后置处理器
      */
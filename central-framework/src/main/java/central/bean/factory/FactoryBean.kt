@@ -24,6 +24,8 @@
 
 package central.bean.factory
 
+import central.bean.factory.config.DependencyDescriptor
+
 /**
  * Bean 工厂
  *
@@ -50,4 +52,11 @@ interface FactoryBean<T> {
      * 是否延迟初始化
      */
     val lazy: Boolean
+
+    /**
+     * 获取创建 Bean 时需要的依赖（如构造函数的参数），用于 Bean 工厂建立 Bean 之间的依赖关系
+     */
+    fun getDependencies(): List<DependencyDescriptor> {
+        return emptyList()
+    }
 }
\ No newline at end of file
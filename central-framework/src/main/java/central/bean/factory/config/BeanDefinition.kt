@@ -35,8 +35,10 @@ import central.bean.factory.FactoryBean
 interface BeanDefinition {
     /**
      * Bean 类型
+     *
+     * 注册后，Bean 定义注册器会按该类型建立索引，因此不可修改
      */
-    var type: Class<*>
+    val type: Class<*>
 
     /**
      * 称称
@@ -48,6 +50,14 @@ interface BeanDefinition {
      */
     var singleton: Boolean
 
+    /**
+     * 作用域名称
+     *
+     * @see ScopeTarget
+     */
+    val scope: String
+        get() = if (this.singleton) ScopeTarget.SINGLETON else ScopeTarget.PROTOTYPE
+
     /**
      * 是否延迟初始化
      */
@@ -68,6 +78,14 @@ interface BeanDefinition {
      */
     var factory: FactoryBean<*>
 
+    /**
+     * 是否需要在主线程中初始化
+     *
+     * @see MainThreadInit
+     */
+    val mainThread: Boolean
+        get() = false
+
     /**
      * 当前的 Bean 定义是否与指定的类型匹配
      */
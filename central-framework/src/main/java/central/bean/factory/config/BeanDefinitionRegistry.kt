@@ -65,6 +65,17 @@ interface BeanDefinitionRegistry {
      */
     fun getDefinitions(predicate: (BeanDefinition) -> Boolean): List<BeanDefinition>
 
+    /**
+     * 获取与指定类型匹配（包括父类及接口）的 Bean 定义名称
+     *
+     * 默认实现会遍历所有 Bean 定义，实现类应尽量通过索引返回结果
+     *
+     * @param type Bean 类型
+     */
+    fun getDefinitionNamesForType(type: Class<*>): List<String> {
+        return this.getDefinitions { definition -> definition.isTypeMatched(type) }.map { it.name }
+    }
+
     /**
      * 是否包含指定的 Bean 定义
      *
@@ -34,6 +34,18 @@ import central.bean.factory.InitializingBean
  * @since 2022/12/19
  */
 interface BeanPostProcessor {
+    /**
+     * 判断本后置处理器是否需要处理指定类型的 Bean
+     *
+     * Bean 工厂会按类型缓存需要执行的后置处理器，不支持的类型不会再调用本处理器的其它方法。
+     * 只处理特定接口或注解的后置处理器应重写本方法，以减少创建 Bean 时的无效调用
+     *
+     * @param beanType Bean 类型
+     */
+    fun supports(beanType: Class<*>): Boolean {
+        return true
+    }
+
     /**
      * 在 Bean 初始化前（如调用 [InitializingBean.initialize] 方法前）调用本方法
      *
@@ -53,4 +65,13 @@ interface BeanPostProcessor {
     fun processAfterInitialization(name: String, bean: Any): Any {
         return bean
     }
+
+    /**
+     * 获取本后置处理器处理指定类型的 Bean 时需要的依赖（如需要注入的字段），用于 Bean 工厂建立 Bean 之间的依赖关系
+     *
+     * @param beanType Bean 类型
+     */
+    fun getDependencies(beanType: Class<*>): List<DependencyDescriptor> {
+        return emptyList()
+    }
 }
\ No newline at end of file
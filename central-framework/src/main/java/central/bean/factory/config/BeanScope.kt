@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.config
+
+/**
+ * 作用域
+ *
+ * 用于管理单例、原型以外的作用域中的 Bean，如线程作用域。作用域需要通过 ConfigurableBeanFactory.registerScope 注册到 Bean 工厂
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see ScopeTarget
+ */
+interface BeanScope {
+    /**
+     * 从作用域中获取 Bean。如果作用域中还没有该 Bean，则通过 factory 创建并保存到作用域中
+     *
+     * @param name Bean 名称
+     * @param factory 用于创建 Bean
+     */
+    fun get(name: String, factory: () -> Any): Any
+
+    /**
+     * 从作用域中移除 Bean，并执行该 Bean 的销毁回调
+     *
+     * @param name Bean 名称
+     * @return 被移除的 Bean，如果作用域中没有该 Bean，则返回 null
+     */
+    fun remove(name: String): Any?
+
+    /**
+     * 注册销毁回调，在 Bean 被移出作用域时执行
+     *
+     * @param name Bean 名称
+     * @param callback 销毁回调
+     */
+    fun registerDestructionCallback(name: String, callback: Runnable)
+}
@@ -27,42 +27,80 @@ package central.bean.factory.config
 import central.bean.context.ApplicationContext
 import central.bean.context.ApplicationContextAware
 import central.bean.factory.*
-import central.convert.Converter
 import java.lang.reflect.Constructor
 
 /**
  * 通过构造函数创建 Bean
  *
+ * @param type Bean 类型
+ * @param preferredConstructor 已确定的构造函数（如从上下文快照中恢复），为空时根据注解与参数数量选择
+ *
  * @author Alan Yeh
  * @since 2022/12/22
  */
-class ConstructorInvokingFactoryBean<T>(private val type: Class<T>) : FactoryBean<T>, ApplicationContextAware {
+class ConstructorInvokingFactoryBean<T> @JvmOverloads constructor(
+    private val type: Class<T>,
+    private val preferredConstructor: Constructor<T>? = null
+) : FactoryBean<T>, ApplicationContextAware {
 
     override lateinit var applicationContext: ApplicationContext
 
     /**
      * 标记该实例是否是单例
      */
-    override val singleton: Boolean = type.getAnnotation(Scope::class.java)?.singleton ?: true
+    override val singleton: Boolean = ScopeTarget.resolve(type.getAnnotation(Scope::class.java)) == ScopeTarget.SINGLETON
 
     /**
      * 标记该实例是否延迟初始化（在需要时才初始化）
      */
-    override val lazy: Boolean = type.getAnnotation(LazyInit::class.java)?.value ?: true
+    override val lazy: Boolean = type.getAnnotation(LazyInit::class.java)?.value ?: false
+
+    /**
+     * 创建计划，在第一次获取 Bean 时构建
+     */
+    @Volatile
+    private var plan: CreationPlan<T>? = null
 
     override fun getBean(): T {
+        val plan = this.plan ?: this.buildPlan()
+
+        // 创建实例
+        return plan.constructor.newInstance(*plan.parameters.resolve())
+    }
+
+    /**
+     * 构建创建计划
+     */
+    @Synchronized
+    private fun buildPlan(): CreationPlan<T> {
+        this.plan?.let { return it }
+
         // 选择构造函数
         val constructor = this.determineConstructor(type)
 
-        // 构建参数列表
-        val parameters = this.resolveParameters(constructor)
+        // 构建参数解析计划
+        return CreationPlan(constructor, ParameterPlan.build(this.applicationContext, constructor)).also { this.plan = it }
+    }
 
-        // 创建实例
-        return constructor.newInstance(*parameters)
+    /**
+     * 创建计划
+     *
+     * @param constructor 选中的构造函数
+     * @param parameters 参数解析计划
+     */
+    private class CreationPlan<T>(val constructor: Constructor<T>, val parameters: ParameterPlan)
+
+    /**
+     * 获取用于创建 Bean 的构造函数
+     */
+    fun getConstructor(): Constructor<T> {
+        return this.plan?.constructor ?: this.determineConstructor(this.type)
     }
 
     @Suppress("UNCHECKED_CAST")
     private fun determineConstructor(type: Class<T>): Constructor<T> {
+        this.preferredConstructor?.let { return it }
+
         // 默认无参构造函数
         val candidates = mutableListOf<Constructor<*>>()
 
@@ -80,44 +118,14 @@ class ConstructorInvokingFactoryBean<T>(private val type: Class<T>) : FactoryBea
 
         // 优先使用带 @Autowired 注解的构造函数
         // 其次使用参数多的构造函数
-        candidates.sortedBy { it.parameterCount + if (it.isAnnotationPresent(Autowired::class.java)) 10000 else 0 }
-
-        return candidates.last() as Constructor<T>
+        return candidates.maxBy { it.parameterCount + if (it.isAnnotationPresent(Autowired::class.java)) 10000 else 0 } as Constructor<T>
     }
 
-    private fun resolveParameters(constructor: Constructor<T>): Array<Any?> {
-        val converter = this.applicationContext.requireBean(Converter::class.java)
-
-        val parameters = arrayOfNulls<Any>(constructor.parameterCount)
-
-        constructor.parameters.forEachIndexed { index, parameter ->
-            val value = parameter.getAnnotation(Value::class.java)
-            if (value != null) {
-                val str = if (value.required) {
-                    applicationContext.environment.resolveRequiredPlaceholders(value.value)
-                } else {
-                    applicationContext.environment.resolvePlaceholders(value.value)
-                }
-
-                parameters[index] = converter.convert(str, parameter.type)
-            } else {
-                val autowired = parameter.getAnnotation(Autowired::class.java)
-                val qualifier = parameter.getAnnotation(Qualifier::class.java)
-                if (qualifier != null) {
-                    // 根据实体名获取 Bean
-                    parameters[index] = this.applicationContext.getBean(qualifier.value, parameter.type)
-                } else {
-                    // 根据类型获取 Bean
-                    parameters[index] = this.applicationContext.getBean(parameter.type)
-                }
-
-                if (parameters[index] == null && autowired?.required == true) {
-                    throw BeanCreationException("Cannot find any beans for parameter [${parameter.name}] in constructor [$constructor]")
-                }
-            }
-        }
-
-        return parameters
+    override fun getDependencies(): List<DependencyDescriptor> {
+        // 通过 @Value 注入的参数不依赖其它 Bean
+        return this.getConstructor().parameters
+            .filter { !it.isAnnotationPresent(Value::class.java) }
+            .map { DependencyDescriptor(it.type, it.getAnnotation(Qualifier::class.java)?.value, it.getAnnotation(Autowired::class.java)?.required == true) }
     }
 
     override fun getBeanType(): Class<T> {
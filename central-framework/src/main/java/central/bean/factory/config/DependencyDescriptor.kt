@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.config
+
+import java.lang.reflect.Type
+
+/**
+ * 依赖描述
+ *
+ * 用于描述 Bean 在创建或注入时需要的其它 Bean，Bean 工厂根据这些描述建立 Bean 之间的依赖关系
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class DependencyDescriptor @JvmOverloads constructor(
+    /**
+     * 依赖的类型
+     */
+    val type: Class<*>,
+    /**
+     * 依赖的 Bean 名称，为空时按类型查找
+     */
+    val qualifier: String? = null,
+    /**
+     * 是否必须
+     */
+    val required: Boolean = true,
+    /**
+     * 依赖的泛型类型，用于解析 BeanProvider<T> 等带泛型参数的依赖
+     */
+    val genericType: Type = type
+) {
+    override fun toString(): String {
+        return "${DependencyDescriptor::class.java.simpleName}(type=${this.type.name}, qualifier=${this.qualifier}, required=${this.required})"
+    }
+}
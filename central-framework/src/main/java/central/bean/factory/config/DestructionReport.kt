@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.config
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * 单例销毁结果
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class DestructionReport(
+    /**
+     * 已销毁的 Bean 的销毁耗时（纳秒）
+     * bean name -> nanos
+     */
+    val timings: Map<String, Long>,
+    /**
+     * 销毁时抛出异常的 Bean
+     * bean name -> exception
+     */
+    val failures: Map<String, Throwable>,
+    /**
+     * 超过截止时间仍未销毁的 Bean
+     */
+    val unfinished: List<String>
+) {
+    /**
+     * 是否所有的 Bean 都已成功销毁
+     */
+    val isCompleted: Boolean
+        get() = this.failures.isEmpty() && this.unfinished.isEmpty()
+
+    /**
+     * 输出按销毁耗时倒序排列的文本摘要
+     *
+     * @param limit 最多输出的 Bean 数量
+     */
+    fun toSummary(limit: Int = Int.MAX_VALUE): String {
+        val builder = StringBuilder()
+        for ((name, nanos) in this.timings.entries.sortedByDescending { it.value }.take(limit)) {
+            builder.append(String.format("%-12.3f %s", nanos / TimeUnit.MILLISECONDS.toNanos(1).toDouble(), name))
+            this.failures[name]?.let { builder.append(" ! ").append(it) }
+            builder.append(System.lineSeparator())
+        }
+        if (this.unfinished.isNotEmpty()) {
+            builder.append("unfinished: ").append(this.unfinished).append(System.lineSeparator())
+        }
+        return builder.toString()
+    }
+
+    override fun toString(): String {
+        return "${DestructionReport::class.java.simpleName}(destroyed=${this.timings.size}, failures=${this.failures.keys}, unfinished=${this.unfinished})"
+    }
+}
@@ -34,7 +34,10 @@ import central.bean.factory.FactoryBean
  */
 interface FactoryBeanPostProcessor {
     /**
-     * 处理 BeanFactory
+     * 处理 FactoryBean
+     *
+     * @param name Bean 名称
+     * @param factory Bean 的工厂
      */
-    fun postProcessFactoryBean(factory: FactoryBean<*>)
+    fun postProcessFactoryBean(name: String, factory: FactoryBean<*>)
 }
\ No newline at end of file
@@ -28,84 +28,88 @@ import central.bean.context.ApplicationContext
 import central.bean.context.ApplicationContextAware
 import central.bean.factory.*
 import central.bean.factory.support.BeanReference
-import central.convert.Converter
 import java.lang.reflect.Method
 import java.lang.reflect.Modifier
 
 /**
  * 用于通过调用方法产生 Bean
  *
+ * @param instance 调用方法的实例，或者配置类的 [BeanReference]
+ * @param method 产生 Bean 的方法
+ *
  * @author Alan Yeh
  * @since 2022/12/21
  */
-class MethodInvokingFactoryBean(private val instance: Any, private val method: Method) : FactoryBean<Any>, ApplicationContextAware {
+class MethodInvokingFactoryBean(val instance: Any, val method: Method) : FactoryBean<Any>, ApplicationContextAware {
 
     override lateinit var applicationContext: ApplicationContext
 
     /**
      * 标记该方法产生的实例是否是单例
      */
-    override val singleton: Boolean = method.getAnnotation(Scope::class.java)?.singleton ?: true
+    override val singleton: Boolean = ScopeTarget.resolve(method.getAnnotation(Scope::class.java)) == ScopeTarget.SINGLETON
 
     /**
      * 标记该方法是否延迟初始化（在需要时才初始化）
      */
-    override val lazy: Boolean = method.getAnnotation(LazyInit::class.java)?.value ?: true
+    override val lazy: Boolean = method.getAnnotation(LazyInit::class.java)?.value ?: false
+
+    /**
+     * 创建计划，在第一次获取 Bean 时构建
+     */
+    @Volatile
+    private var plan: CreationPlan? = null
 
     /**
      * 获取 Bean 实例
      */
     override fun getBean(): Any {
-        val parameters = this.resolveParameters(this.method)
+        val plan = this.plan ?: this.buildPlan()
+
+        val result = method.invoke(plan.target(), *plan.parameters.resolve())
+        return result ?: throw IllegalStateException("Method '${method.declaringClass.name}#${method.name}' return a null object")
+    }
 
-        val result = if (Modifier.isStatic(this.method.modifiers)) {
-            method.invoke(this.method.declaringClass, * parameters)
+    /**
+     * 构建创建计划
+     */
+    @Synchronized
+    private fun buildPlan(): CreationPlan {
+        this.plan?.let { return it }
+
+        val target: () -> Any? = if (Modifier.isStatic(this.method.modifiers)) {
+            { null }
         } else if (instance is BeanReference) {
-            val target = this.applicationContext.requireBean<Any>(instance.definition.name)
-            method.invoke(target, *parameters)
+            // 创建计划与 Bean 定义的生命周期相同，单例被销毁后配置类会重新创建，因此每次都从容器中获取（单例只是一次缓存查找）
+            { this.applicationContext.requireBean<Any>(instance.definition.name) }
         } else {
-            method.invoke(instance, *parameters)
+            { instance }
         }
 
-        return result ?: throw IllegalStateException("Method '${method.declaringClass.name}#${method.name}' return a null object")
+        return CreationPlan(target, ParameterPlan.build(this.applicationContext, this.method)).also { this.plan = it }
     }
 
     /**
-     * 解析参数
+     * 创建计划
+     *
+     * @param target 用于获取调用方法的实例
+     * @param parameters 参数解析计划
      */
-    private fun resolveParameters(method: Method): Array<Any?> {
-        val converter = this.applicationContext.requireBean(Converter::class.java)
-
-        val parameters = arrayOfNulls<Any>(method.parameterCount)
-
-        method.parameters.forEachIndexed { index, parameter ->
-            val value = parameter.getAnnotation(Value::class.java)
-            if (value != null) {
-                val str = if (value.required) {
-                    applicationContext.environment.resolveRequiredPlaceholders(value.value)
-                } else {
-                    applicationContext.environment.resolvePlaceholders(value.value)
-                }
-
-                parameters[index] = converter.convert(str, parameter.type)
-            } else {
-                val autowired = parameter.getAnnotation(Autowired::class.java)
-                val qualifier = parameter.getAnnotation(Qualifier::class.java)
-                if (qualifier != null) {
-                    // 根据实体名获取 Bean
-                    parameters[index] = this.applicationContext.getBean(qualifier.value, parameter.type)
-                } else {
-                    // 根据类型获取 Bean
-                    parameters[index] = this.applicationContext.getBean(parameter.type)
-                }
-
-                if (parameters[index] == null && autowired?.required == true) {
-                    throw BeanCreationException("Cannot find any beans for parameter [${parameter.name}] in method [$method]")
-                }
-            }
+    private class CreationPlan(val target: () -> Any?, val parameters: ParameterPlan)
+
+    override fun getDependencies(): List<DependencyDescriptor> {
+        val dependencies = mutableListOf<DependencyDescriptor>()
+        if (!Modifier.isStatic(this.method.modifiers) && instance is BeanReference) {
+            // 需要先创建配置类
+            dependencies.add(DependencyDescriptor(instance.definition.type, instance.definition.name))
         }
 
-        return parameters
+        // 通过 @Value 注入的参数不依赖其它 Bean
+        this.method.parameters
+            .filter { !it.isAnnotationPresent(Value::class.java) }
+            .mapTo(dependencies) { DependencyDescriptor(it.type, it.getAnnotation(Qualifier::class.java)?.value, it.getAnnotation(Autowired::class.java)?.required == true) }
+
+        return dependencies
     }
 
     override fun getBeanType(): Class<*> {
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.config
+
+import central.bean.context.ApplicationContext
+import central.bean.factory.Autowired
+import central.bean.factory.BeanCreationException
+import central.bean.factory.Qualifier
+import central.bean.factory.Value
+import central.convert.Converter
+import java.lang.reflect.Constructor
+import java.lang.reflect.Executable
+
+/**
+ * 参数解析计划
+ *
+ * 构造函数或方法的参数只需要分析一次：通过 @Value 注入的参数在构建计划时就完成占位符解析和类型转换，
+ * 需要注入 Bean 的参数则记录下依赖描述。后续每次调用时，只需要依次执行各个参数的解析函数即可
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see ConstructorInvokingFactoryBean
+ * @see MethodInvokingFactoryBean
+ */
+internal class ParameterPlan private constructor(private val suppliers: Array<() -> Any?>) {
+
+    /**
+     * 解析参数
+     */
+    fun resolve(): Array<Any?> {
+        val parameters = arrayOfNulls<Any>(this.suppliers.size)
+        for (index in this.suppliers.indices) {
+            parameters[index] = this.suppliers[index]()
+        }
+        return parameters
+    }
+
+    companion object {
+        /**
+         * 构建参数解析计划
+         *
+         * @param applicationContext 应用上下文
+         * @param executable 构造函数或方法
+         */
+        fun build(applicationContext: ApplicationContext, executable: Executable): ParameterPlan {
+            if (executable.parameterCount == 0) {
+                return ParameterPlan(emptyArray())
+            }
+
+            val converter by lazy { applicationContext.requireBean(Converter::class.java) }
+            val kind = if (executable is Constructor<*>) "constructor" else "method"
+
+            val suppliers = arrayOfNulls<() -> Any?>(executable.parameterCount)
+            executable.parameters.forEachIndexed { index, parameter ->
+                val value = parameter.getAnnotation(Value::class.java)
+                if (value != null) {
+                    val str = if (value.required) {
+                        applicationContext.environment.resolveRequiredPlaceholders(value.value)
+                    } else {
+                        applicationContext.environment.resolvePlaceholders(value.value)
+                    }
+
+                    // 占位符只需要解析一次
+                    val converted = converter.convert(str, parameter.type)
+                    suppliers[index] = { converted }
+                } else {
+                    val autowired = parameter.getAnnotation(Autowired::class.java)
+                    val qualifier = parameter.getAnnotation(Qualifier::class.java)
+                    // 有 @Qualifier 时根据实体名获取 Bean，否则根据类型获取 Bean
+                    val descriptor = DependencyDescriptor(parameter.type, qualifier?.value, autowired?.required == true, parameter.parameterizedType)
+                    suppliers[index] = {
+                        val bean = applicationContext.resolveDependency(descriptor)
+                        if (bean == null && descriptor.required) {
+                            throw BeanCreationException("Cannot find any beans for parameter [${parameter.name}] in $kind [$executable]")
+                        }
+                        bean
+                    }
+                }
+            }
+
+            @Suppress("UNCHECKED_CAST")
+            return ParameterPlan(suppliers as Array<() -> Any?>)
+        }
+    }
+}
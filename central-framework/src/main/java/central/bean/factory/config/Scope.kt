@@ -13,5 +13,11 @@ annotation class Scope(
     /**
      * 标记是否单例
      */
-    val singleton: Boolean = true
+    val singleton: Boolean = true,
+    /**
+     * 作用域名称，不为空时优先于 [singleton]
+     *
+     * @see ScopeTarget
+     */
+    val target: String = ""
 )
@@ -51,5 +51,20 @@ interface ScopeTarget {
          * 相同线程返回同一实例，不同线程返回不同实例
          */
         const val THREAD = "thread"
+
+        /**
+         * 解析 @Scope 注解对应的作用域名称
+         *
+         * @param scope 作用域注解，为空时默认为单例
+         */
+        @JvmStatic
+        fun resolve(scope: Scope?): String {
+            return when {
+                scope == null -> SINGLETON
+                scope.target.isNotEmpty() -> scope.target
+                scope.singleton -> SINGLETON
+                else -> PROTOTYPE
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.metrics
+
+/**
+ * 启动过程记录器
+ *
+ * 用于记录应用上下文启动（refresh）过程中各个步骤的耗时。默认的记录器 [DEFAULT] 不记录任何数据，
+ * 每个步骤都返回同一个空步骤，因此在未开启记录时几乎没有额外开销
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see BufferingApplicationStartup
+ */
+interface ApplicationStartup {
+    /**
+     * 开始一个步骤。步骤结束时需要调用 [StartupStep.end]
+     *
+     * @param name 步骤名称，如 bean.instantiate
+     */
+    fun start(name: String): StartupStep
+
+    companion object {
+        /**
+         * 不记录任何数据的记录器
+         */
+        @JvmField
+        val DEFAULT: ApplicationStartup = DefaultApplicationStartup
+    }
+
+    /**
+     * 不记录任何数据的记录器
+     */
+    private object DefaultApplicationStartup : ApplicationStartup, StartupStep {
+        override val name: String = "default"
+
+        override fun start(name: String): StartupStep = this
+
+        override fun tag(key: String, value: String): StartupStep = this
+
+        override fun end() {
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.metrics
+
+import central.util.Jsonx
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 缓存启动步骤的记录器
+ *
+ * 记录的步骤可以导出为 Chrome Trace Event 格式的 JSON（可以在 chrome://tracing 或 Perfetto 中查看），
+ * 也可以导出为按耗时排序的文本摘要。
+ *
+ * 在同一线程中，一个步骤开始时如果有其它步骤还没有结束，那么该步骤就是那个步骤的子步骤。
+ * 如果 Bean 的创建是由另一个 Bean 的创建触发的（如依赖注入），导出时会通过 triggeredBy 标签记录触发该步骤的 Bean 名称
+ *
+ * @param capacity 最多记录的步骤数量，超出后不再记录
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class BufferingApplicationStartup(private val capacity: Int = 10000) : ApplicationStartup {
+
+    /**
+     * 记录器创建时间，所有步骤的时间都相对于该时间
+     */
+    private val origin = System.nanoTime()
+
+    private val ids = AtomicLong()
+
+    private val size = AtomicInteger()
+
+    /**
+     * 已结束的步骤
+     */
+    private val steps = ConcurrentLinkedQueue<BufferedStep>()
+
+    /**
+     * 当前线程中正在进行的步骤
+     */
+    private val current = ThreadLocal<BufferedStep?>()
+
+    override fun start(name: String): StartupStep {
+        if (this.size.get() >= this.capacity) {
+            return ApplicationStartup.DEFAULT.start(name)
+        }
+
+        val step = BufferedStep(this.ids.incrementAndGet(), name, this.current.get())
+        this.current.set(step)
+        return step
+    }
+
+    /**
+     * 获取已结束的步骤，按开始时间排序
+     */
+    fun getSteps(): List<StartupStep> {
+        return this.steps.sortedBy { it.start }
+    }
+
+    /**
+     * 导出为 Chrome Trace Event 格式的 JSON
+     */
+    fun toChromeTrace(): String {
+        val events = this.steps.sortedBy { it.start }.map { step ->
+            val args = LinkedHashMap(step.tags)
+            step.getTriggeredBy()?.let { args[StartupStep.TRIGGERED_BY] = it }
+            mapOf(
+                "name" to step.getDisplayName(),
+                "cat" to step.name,
+                "ph" to "X",
+                "ts" to TimeUnit.NANOSECONDS.toMicros(step.start - this.origin),
+                "dur" to TimeUnit.NANOSECONDS.toMicros(step.end - step.start),
+                "pid" to 1,
+                "tid" to step.threadId,
+                "args" to args
+            )
+        }
+        return Jsonx.serialize(mapOf("traceEvents" to events, "displayTimeUnit" to "ms"))
+    }
+
+    /**
+     * 导出为按耗时倒序排列的文本摘要
+     *
+     * @param limit 最多输出的步骤数量
+     */
+    fun toSummary(limit: Int = Int.MAX_VALUE): String {
+        val steps = this.steps.sortedByDescending { it.end - it.start }
+        val builder = StringBuilder()
+        builder.append(String.format("%-12s %-12s %s%n", "Duration(ms)", "Self(ms)", "Step"))
+        for (step in steps.take(limit)) {
+            val duration = (step.end - step.start) / 1_000_000.0
+            val self = (step.end - step.start - step.childrenNanos.get()).coerceAtLeast(0) / 1_000_000.0
+            builder.append(String.format("%-12.3f %-12.3f %s", duration, self, step.getDisplayName()))
+            val tags = step.tags.filterKeys { it != StartupStep.BEAN_NAME }
+            if (tags.isNotEmpty()) {
+                builder.append(' ').append(tags)
+            }
+            step.getTriggeredBy()?.let { builder.append(" <- ").append(it) }
+            builder.append(System.lineSeparator())
+        }
+        if (steps.size > limit) {
+            builder.append("... ").append(steps.size - limit).append(" more steps").append(System.lineSeparator())
+        }
+        return builder.toString()
+    }
+
+    /**
+     * 清空已记录的步骤
+     */
+    fun clear() {
+        this.steps.clear()
+        this.size.set(0)
+    }
+
+    private inner class BufferedStep(val id: Long, override val name: String, val parent: BufferedStep?) : StartupStep {
+        val threadId = Thread.currentThread().id
+        val start = System.nanoTime()
+        var end = 0L
+        val tags = LinkedHashMap<String, String>(2)
+
+        /**
+         * 子步骤的总耗时
+         */
+        val childrenNanos = AtomicLong()
+
+        override fun tag(key: String, value: String): StartupStep {
+            this.tags[key] = value
+            return this
+        }
+
+        override fun end() {
+            this.end = System.nanoTime()
+            this.parent?.childrenNanos?.addAndGet(this.end - this.start)
+            // 恢复父步骤
+            if (current.get() === this) {
+                current.set(this.parent)
+            }
+            if (size.incrementAndGet() <= capacity) {
+                steps.add(this)
+            }
+        }
+
+        /**
+         * 获取触发当前步骤的 Bean 名称
+         */
+        fun getTriggeredBy(): String? {
+            val beanName = this.tags[StartupStep.BEAN_NAME]
+            var parent = this.parent
+            while (parent != null) {
+                val parentBeanName = parent.tags[StartupStep.BEAN_NAME]
+                if (parentBeanName != null && parentBeanName != beanName) {
+                    return parentBeanName
+                }
+                parent = parent.parent
+            }
+            return null
+        }
+
+        fun getDisplayName(): String {
+            val beanName = this.tags[StartupStep.BEAN_NAME]
+            return if (beanName != null) "${this.name} $beanName" else this.name
+        }
+    }
+}
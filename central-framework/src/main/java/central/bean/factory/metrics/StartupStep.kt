@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.metrics
+
+/**
+ * 启动步骤
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see ApplicationStartup
+ */
+interface StartupStep {
+    /**
+     * 步骤名称
+     */
+    val name: String
+
+    /**
+     * 添加标签，如 Bean 名称
+     *
+     * @param key 标签名
+     * @param value 标签值
+     */
+    fun tag(key: String, value: String): StartupStep
+
+    /**
+     * 结束步骤
+     */
+    fun end()
+
+    companion object {
+        /**
+         * Bean 名称标签
+         */
+        const val BEAN_NAME = "beanName"
+
+        /**
+         * 后置处理器标签
+         */
+        const val PROCESSOR = "processor"
+
+        /**
+         * 触发者标签，记录触发当前步骤的 Bean 名称
+         */
+        const val TRIGGERED_BY = "triggeredBy"
+    }
+}
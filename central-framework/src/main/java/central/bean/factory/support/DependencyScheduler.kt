@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 依赖顺序调度器
+ *
+ * 一个节点的所有前置节点都执行完毕后，才会开始执行该节点，相互之间没有依赖关系的节点会在线程池中并行执行。
+ * 需要在主线程中执行的节点会交给 [mainThreadExecutor] 执行，没有指定 [mainThreadExecutor] 时，交给调用 [run] 方法的线程执行。
+ *
+ * 存在循环依赖的节点无法参与调度，可以在调度结束后通过 [getUnscheduled] 获取。
+ *
+ * @param names 需要调度的节点，没有依赖关系的节点按该顺序派发
+ * @param prerequisites 节点的前置节点（name -> 需要先执行完毕的 name）
+ * @param parallelism 最大并行数
+ * @param threadName 线程池的线程名前缀
+ * @param mainThread 判断节点是否需要在主线程中执行
+ * @param mainThreadExecutor 主线程执行器
+ * @param action 执行节点，返回 false 时不再派发依赖该节点的后续节点
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+internal class DependencyScheduler(
+    private val names: List<String>,
+    private val prerequisites: Map<String, Set<String>>,
+    private val parallelism: Int,
+    private val threadName: String,
+    private val mainThread: (String) -> Boolean,
+    private val mainThreadExecutor: Executor?,
+    private val action: (String) -> Boolean
+) {
+    /**
+     * 后续节点
+     * name -> 以该节点作为前置节点的 name
+     */
+    private val successors = HashMap<String, MutableList<String>>()
+
+    /**
+     * 还没有执行完毕的前置节点数量
+     * name -> count
+     */
+    private val remaining = ConcurrentHashMap<String, AtomicInteger>()
+
+    /**
+     * 需要在当前线程中执行的任务
+     */
+    private val tasks = LinkedBlockingQueue<Runnable>()
+
+    /**
+     * 已派发但还没有执行完毕的任务数量
+     */
+    private val inFlight = AtomicInteger()
+
+    /**
+     * 执行过程中出现的第一个异常。出现异常后不再执行后续的节点
+     */
+    @Volatile
+    var failure: Throwable? = null
+        private set
+
+    private var executor: ExecutorService? = null
+
+    /**
+     * 执行调度
+     *
+     * @param deadline 截止时间（[System.nanoTime]），为 null 时一直等待到所有已派发的任务都执行完毕
+     * @return 所有已派发的任务是否都已执行完毕
+     */
+    fun run(deadline: Long? = null): Boolean {
+        for (name in this.names) {
+            val prerequisites = this.prerequisites[name].orEmpty()
+            this.remaining[name] = AtomicInteger(prerequisites.size)
+            for (prerequisite in prerequisites) {
+                this.successors.computeIfAbsent(prerequisite) { mutableListOf() }.add(name)
+            }
+        }
+
+        val ready = this.names.filter { this.remaining[it]!!.get() == 0 }
+        if (ready.isEmpty()) {
+            return true
+        }
+        if (this.parallelism > 1) {
+            this.executor = this.createExecutor(minOf(this.parallelism, this.names.size))
+        }
+
+        try {
+            // 派发期间额外持有一个计数，避免先派发的任务在其余节点派发之前执行完毕，导致提前结束
+            this.inFlight.incrementAndGet()
+            ready.forEach(this::dispatch)
+            this.release()
+
+            // 当前线程负责执行需要在主线程中执行的节点，直到所有已派发的任务都执行完毕或超时
+            while (true) {
+                val task = if (deadline == null) {
+                    this.tasks.take()
+                } else {
+                    val wait = deadline - System.nanoTime()
+                    (if (wait > 0) this.tasks.poll(wait, TimeUnit.NANOSECONDS) else this.tasks.poll()) ?: return false
+                }
+                if (task === FINISHED) {
+                    return true
+                }
+                task.run()
+            }
+        } finally {
+            this.executor?.shutdown()
+        }
+    }
+
+    /**
+     * 获取因前置节点没有执行完毕而没有被调度的节点
+     */
+    fun getUnscheduled(): List<String> {
+        return this.names.filter { this.remaining[it]!!.get() > 0 }
+    }
+
+    /**
+     * 派发任务
+     */
+    private fun dispatch(name: String) {
+        this.inFlight.incrementAndGet()
+        val task = Runnable { this.execute(name) }
+        val executor = this.executor
+        val mainThreadExecutor = this.mainThreadExecutor
+        val mainThread = this.mainThread(name)
+        if (mainThread && mainThreadExecutor != null) {
+            mainThreadExecutor.execute(task)
+        } else if (executor == null || mainThread) {
+            this.tasks.put(task)
+        } else {
+            executor.execute(task)
+        }
+    }
+
+    /**
+     * 执行节点，并派发那些前置节点已全部执行完毕的节点
+     */
+    private fun execute(name: String) {
+        try {
+            if (this.failure == null && this.action(name)) {
+                this.successors[name]?.forEach {
+                    if (this.remaining[it]!!.decrementAndGet() == 0) {
+                        this.dispatch(it)
+                    }
+                }
+            }
+        } catch (ex: Throwable) {
+            synchronized(this) {
+                if (this.failure == null) {
+                    this.failure = ex
+                }
+            }
+        } finally {
+            this.release()
+        }
+    }
+
+    /**
+     * 释放一个计数，所有计数都释放后通知当前线程结束
+     */
+    private fun release() {
+        if (this.inFlight.decrementAndGet() == 0) {
+            this.tasks.put(FINISHED)
+        }
+    }
+
+    private fun createExecutor(threads: Int): ExecutorService {
+        val classLoader = Thread.currentThread().contextClassLoader
+        val counter = AtomicInteger()
+        return ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, LinkedBlockingQueue()) { runnable ->
+            Thread(runnable, "${this.threadName}-${counter.incrementAndGet()}").also {
+                it.isDaemon = true
+                it.contextClassLoader = classLoader
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * 用于标记所有任务已执行完毕
+         */
+        private val FINISHED = Runnable { }
+    }
+}
@@ -35,7 +35,7 @@ import central.bean.factory.config.BeanDefinition
  */
 class GenericBeanDefinition(
     override val name: String,
-    override var type: Class<*>,
+    override val type: Class<*>,
     override var singleton: Boolean = true,
     override var lazyInit: Boolean = true,
     override var dependsOn: List<String> = emptyList(),
@@ -28,6 +28,7 @@ import central.bean.Validatable
 import central.bean.factory.BeanConflictException
 import central.bean.factory.config.BeanDefinition
 import central.bean.factory.config.BeanDefinitionRegistry
+import java.util.concurrent.ConcurrentHashMap
 
 /**
  * 标准的 Bean 定义注册中心
@@ -39,25 +40,63 @@ class GenericBeanDefinitionRegistry: BeanDefinitionRegistry {
     /**
      * Bean 定义
      */
-    private val definitions = mutableMapOf<String, BeanDefinition>()
+    private val definitions = ConcurrentHashMap<String, BeanDefinition>()
+
+    /**
+     * Bean 定义名称
+     *
+     * 按注册的顺序保存，每次修改都会生成新的列表，因此读取时不需要加锁
+     */
+    @Volatile
+    private var definitionNames = emptyList<String>()
+
+    /**
+     * 类型索引
+     *
+     * 保存 Bean 类型及其所有父类、接口与 Bean 名称的对应关系，避免每次按类型查找 Bean 时都需要遍历所有的 Bean 定义
+     *
+     * type -> bean names
+     */
+    private val typeIndex = ConcurrentHashMap<Class<*>, List<String>>()
 
     override fun getDefinitionNames(): List<String> {
-        return definitions.keys.toList()
+        return this.definitionNames
     }
 
     override fun registerDefinition(definition: BeanDefinition) {
         // 校验
         (definition as? Validatable)?.validate()
 
-        if (this.definitions.containsKey(definition.name)) {
-            throw BeanConflictException("Cannot register bean definition for bean '${definition.name}'")
-        }
+        synchronized(this.definitions) {
+            if (this.definitions.containsKey(definition.name)) {
+                throw BeanConflictException("Cannot register bean definition for bean '${definition.name}'")
+            }
+
+            this.definitions[definition.name] = definition
+            this.definitionNames = this.definitionNames + definition.name
 
-        this.definitions[definition.name] = definition
+            // 更新类型索引
+            for (type in this.getTypeHierarchy(definition.type)) {
+                this.typeIndex[type] = (this.typeIndex[type] ?: emptyList()) + definition.name
+            }
+        }
     }
 
     override fun removeDefinition(name: String) {
-        this.definitions.remove(name)
+        synchronized(this.definitions) {
+            val definition = this.definitions.remove(name) ?: return
+            this.definitionNames = this.definitionNames - name
+
+            // 更新类型索引
+            for (type in this.getTypeHierarchy(definition.type)) {
+                val names = (this.typeIndex[type] ?: continue) - name
+                if (names.isEmpty()) {
+                    this.typeIndex.remove(type)
+                } else {
+                    this.typeIndex[type] = names
+                }
+            }
+        }
     }
 
     override fun getDefinition(name: String): BeanDefinition? {
@@ -65,10 +104,36 @@ class GenericBeanDefinitionRegistry: BeanDefinitionRegistry {
     }
 
     override fun getDefinitions(predicate: (BeanDefinition) -> Boolean): List<BeanDefinition> {
-        return this.definitions.values.filter(predicate)
+        return this.definitionNames.mapNotNull { this.definitions[it] }.filter(predicate)
+    }
+
+    override fun getDefinitionNamesForType(type: Class<*>): List<String> {
+        return this.typeIndex[type] ?: emptyList()
     }
 
     override fun containsDefinition(name: String): Boolean {
         return this.definitions.containsKey(name)
     }
+
+    /**
+     * 获取指定类型的所有父类及接口（包括自身）
+     */
+    private fun getTypeHierarchy(type: Class<*>): Set<Class<*>> {
+        val hierarchy = LinkedHashSet<Class<*>>()
+        val queue = ArrayDeque<Class<*>>()
+        queue.add(type)
+        while (queue.isNotEmpty()) {
+            val current = queue.removeFirst()
+            if (!hierarchy.add(current)) {
+                continue
+            }
+            current.superclass?.let(queue::add)
+            queue.addAll(current.interfaces)
+        }
+        if (type.isInterface) {
+            // 接口类型同样可以赋值给 Object
+            hierarchy.add(Any::class.java)
+        }
+        return hierarchy
+    }
 }
\ No newline at end of file
@@ -26,10 +26,21 @@ package central.bean.factory.support
 
 import central.bean.factory.*
 import central.bean.factory.config.*
+import central.bean.factory.metrics.ApplicationStartup
+import central.bean.factory.metrics.StartupStep
+import central.bean.factory.support.index.IndexedFactoryBean
 import central.convert.Converter
 import central.convert.support.GenericConverter
 import central.lang.Assertx
+import java.lang.reflect.Modifier
+import java.lang.reflect.ParameterizedType
+import java.lang.reflect.Proxy
+import java.lang.reflect.WildcardType
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
 
 /**
  * 标准 Bean 工厂
@@ -41,46 +52,94 @@ class GenericBeanFactory : ConfigurableBeanFactory {
 
     override var beanClassLoader: ClassLoader = Thread.currentThread().contextClassLoader ?: GenericBeanFactory::class.java.classLoader!!
 
-    override var converter: Converter = GenericConverter()
+    /**
+     * 类型转换服务。没有指定时，在第一次使用时才创建 [GenericConverter]，避免创建 Bean 工厂时加载所有转换器
+     */
+    @Volatile
+    private var explicitConverter: Converter? = null
+
+    override var converter: Converter
+        get() = this.explicitConverter ?: synchronized(this) { this.explicitConverter ?: GenericConverter().also { this.explicitConverter = it } }
+        set(value) {
+            this.explicitConverter = value
+        }
 
     override var registry: BeanDefinitionRegistry = GenericBeanDefinitionRegistry()
 
+    override var applicationStartup: ApplicationStartup = ApplicationStartup.DEFAULT
+
+    override var parentBeanFactory: BeanFactory? = null
+
     /**
      * 单例对象
      * bean name -> bean instance
      */
     private val singletons = ConcurrentHashMap<String, Any>()
 
-    /**
-     * 单例工厂
-     * bean name -> bean factory
-     */
-    private val singletonFactories = ConcurrentHashMap<String, BeanFactory>()
-
     /**
      * 早期单例
-     * TODO 什么场景下会用这个
+     * 单例已实例化，但还没有完成后置处理（如依赖注入）时，会暂时保存在这里，用于解决通过字段或 Setter 注入时出现的循环依赖
      * bean name -> bean instance
      */
     private val earlySingletons = ConcurrentHashMap<String, Any>()
 
+    /**
+     * 已经被其它 Bean 获取过早期引用的单例名称
+     * 这些单例完成后置处理后不能再被替换（如被代理），否则获取了早期引用的 Bean 持有的是原始对象
+     */
+    private val exposedEarlySingletons = ConcurrentHashMap.newKeySet<String>()
+
+    /**
+     * 单例创建锁
+     * 每个单例使用独立的锁，因此不相关的单例可以在不同的线程中同时创建
+     * bean name -> lock
+     */
+    private val singletonLocks = ConcurrentHashMap<String, ReentrantLock>()
+
+    /**
+     * 单例的创建顺序，用于确定销毁顺序
+     */
+    private val singletonOrder = ConcurrentLinkedQueue<String>()
+
     /**
      * 用户注册的单例对象名称
      */
-    private val registeredSingletons = mutableSetOf<String>()
+    private val registeredSingletons = ConcurrentHashMap.newKeySet<String>()
 
     /**
      * 当前正在创建的单例名称
+     * bean name -> 正在创建该单例的线程
      */
-    private val singletonsCurrentlyInCreation = mutableSetOf<String>()
+    private val singletonsCurrentlyInCreation = ConcurrentHashMap<String, Thread>()
+
+    /**
+     * 正在等待单例创建锁的线程
+     * thread -> bean name
+     */
+    private val threadsWaitingForSingleton = ConcurrentHashMap<Thread, String>()
 
     /**
      * 创建 Bean 实例
+     *
+     * @param earlyReference 用于接收已实例化但还没有完成后置处理的 Bean
      */
-    private fun createBean(definition: BeanDefinition): Any {
-        val factory = this.postProcess<FactoryBean<Any>>(definition, definition.factory)
+    private fun createBean(definition: BeanDefinition, earlyReference: ((Any) -> Unit)? = null): Any {
+        val step = this.applicationStartup.start("bean.instantiate").tag(StartupStep.BEAN_NAME, definition.name)
+        try {
+            val factory = this.prepareFactory(definition)
+
+            val creation = this.applicationStartup.start("bean.factory").tag(StartupStep.BEAN_NAME, definition.name)
+            val bean = try {
+                factory.getBean()
+            } finally {
+                creation.end()
+            }
+            earlyReference?.invoke(bean)
 
-        return this.postProcess(definition, factory.getBean())
+            return this.postProcess(definition, bean)
+        } finally {
+            step.end()
+        }
     }
 
     /**
@@ -89,38 +148,171 @@ class GenericBeanFactory : ConfigurableBeanFactory {
     private fun getBean(definition: BeanDefinition): Any {
         return if (definition.singleton) {
             // 如果是单例的话，则从单例池里面获取实例
-            synchronized(this.singletons) {
-                val singleton = this.singletons[definition.name]
-                if (singleton != null){
-                    return singleton
+            this.getSingleton(definition)
+        } else if (definition.scope == ScopeTarget.PROTOTYPE) {
+            // 原型则每次都创建新的 Bean
+            this.createBean(definition)
+        } else {
+            // 其它作用域由作用域管理
+            val scope = this.scopes[definition.scope] ?: throw BeanCreationException("No scope registered for scope name '${definition.scope}' of bean '${definition.name}'")
+            scope.get(definition.name) { this.createBean(definition) }
+        }
+    }
+
+    /**
+     * 获取单例
+     *
+     * 已创建的单例直接从单例池中返回，不需要加锁；未创建的单例只会锁住该单例自己的创建锁
+     */
+    private fun getSingleton(definition: BeanDefinition): Any {
+        val singleton = this.singletons[definition.name]
+        if (singleton != null) {
+            return singleton
+        }
+
+        val current = Thread.currentThread()
+        if (this.singletonsCurrentlyInCreation[definition.name] == current) {
+            // 当前线程正在创建这个单例，又来获取这个 Bean，说明出现了循环依赖
+            // 如果这个单例已经完成实例化，则返回早期引用，否则无法解决该循环依赖（如构造函数循环依赖）
+            return this.getEarlySingleton(definition.name) ?: throw BeanCreationException("Bean '${definition.name}' is in creation: Is there an unresolvable circular reference?")
+        }
+
+        val lock = this.singletonLocks.computeIfAbsent(definition.name) { ReentrantLock() }
+        if (!lock.tryLock()) {
+            // 其它线程正在创建该单例，需要等待其创建完毕
+            // 如果该线程又在等待当前线程正在创建的单例，则会出现死锁
+            this.threadsWaitingForSingleton[current] = definition.name
+            try {
+                if (this.isWaitingForCurrentThread(definition.name, current)) {
+                    return this.getEarlySingleton(definition.name) ?: throw BeanCreationException("Bean '${definition.name}' is in creation by another thread: Is there an unresolvable circular reference?")
                 }
+                lock.lock()
+            } finally {
+                this.threadsWaitingForSingleton.remove(current)
+            }
+        }
+
+        try {
+            // 获取锁后需要再次检查，可能其它线程已经创建完毕
+            val created = this.singletons[definition.name]
+            if (created != null) {
+                return created
+            }
 
-                if (this.singletonsCurrentlyInCreation.contains(definition.name)) {
-                    // 如果这个单例正在创建中，又来获取这个 Bean，则有可能出现创建多个单例的问题
-                    throw BeanCreationException("Bean '${definition.name}' is in creation.")
+            this.singletonsCurrentlyInCreation[definition.name] = current
+            try {
+                val bean = this.createBean(definition) { this.earlySingletons[definition.name] = it }
+                if (this.exposedEarlySingletons.contains(definition.name) && this.earlySingletons[definition.name] !== bean) {
+                    throw BeanCreationException("Bean '${definition.name}' has been injected into other beans in its raw version as part of a circular reference, but has eventually been wrapped (e.g. by an AOP proxy)")
                 }
-                try {
-                    this.singletonsCurrentlyInCreation.add(definition.name)
-                    this.createBean(definition)
-                } finally {
-                    this.singletonsCurrentlyInCreation.remove(definition.name)
+                this.singletons[definition.name] = bean
+                this.singletonOrder.add(definition.name)
+                return bean
+            } finally {
+                this.singletonsCurrentlyInCreation.remove(definition.name)
+                this.earlySingletons.remove(definition.name)
+                this.exposedEarlySingletons.remove(definition.name)
+            }
+        } finally {
+            lock.unlock()
+        }
+    }
+
+    /**
+     * 获取早期单例，并记录该单例的早期引用已经被获取
+     */
+    private fun getEarlySingleton(name: String): Any? {
+        val early = this.earlySingletons[name] ?: return null
+        this.exposedEarlySingletons.add(name)
+        return early
+    }
+
+    /**
+     * 判断正在创建指定单例的线程是否（间接地）在等待当前线程
+     */
+    private fun isWaitingForCurrentThread(name: String, current: Thread): Boolean {
+        var waiting: String? = name
+        val visited = mutableSetOf<String>()
+        while (waiting != null && visited.add(waiting)) {
+            val owner = this.singletonsCurrentlyInCreation[waiting] ?: return false
+            if (owner == current) {
+                return true
+            }
+            waiting = this.threadsWaitingForSingleton[owner]
+        }
+        return false
+    }
+
+    /**
+     * 准备 Bean 定义的工厂
+     *
+     * 框架内置的工厂只交给 [FactoryBeanPostProcessor] 处理，不经过 Bean 后置处理器；
+     * 用户自定义的工厂则和普通 Bean 一样执行后置处理。每个工厂只处理一次
+     */
+    @Suppress("UNCHECKED_CAST")
+    private fun prepareFactory(definition: BeanDefinition): FactoryBean<Any> {
+        val source = definition.factory
+        val prepared = this.preparedFactories[definition.name]
+        if (prepared != null && prepared.source === source) {
+            return prepared.factory
+        }
+
+        val factory = if (isInternalFactory(source)) {
+            for (processor in this.beanPostProcessors) {
+                if (processor is FactoryBeanPostProcessor) {
+                    processor.postProcessFactoryBean(definition.name, source)
                 }
             }
+            source as FactoryBean<Any>
         } else {
-            // 非单例则每次都创建新的 Bean
-            this.createBean(definition)
+            this.postProcess(definition, source)
         }
+        this.preparedFactories[definition.name] = PreparedFactory(source, factory)
+        return factory
     }
 
+    /**
+     * 判断是否框架内置的工厂
+     */
+    private fun isInternalFactory(factory: FactoryBean<*>): Boolean {
+        return factory is ConstructorInvokingFactoryBean<*> || factory is MethodInvokingFactoryBean || factory is InstanceFactoryBean<*> || factory is IndexedFactoryBean<*>
+    }
+
+    /**
+     * 已完成后置处理的工厂
+     *
+     * @param source Bean 定义中的工厂
+     * @param factory 后置处理后的工厂
+     */
+    private class PreparedFactory(val source: FactoryBean<*>, val factory: FactoryBean<Any>)
+
     @Suppress("UNCHECKED_CAST")
     private fun <T> postProcess(definition: BeanDefinition, bean: Any): T {
+        val startup = this.applicationStartup
         var processedBean = bean
-        for (processor in this.beanPostProcessors) {
-            processedBean = processor.processBeforeInitialization(definition.name, processedBean)
+        for (processor in this.getProcessorChain(processedBean.javaClass)) {
+            val step = startup.start("bean.postProcess.before").tag(StartupStep.BEAN_NAME, definition.name).tag(StartupStep.PROCESSOR, processor.javaClass.name)
+            try {
+                processedBean = processor.processBeforeInitialization(definition.name, processedBean)
+            } finally {
+                step.end()
+            }
+        }
+        if (processedBean is InitializingBean) {
+            val step = startup.start("bean.initialize").tag(StartupStep.BEAN_NAME, definition.name)
+            try {
+                processedBean.initialize()
+            } finally {
+                step.end()
+            }
         }
-        (processedBean as? InitializingBean)?.initialize()
-        for (processor in this.beanPostProcessors) {
-            processedBean = processor.processAfterInitialization(definition.name, processedBean)
+        for (processor in this.getProcessorChain(processedBean.javaClass)) {
+            val step = startup.start("bean.postProcess.after").tag(StartupStep.BEAN_NAME, definition.name).tag(StartupStep.PROCESSOR, processor.javaClass.name)
+            try {
+                processedBean = processor.processAfterInitialization(definition.name, processedBean)
+            } finally {
+                step.end()
+            }
         }
         return processedBean as T
     }
@@ -129,49 +321,294 @@ class GenericBeanFactory : ConfigurableBeanFactory {
     // Implementation of ListableBeanFactory
     //---------------------------------------------------------------------
     override fun destroyBean(name: String) {
-        TODO("Not yet implemented")
+        val definition = this.registry.getDefinition(name)
+        if (definition != null && !definition.singleton && definition.scope != ScopeTarget.PROTOTYPE) {
+            // 其它作用域的 Bean 由作用域负责执行销毁回调
+            this.scopes[definition.scope]?.remove(name)
+            return
+        }
+
+        if (!this.singletons.containsKey(name)) {
+            return
+        }
+
+        // 被依赖关系（bean name -> 依赖该单例的单例，按创建顺序排列），只计算一次
+        val dependents = HashMap<String, MutableList<String>>()
+        for (dependent in this.singletonOrder) {
+            if (!this.singletons.containsKey(dependent)) {
+                continue
+            }
+            for (dependency in this.getSingletonDependencies(dependent)) {
+                if (dependency != dependent) {
+                    dependents.computeIfAbsent(dependency) { mutableListOf() }.add(dependent)
+                }
+            }
+        }
+        this.destroySingleton(name, dependents, HashSet())
+    }
+
+    /**
+     * 先按创建顺序的逆序销毁依赖该单例的单例，再销毁该单例
+     *
+     * @param visited 已处理过的单例，用于避免循环依赖时无限递归
+     */
+    private fun destroySingleton(name: String, dependents: Map<String, List<String>>, visited: MutableSet<String>) {
+        if (!visited.add(name)) {
+            return
+        }
+        val bean = this.singletons[name] ?: return
+        for (dependent in dependents[name].orEmpty().asReversed()) {
+            this.destroySingleton(dependent, dependents, visited)
+        }
+
+        if (this.singletons.remove(name, bean)) {
+            this.singletonOrder.remove(name)
+            val step = this.applicationStartup.start("bean.destroy").tag(StartupStep.BEAN_NAME, name)
+            try {
+                (bean as? DestroyableBean)?.destroy()
+            } finally {
+                step.end()
+            }
+        }
     }
 
     override fun registerSingleton(name: String, instance: Any) {
-        this.registry.registerDefinition(RootBeanDefinition(instance::class.java, factory = InstanceFactoryBean(instance)))
+        this.registry.registerDefinition(RootBeanDefinition(instance::class.java, name = name, factory = InstanceFactoryBean(instance)))
+        this.registeredSingletons.add(name)
+        this.singletons[name] = instance
+        this.singletonOrder.add(name)
     }
 
+    /**
+     * 已注册的作用域
+     * scope name -> scope
+     */
+    private val scopes = ConcurrentHashMap<String, BeanScope>()
+
+    init {
+        // 内置的线程作用域
+        this.registerScope(ScopeTarget.THREAD, ThreadScope())
+    }
+
+    override fun registerScope(name: String, scope: BeanScope) {
+        Assertx.mustTrue(name != ScopeTarget.SINGLETON && name != ScopeTarget.PROTOTYPE, "Cannot replace built-in scope '$name'")
+        this.scopes[name] = scope
+    }
+
+    override fun getRegisteredScope(name: String): BeanScope? {
+        return this.scopes[name]
+    }
+
+    /**
+     * 销毁单例时的最大并行数
+     */
+    var destructionParallelism: Int = Runtime.getRuntime().availableProcessors()
+
+    /**
+     * 销毁所有单例的截止时间（毫秒）
+     */
+    var destructionTimeout: Long = TimeUnit.SECONDS.toMillis(10)
+
     override fun destroySingletons() {
-        // Destroy
-        this.singletons.clear()
+        this.destroySingletons(this.destructionTimeout, TimeUnit.MILLISECONDS)
+    }
+
+    override fun destroySingletons(timeout: Long, unit: TimeUnit): DestructionReport {
+        // 按创建顺序收集已创建的单例
+        val beans = LinkedHashMap<String, Any>()
+        for (name in this.singletonOrder) {
+            val bean = this.singletons[name] ?: continue
+            beans[name] = bean
+        }
+
+        val dependencies = beans.keys.associateWith { name -> this.getSingletonDependencies(name).filterTo(LinkedHashSet()) { it in beans && it != name } }
+        val mainThread = beans.keys.filterTo(HashSet()) { this.registry.getDefinition(it)?.mainThread == true }
+
+        try {
+            return SingletonDestroyer(beans, dependencies, mainThread, this.destructionParallelism, this.applicationStartup).destroy(timeout, unit)
+        } finally {
+            this.singletons.clear()
+            this.earlySingletons.clear()
+            this.exposedEarlySingletons.clear()
+            this.registeredSingletons.clear()
+            this.singletonOrder.clear()
+        }
+    }
+
+    /**
+     * 获取单例依赖的其它 Bean 的名称。优先使用预初始化时解析的依赖关系
+     */
+    private fun getSingletonDependencies(name: String): Set<String> {
+        this.instantiationDependencies?.get(name)?.let { return it }
+        val definition = this.registry.getDefinition(name) ?: return emptySet()
+        return this.resolveDependencies(definition, mutableSetOf(name))
     }
 
     override fun clearBeans() {
-        this.singletons.clear()
+        // 用户注册的单例无法重新创建，因此需要保留
+        this.singletons.keys.retainAll(this.registeredSingletons)
+        this.singletonOrder.retainAll(this.registeredSingletons)
+        this.earlySingletons.clear()
+        this.exposedEarlySingletons.clear()
     }
 
     //---------------------------------------------------------------------
     // Implementation of ListableBeanFactory
     //---------------------------------------------------------------------
 
-    private val beanPostProcessors = mutableListOf<BeanPostProcessor>()
+    /**
+     * Bean 后置处理器
+     *
+     * 每次修改时都替换为新的数组，因此可以通过引用判断后置处理器链缓存是否过期
+     */
+    @Volatile
+    private var beanPostProcessors = emptyArray<BeanPostProcessor>()
+
+    /**
+     * 后置处理器链缓存
+     * bean type -> 支持该类型的后置处理器
+     */
+    private val processorChains = ConcurrentHashMap<Class<*>, ProcessorChain>()
+
+    /**
+     * 已完成后置处理的工厂
+     * bean name -> factory
+     */
+    private val preparedFactories = ConcurrentHashMap<String, PreparedFactory>()
+
+    @Synchronized
     override fun addBeanPostProcessor(processor: BeanPostProcessor) {
-        this.beanPostProcessors.add(processor)
+        this.updateBeanPostProcessors(this.beanPostProcessors + processor)
     }
 
+    @Synchronized
     override fun removeBeanPostProcessor(processor: BeanPostProcessor) {
-        this.beanPostProcessors.add(processor)
+        this.updateBeanPostProcessors(this.beanPostProcessors.filter { it !== processor }.toTypedArray())
     }
 
+    @Synchronized
     override fun clearBeanPostProcessors() {
-        this.beanPostProcessors.clear()
+        this.updateBeanPostProcessors(emptyArray())
     }
 
+    private fun updateBeanPostProcessors(processors: Array<BeanPostProcessor>) {
+        this.beanPostProcessors = processors
+        this.processorChains.clear()
+        this.preparedFactories.clear()
+    }
+
+    /**
+     * 获取支持指定类型的后置处理器。结果按类型缓存，后置处理器发生变化后重新计算
+     */
+    private fun getProcessorChain(type: Class<*>): Array<BeanPostProcessor> {
+        val processors = this.beanPostProcessors
+        val chain = this.processorChains[type]
+        if (chain != null && chain.source === processors) {
+            return chain.processors
+        }
+        return ProcessorChain(processors, processors.filter { it.supports(type) }.toTypedArray()).also { this.processorChains[type] = it }.processors
+    }
+
+    /**
+     * 后置处理器链
+     *
+     * @param source 计算时的全部后置处理器
+     * @param processors 支持指定类型的后置处理器
+     */
+    private class ProcessorChain(val source: Array<BeanPostProcessor>, val processors: Array<BeanPostProcessor>)
+
+    /**
+     * 预初始化单例时的最大并行数
+     *
+     * 小于等于 1 时，所有单例都在调用 [preInstantiateSingletons] 的线程中按依赖顺序依次创建
+     */
+    var preInstantiationParallelism: Int = Runtime.getRuntime().availableProcessors()
+
+    /**
+     * 主线程执行器
+     *
+     * 在后台线程中预初始化单例时，需要在主线程中初始化的 Bean 会交给该执行器创建（如 `Handler(Looper.getMainLooper())::post`）。
+     * 为空时，这些 Bean 在调用 [preInstantiateSingletons] 的线程中创建。在主线程中预初始化单例时，不能设置该执行器，否则会死锁
+     */
+    var mainThreadExecutor: Executor? = null
+
+    /**
+     * 预初始化单例时使用的依赖关系（bean name -> 依赖的 bean name）
+     *
+     * 预先设置时（如从上下文快照中恢复），不需要再解析这些 Bean 的依赖；预初始化完成后，记录本次使用的依赖关系
+     */
+    var instantiationDependencies: Map<String, Set<String>>? = null
+
+    /**
+     * 预初始化单例的顺序
+     *
+     * 预先设置时，按该顺序调度没有依赖关系的单例；预初始化完成后，记录本次单例创建完成的顺序
+     */
+    var instantiationOrder: List<String>? = null
+
     override fun preInstantiateSingletons() {
-        this.registry.getDefinitions { definition -> definition.singleton }
-            .forEach(this::getBean)
+        // 延迟初始化的单例在第一次使用时才创建
+        var definitions = this.registry.getDefinitions { definition -> definition.singleton && !definition.lazyInit && !this.singletons.containsKey(definition.name) }
+        if (definitions.isEmpty()) {
+            return
+        }
+
+        val order = this.instantiationOrder
+        if (order != null) {
+            val positions = order.withIndex().associate { it.value to it.index }
+            definitions = definitions.sortedBy { positions[it.name] ?: Int.MAX_VALUE }
+        }
+
+        // 根据依赖关系并行创建单例
+        val names = definitions.mapTo(HashSet()) { it.name }
+        val resolved = this.instantiationDependencies
+        val dependencies = definitions.associate { definition ->
+            val candidates = resolved?.get(definition.name) ?: this.resolveDependencies(definition, mutableSetOf(definition.name))
+            definition.name to candidates.filterTo(LinkedHashSet()) { it in names && it != definition.name }
+        }
+        val created = ConcurrentLinkedQueue<String>()
+        SingletonInstantiator(definitions, dependencies, this.preInstantiationParallelism, this.mainThreadExecutor) { definition ->
+            this.getBean(definition).also { created.add(definition.name) }
+        }.instantiate()
+
+        this.instantiationDependencies = dependencies
+        this.instantiationOrder = created.toList()
+    }
+
+    /**
+     * 解析 Bean 依赖的其它 Bean 的名称
+     *
+     * 依赖包括 [BeanDefinition.dependsOn]、工厂创建 Bean 时需要的依赖（如构造函数参数）和后置处理器需要注入的依赖。
+     * 如果依赖的 Bean 不是单例，那么该 Bean 每次创建时的依赖也会作为当前 Bean 的依赖
+     *
+     * @param visited 已解析过的 Bean，用于避免重复解析
+     */
+    private fun resolveDependencies(definition: BeanDefinition, visited: MutableSet<String>): Set<String> {
+        val dependencies = LinkedHashSet(definition.dependsOn)
+
+        val descriptors = definition.factory.getDependencies() + this.beanPostProcessors.flatMap { it.getDependencies(definition.type) }
+        for (descriptor in descriptors) {
+            if (descriptor.qualifier != null) {
+                dependencies.add(descriptor.qualifier)
+            } else {
+                dependencies.addAll(this.registry.getDefinitionNamesForType(descriptor.type))
+            }
+        }
+
+        for (name in dependencies.toList()) {
+            val dependency = this.registry.getDefinition(name) ?: continue
+            if (!dependency.singleton && visited.add(name)) {
+                dependencies.addAll(this.resolveDependencies(dependency, visited))
+            }
+        }
+        return dependencies
     }
 
     @Suppress("UNCHECKED_CAST")
     override fun <T> getBeansOfType(requiredType: Class<T>): Map<String, T> {
-        return this.registry.getDefinitions { definition ->
-            definition.isTypeMatched(requiredType)
-        }.associate { it.name to this.getBean(it) as T }
+        return this.registry.getDefinitionNamesForType(requiredType)
+            .mapNotNull { this.registry.getDefinition(it) }
+            .associate { it.name to this.getBean(it) as T }
     }
 
     override fun getBeanNamesForType(type: Class<*>): List<String> {
@@ -179,13 +616,13 @@ class GenericBeanFactory : ConfigurableBeanFactory {
     }
 
     override fun getBeanNamesForType(type: Class<*>, includeNonSingletons: Boolean, allowEagerInit: Boolean): List<String> {
-        val candidates = this.registry.getDefinitions { definition ->
-            definition.isTypeMatched(type)
-        }.filter { includeNonSingletons || it.singleton }
+        val candidates = this.registry.getDefinitionNamesForType(type)
+            .mapNotNull { this.registry.getDefinition(it) }
+            .filter { includeNonSingletons || it.singleton }
 
         if (allowEagerInit) {
             // 需要初始化
-            candidates.forEach(this::createBean)
+            candidates.forEach(this::getBean)
         }
 
         return candidates.map { it.name }
@@ -202,25 +639,34 @@ class GenericBeanFactory : ConfigurableBeanFactory {
 
     @Suppress("UNCHECKED_CAST")
     override fun <T> getBean(name: String): T? {
-        val definition = this.registry.getDefinition(name) ?: return null
+        val definition = this.registry.getDefinition(name) ?: return this.parentBeanFactory?.getBean(name)
         return getBean(definition) as T
     }
 
 
     @Suppress("UNCHECKED_CAST")
     override fun <T> getBean(name: String, requiredType: Class<T>): T? {
-        val definition = this.registry.getDefinition(name) ?: return null
+        val definition = this.registry.getDefinition(name) ?: return this.parentBeanFactory?.getBean(name, requiredType)
         Assertx.mustAssignableFrom(requiredType, definition.type, ::ClassCastException, "Cannot cast bean type of '${definition.type.name}' to '${requiredType.name}'")
         return getBean(definition) as T
     }
 
     @Suppress("UNCHECKED_CAST")
     override fun <T> getBean(requiredType: Class<T>): T? {
-        val beanNames = this.getBeanNamesForType(requiredType)
+        val definition = this.determineCandidate(requiredType) ?: return this.parentBeanFactory?.getBean(requiredType)
+        return this.getBean(definition) as T
+    }
+
+    /**
+     * 根据类型选择需要注入的 Bean 定义
+     */
+    private fun determineCandidate(requiredType: Class<*>): BeanDefinition? {
+        // 只需要获取候选 Bean 的名称，不需要提前初始化所有候选 Bean
+        val beanNames = this.getBeanNamesForType(requiredType, true, false)
         if (beanNames.isEmpty()) {
             return null
         } else if (beanNames.size == 1) {
-            return this.getBean(beanNames.first(), requiredType)
+            return this.registry.getDefinition(beanNames.first())
         } else {
             // 出现多个候选，根据 primary 决定返回的 Bean
             var primaryBean: BeanDefinition? = null
@@ -238,19 +684,51 @@ class GenericBeanFactory : ConfigurableBeanFactory {
                 // 没有 primary
                 throw NoUniqueBeanDefinitionException("No qualifying bean of type '${requiredType.name}' available: expected single matching bean but found ${beanNames.size}: ${beanNames.joinToString()}")
             }
-            return this.getBean(primaryBean) as T
+            return primaryBean
         }
     }
 
+    override fun resolveDependency(descriptor: DependencyDescriptor): Any? {
+        if (descriptor.type == BeanProvider::class.java) {
+            // 注入 BeanProvider<T> 时，在使用时才获取 Bean
+            val argument = (descriptor.genericType as? ParameterizedType)?.actualTypeArguments?.firstOrNull()
+            val type = when (argument) {
+                is Class<*> -> argument
+                is ParameterizedType -> argument.rawType as Class<*>
+                is WildcardType -> argument.upperBounds.firstOrNull() as? Class<*> ?: Any::class.java
+                else -> Any::class.java
+            }
+            return GenericBeanProvider(this, type, descriptor.qualifier)
+        }
+
+        val definition = if (descriptor.qualifier != null) {
+            this.registry.getDefinition(descriptor.qualifier)?.also {
+                Assertx.mustAssignableFrom(descriptor.type, it.type, ::ClassCastException, "Cannot cast bean type of '${it.type.name}' to '${descriptor.type.name}'")
+            }
+        } else {
+            this.determineCandidate(descriptor.type)
+        } ?: return this.parentBeanFactory?.resolveDependency(descriptor)
+
+        if (definition.singleton && definition.lazyInit && !this.singletons.containsKey(definition.name)
+            && descriptor.type.isInterface && Modifier.isPublic(descriptor.type.modifiers)) {
+            // 依赖延迟初始化的单例时，注入代理对象，在第一次调用代理对象的方法时才创建该单例
+            return Proxy.newProxyInstance(descriptor.type.classLoader, arrayOf(descriptor.type), LazyResolutionInvocationHandler(definition.name) { this.getBean(definition) })
+        }
+
+        return this.getBean(definition)
+    }
+
     override fun containsBean(name: String): Boolean {
-        return this.registry.containsDefinition(name)
+        return this.registry.containsDefinition(name) || this.parentBeanFactory?.containsBean(name) == true
     }
 
     override fun getType(name: String): Class<*>? {
-        return this.registry.getDefinition(name)?.type
+        val definition = this.registry.getDefinition(name) ?: return this.parentBeanFactory?.getType(name)
+        return definition.type
     }
 
     override fun isTypeMatch(name: String, type: Class<*>): Boolean {
-        return this.registry.getDefinition(name)?.isTypeMatched(type) == true
+        val definition = this.registry.getDefinition(name) ?: return this.parentBeanFactory?.isTypeMatch(name, type) == true
+        return definition.isTypeMatched(type)
     }
 }
\ No newline at end of file
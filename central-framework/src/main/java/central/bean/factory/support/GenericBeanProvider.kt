@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import central.bean.factory.BeanFactory
+import central.bean.factory.BeanProvider
+import central.bean.factory.NoSuchBeanException
+
+/**
+ * 标准 Bean 提供者
+ *
+ * 每次调用时都从 Bean 工厂中获取 Bean，由 Bean 工厂负责缓存单例
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class GenericBeanProvider<T>(
+    private val beanFactory: BeanFactory,
+    private val type: Class<T>,
+    private val qualifier: String? = null
+) : BeanProvider<T> {
+
+    override fun getObject(): T {
+        return this.getIfAvailable() ?: if (this.qualifier != null) {
+            throw NoSuchBeanException("Cannot find bean with name '${this.qualifier}' and type '${this.type.name}'")
+        } else {
+            throw NoSuchBeanException("Cannot find bean with type '${this.type.name}'")
+        }
+    }
+
+    override fun getIfAvailable(): T? {
+        return if (this.qualifier != null) {
+            this.beanFactory.getBean(this.qualifier, this.type)
+        } else {
+            this.beanFactory.getBean(this.type)
+        }
+    }
+
+    override fun toString(): String {
+        return "${GenericBeanProvider::class.java.simpleName}(type=${this.type.name}, qualifier=${this.qualifier})"
+    }
+}
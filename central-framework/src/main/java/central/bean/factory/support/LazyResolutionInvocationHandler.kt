@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+
+/**
+ * 延迟解析的代理
+ *
+ * 用于注入延迟初始化的单例，第一次调用代理的方法时才会获取目标 Bean。
+ * equals、hashCode 不会获取目标 Bean，代理对象只与自身相等；目标 Bean 未创建时，toString 也不会获取目标 Bean
+ *
+ * @param name 目标 Bean 的名称
+ * @param resolver 用于获取目标 Bean
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+internal class LazyResolutionInvocationHandler(private val name: String, private val resolver: () -> Any) : InvocationHandler {
+
+    @Volatile
+    private var target: Any? = null
+
+    private fun getTarget(): Any {
+        var target = this.target
+        if (target == null) {
+            synchronized(this) {
+                target = this.target
+                if (target == null) {
+                    target = this.resolver()
+                    this.target = target
+                }
+            }
+        }
+        return target!!
+    }
+
+    override fun invoke(proxy: Any, method: Method, args: Array<out Any?>?): Any? {
+        if (method.declaringClass == Any::class.java) {
+            when (method.name) {
+                "equals" -> return proxy === args!![0]
+                "hashCode" -> return System.identityHashCode(proxy)
+                "toString" -> if (this.target == null) return "Lazy proxy for bean '${this.name}'"
+            }
+        }
+        try {
+            return method.invoke(this.getTarget(), *(args ?: emptyArray()))
+        } catch (ex: InvocationTargetException) {
+            throw ex.targetException
+        }
+    }
+}
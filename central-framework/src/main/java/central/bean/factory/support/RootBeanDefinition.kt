@@ -34,16 +34,35 @@ import central.bean.factory.config.*
  * @since 2023/02/10
  */
 class RootBeanDefinition(
-    override var type: Class<*>,
+    override val type: Class<*>,
     override val name: String = (type.getAnnotation(Component::class.java)?.value ?: "").ifEmpty { type.simpleName.replaceFirstChar { it.lowercaseChar() } },
-    override var singleton: Boolean = type.getAnnotation(Scope::class.java)?.singleton ?: true,
+    override var singleton: Boolean = ScopeTarget.resolve(type.getAnnotation(Scope::class.java)) == ScopeTarget.SINGLETON,
     override var lazyInit: Boolean = type.getAnnotation(LazyInit::class.java)?.value ?: false,
     override var dependsOn: List<String> = type.getAnnotation(DependsOn::class.java)?.value?.toList() ?: emptyList(),
     override var primary: Boolean = type.getAnnotation(Primary::class.java) != null,
-    override var factory: FactoryBean<*> = ConstructorInvokingFactoryBean(type)
+    override var factory: FactoryBean<*> = ConstructorInvokingFactoryBean(type),
+    override var mainThread: Boolean = type.isAnnotationPresent(MainThreadInit::class.java),
+    scope: String = ScopeTarget.resolve(type.getAnnotation(Scope::class.java))
 ) : BeanDefinition {
 
+    /**
+     * 作用域名称。单例与原型由 [singleton] 决定，其它作用域需要在 Bean 工厂中注册
+     */
+    override var scope: String = scope
+        get() = if (field == ScopeTarget.SINGLETON || field == ScopeTarget.PROTOTYPE) super.scope else field
+        set(value) {
+            field = value
+            this.singleton = value == ScopeTarget.SINGLETON
+        }
+
+    init {
+        if (this.scope != ScopeTarget.SINGLETON && this.scope != ScopeTarget.PROTOTYPE) {
+            // 其它作用域的 Bean 由作用域管理，不能作为单例缓存
+            this.singleton = false
+        }
+    }
+
     override fun toString(): String {
-        return "${RootBeanDefinition::class.java.simpleName}(name=${this.name}, type=${this.type.name}, singleton=${this.singleton}, lazy=${this.lazyInit}, dependsOn=${this.dependsOn}, primary=${this.primary})"
+        return "${RootBeanDefinition::class.java.simpleName}(name=${this.name}, type=${this.type.name}, singleton=${this.singleton}, scope=${this.scope}, lazy=${this.lazyInit}, dependsOn=${this.dependsOn}, primary=${this.primary})"
     }
 }
\ No newline at end of file
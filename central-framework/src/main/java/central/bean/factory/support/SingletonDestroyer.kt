@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import central.bean.factory.DestroyableBean
+import central.bean.factory.config.DestructionReport
+import central.bean.factory.metrics.ApplicationStartup
+import central.bean.factory.metrics.StartupStep
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * 单例销毁器
+ *
+ * 按依赖关系的逆序销毁单例：一个 Bean 只有在所有依赖它的 Bean 都销毁完毕后才会被销毁，
+ * 相互之间没有依赖关系的 Bean 会在线程池中并行销毁。需要在主线程中初始化的 Bean 同样会交给调用 [destroy] 方法的线程销毁。
+ *
+ * 存在循环依赖的 Bean 无法参与调度，会在其余 Bean 销毁完毕后按创建顺序的逆序依次销毁。
+ * 超过截止时间后不再销毁剩余的 Bean，这些 Bean 会记录在 [DestructionReport.unfinished] 中。
+ *
+ * @param beans 需要销毁的单例（bean name -> bean），按创建顺序排列
+ * @param dependencies 单例之间的依赖关系（bean name -> 依赖的 bean name）
+ * @param mainThread 需要在主线程中销毁的单例
+ * @param parallelism 最大并行数
+ * @param startup 用于记录每个 Bean 的销毁过程
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+internal class SingletonDestroyer(
+    private val beans: LinkedHashMap<String, Any>,
+    private val dependencies: Map<String, Set<String>>,
+    private val mainThread: Set<String>,
+    private val parallelism: Int,
+    private val startup: ApplicationStartup
+) {
+    /**
+     * 已开始销毁的 Bean
+     */
+    private val started = ConcurrentHashMap.newKeySet<String>()
+
+    /**
+     * 已销毁的 Bean 的销毁耗时（纳秒）
+     */
+    private val timings = ConcurrentHashMap<String, Long>()
+
+    /**
+     * 销毁过程中出现的异常
+     */
+    private val failures = ConcurrentHashMap<String, Throwable>()
+
+    private var deadline = 0L
+
+    fun destroy(timeout: Long, unit: TimeUnit): DestructionReport {
+        this.deadline = System.nanoTime() + unit.toNanos(timeout)
+
+        // 销毁一个 Bean 之前，需要先销毁所有依赖它的 Bean
+        val dependents = HashMap<String, MutableSet<String>>()
+        for (name in this.beans.keys) {
+            for (dependency in this.dependencies[name].orEmpty()) {
+                dependents.computeIfAbsent(dependency) { LinkedHashSet() }.add(name)
+            }
+        }
+
+        // 后创建的 Bean 先销毁
+        val scheduler = DependencyScheduler(this.beans.keys.reversed(), dependents, this.parallelism, "central-destroyer", { it in this.mainThread }, null, this::execute)
+        val completed = scheduler.run(this.deadline)
+
+        // 剩下的 Bean 存在循环依赖（或被存在循环依赖的 Bean 依赖）
+        if (completed) {
+            for (name in scheduler.getUnscheduled()) {
+                if (this.isExpired()) {
+                    break
+                }
+                if (this.started.add(name)) {
+                    this.destroyBean(name)
+                }
+            }
+        }
+
+        val unfinished = this.beans.keys.filter { !this.timings.containsKey(it) }
+        return DestructionReport(HashMap(this.timings), HashMap(this.failures), unfinished)
+    }
+
+    /**
+     * 销毁 Bean，返回是否可以继续销毁它依赖的 Bean
+     */
+    private fun execute(name: String): Boolean {
+        if (this.isExpired() || !this.started.add(name)) {
+            return false
+        }
+        this.destroyBean(name)
+        return true
+    }
+
+    private fun destroyBean(name: String) {
+        val bean = this.beans[name]
+        val step = this.startup.start("bean.destroy").tag(StartupStep.BEAN_NAME, name)
+        val start = System.nanoTime()
+        try {
+            (bean as? DestroyableBean)?.destroy()
+        } catch (ex: Throwable) {
+            this.failures[name] = ex
+        } finally {
+            this.timings[name] = System.nanoTime() - start
+            step.end()
+        }
+    }
+
+    private fun isExpired(): Boolean {
+        return System.nanoTime() - this.deadline >= 0
+    }
+}
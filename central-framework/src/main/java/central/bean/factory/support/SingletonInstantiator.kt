@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import central.bean.factory.BeanCreationException
+import central.bean.factory.BeanException
+import central.bean.factory.config.BeanDefinition
+import java.util.concurrent.Executor
+
+/**
+ * 单例预初始化器
+ *
+ * 根据 Bean 之间的依赖关系（有向无环图）调度单例的创建：一个 Bean 的所有依赖都创建完毕后，才会开始创建该 Bean，
+ * 没有依赖关系的 Bean 会在线程池中并行创建。需要在主线程中初始化的 Bean 会交给 [mainThreadExecutor] 创建，
+ * 没有指定 [mainThreadExecutor] 时，交给调用 [instantiate] 方法的线程创建。
+ *
+ * 存在循环依赖的 Bean 无法参与调度，会在其余 Bean 创建完毕后，在当前线程中依次创建。
+ *
+ * @param definitions 需要预初始化的单例
+ * @param dependencies 单例之间的依赖关系（bean name -> 依赖的 bean name）
+ * @param parallelism 最大并行数
+ * @param mainThreadExecutor 主线程执行器，在后台线程中预初始化单例时使用
+ * @param creator 用于创建单例
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+internal class SingletonInstantiator(
+    private val definitions: List<BeanDefinition>,
+    private val dependencies: Map<String, Set<String>>,
+    private val parallelism: Int,
+    private val mainThreadExecutor: Executor?,
+    private val creator: (BeanDefinition) -> Any
+) {
+    fun instantiate() {
+        val definitions = this.definitions.associateBy { it.name }
+        val scheduler = DependencyScheduler(definitions.keys.toList(), this.dependencies, this.parallelism, "central-instantiator", { definitions[it]!!.mainThread }, this.mainThreadExecutor) { name ->
+            this.creator(definitions[name]!!)
+            true
+        }
+        scheduler.run()
+
+        val failure = scheduler.failure
+        if (failure != null) {
+            throw failure as? BeanException ?: BeanCreationException(failure.message, failure)
+        }
+
+        // 剩下的 Bean 存在循环依赖（或依赖了存在循环依赖的 Bean）
+        // 通过字段或 Setter 注入形成的循环依赖可以通过早期引用解决，因此在当前线程中依次创建
+        for (name in scheduler.getUnscheduled()) {
+            try {
+                this.creator(definitions[name]!!)
+            } catch (ex: BeanException) {
+                val cycle = this.findCycle(name)
+                if (cycle != null) {
+                    throw BeanCreationException("Error creating bean '$name': Circular dependency detected: ${cycle.joinToString(" -> ")}", ex)
+                }
+                throw ex
+            }
+        }
+    }
+
+    /**
+     * 查找从指定 Bean 出发的循环依赖路径
+     */
+    private fun findCycle(name: String): List<String>? {
+        val path = mutableListOf<String>()
+        val visited = mutableSetOf<String>()
+
+        fun visit(current: String): List<String>? {
+            val index = path.indexOf(current)
+            if (index >= 0) {
+                return path.subList(index, path.size) + current
+            }
+            if (!visited.add(current)) {
+                return null
+            }
+            path.add(current)
+            for (dependency in this.dependencies[current].orEmpty()) {
+                val cycle = visit(dependency)
+                if (cycle != null) {
+                    return cycle
+                }
+            }
+            path.removeAt(path.size - 1)
+            return null
+        }
+
+        return visit(name)
+    }
+}
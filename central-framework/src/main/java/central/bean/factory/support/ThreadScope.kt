@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import central.bean.factory.DestroyableBean
+import central.bean.factory.config.BeanScope
+import central.bean.factory.config.ScopeTarget
+
+/**
+ * 线程作用域
+ *
+ * 同一线程中获取到的是同一个实例，不同线程获取到的是不同实例，适合用于缓存非线程安全的工具（如格式化器、解析器、缓冲区等）。
+ *
+ * 线程结束时，线程中的 Bean 会随着线程被回收，但是不会执行销毁回调。因此在线程池中使用时，可以通过 [wrap] 包装任务，
+ * 或在任务结束时调用 [clear]，以便及时销毁当前线程中的 Bean
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see ScopeTarget.THREAD
+ */
+class ThreadScope : BeanScope {
+
+    /**
+     * 当前线程中的 Bean
+     */
+    private val beans = ThreadLocal<MutableMap<String, Any>>()
+
+    /**
+     * 当前线程中的 Bean 的销毁回调
+     */
+    private val callbacks = ThreadLocal<MutableMap<String, Runnable>>()
+
+    override fun get(name: String, factory: () -> Any): Any {
+        var beans = this.beans.get()
+        if (beans == null) {
+            beans = HashMap()
+            this.beans.set(beans)
+        }
+
+        var bean = beans[name]
+        if (bean == null) {
+            bean = factory()
+            beans[name] = bean
+            if (bean is DestroyableBean) {
+                this.registerDestructionCallback(name, bean::destroy)
+            }
+        }
+        return bean
+    }
+
+    override fun remove(name: String): Any? {
+        val bean = this.beans.get()?.remove(name)
+        this.callbacks.get()?.remove(name)?.run()
+        return bean
+    }
+
+    override fun registerDestructionCallback(name: String, callback: Runnable) {
+        var callbacks = this.callbacks.get()
+        if (callbacks == null) {
+            callbacks = LinkedHashMap()
+            this.callbacks.set(callbacks)
+        }
+        callbacks[name] = callback
+    }
+
+    /**
+     * 清空当前线程中的 Bean，并执行这些 Bean 的销毁回调
+     */
+    fun clear() {
+        val callbacks = this.callbacks.get()
+        this.beans.remove()
+        this.callbacks.remove()
+
+        if (callbacks != null) {
+            // 按创建的相反顺序销毁
+            var failure: Throwable? = null
+            for (callback in callbacks.values.reversed()) {
+                try {
+                    callback.run()
+                } catch (ex: Throwable) {
+                    if (failure == null) failure = ex else failure.addSuppressed(ex)
+                }
+            }
+            if (failure != null) {
+                throw failure
+            }
+        }
+    }
+
+    /**
+     * 包装任务，在任务执行完毕后清空当前线程中的 Bean
+     *
+     * 如果任务抛出了异常，销毁回调的异常会作为被抑制的异常附加到任务的异常上，而不会覆盖任务的异常
+     *
+     * @param task 任务
+     */
+    fun wrap(task: Runnable): Runnable {
+        return Runnable {
+            try {
+                task.run()
+            } catch (ex: Throwable) {
+                try {
+                    this.clear()
+                } catch (failure: Throwable) {
+                    ex.addSuppressed(failure)
+                }
+                throw ex
+            }
+            this.clear()
+        }
+    }
+}
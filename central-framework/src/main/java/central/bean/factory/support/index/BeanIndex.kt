@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support.index
+
+import central.bean.factory.config.BeanDefinition
+
+/**
+ * Bean 索引
+ *
+ * 由 central-framework-processor 在编译期为每个配置类（[central.bean.factory.config.Configuration]）生成，
+ * 生成的类名为 `<配置类名>_BeanIndex`。加载索引后，容器不再需要通过反射解析配置类中的 @Import 注解、
+ * 带有 @Bean 注解的方法及构造函数。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see BeanIndexes
+ */
+interface BeanIndex {
+    /**
+     * 获取配置类引入的 Bean 定义
+     *
+     * 包括 @Import 注解引入的组件与带有 @Bean 注解的方法产生的 Bean，不包括 .imports 文件引入的组件
+     *
+     * @param configuration 配置类的 Bean 定义
+     */
+    fun getDefinitions(configuration: BeanDefinition): List<BeanDefinition>
+
+    /**
+     * 获取组件的注入点
+     *
+     * type -> injection points
+     */
+    fun getInjectionPoints(): Map<Class<*>, List<InjectionPoint>>
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support.index
+
+import central.bean.factory.config.BeanDefinition
+import central.bean.factory.support.RootBeanDefinition
+import java.lang.ref.SoftReference
+import java.util.WeakHashMap
+
+/**
+ * Bean 索引工具
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see BeanIndex
+ */
+object BeanIndexes {
+    /**
+     * 生成的索引类名后缀
+     */
+    const val SUFFIX = "_BeanIndex"
+
+    /**
+     * 已加载的索引
+     *
+     * 使用弱引用的键与软引用的值，不会阻止配置类及其 ClassLoader 被卸载
+     *
+     * configuration type -> index
+     */
+    private val indexes = WeakHashMap<Class<*>, SoftReference<Any>>()
+
+    /**
+     * 已加载的注入点
+     *
+     * 使用弱引用的键与软引用的值，不会阻止组件类及其 ClassLoader 被卸载
+     *
+     * type -> injection points
+     */
+    private val injectionPoints = WeakHashMap<Class<*>, SoftReference<List<InjectionPoint>>>()
+
+    /**
+     * 用于标记没有索引的配置类
+     */
+    private val NONE = Any()
+
+    /**
+     * 获取配置类的索引。如果该配置类没有在编译期生成索引，则返回 null
+     *
+     * @param configuration 配置类
+     */
+    @JvmStatic
+    fun find(configuration: Class<*>): BeanIndex? {
+        synchronized(this.indexes) {
+            val cached = this.indexes[configuration]?.get()
+            if (cached != null) {
+                return cached as? BeanIndex
+            }
+        }
+
+        val index = try {
+            val indexType = Class.forName(this.getIndexName(configuration), true, configuration.classLoader)
+            indexType.newInstance() as BeanIndex
+        } catch (ignored: ClassNotFoundException) {
+            null
+        }
+
+        if (index != null) {
+            synchronized(this.injectionPoints) {
+                for ((type, points) in index.getInjectionPoints()) {
+                    this.injectionPoints[type] = SoftReference(points)
+                }
+            }
+        }
+        synchronized(this.indexes) {
+            this.indexes[configuration] = SoftReference(index ?: NONE)
+        }
+        return index
+    }
+
+    /**
+     * 获取已加载的索引中记录的注入点。如果该类型没有被索引，则返回 null
+     *
+     * @param type 组件类型
+     */
+    @JvmStatic
+    fun getInjectionPoints(type: Class<*>): List<InjectionPoint>? {
+        synchronized(this.injectionPoints) {
+            return this.injectionPoints[type]?.get()
+        }
+    }
+
+    /**
+     * 通过反射创建 Bean 定义
+     *
+     * 用于索引无法直接调用构造函数的组件（如没有公开的构造函数）
+     *
+     * @param type 组件类型
+     */
+    @JvmStatic
+    fun reflective(type: Class<*>): BeanDefinition {
+        return RootBeanDefinition(type)
+    }
+
+    /**
+     * 获取索引类名
+     *
+     * 嵌套类的索引为顶级类，如 `a.b.Outer$Inner` 的索引为 `a.b.Outer_Inner_BeanIndex`
+     */
+    @JvmStatic
+    fun getIndexName(configuration: Class<*>): String {
+        val packageName = configuration.name.substringBeforeLast('.', "")
+        val simpleName = configuration.name.substringAfterLast('.').replace('$', '_')
+        return if (packageName.isEmpty()) "$simpleName$SUFFIX" else "$packageName.$simpleName$SUFFIX"
+    }
+}
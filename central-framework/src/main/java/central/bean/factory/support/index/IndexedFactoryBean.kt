@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support.index
+
+import central.bean.context.ApplicationContext
+import central.bean.context.ApplicationContextAware
+import central.bean.factory.BeanCreationException
+import central.bean.factory.BeanProvider
+import central.bean.factory.FactoryBean
+import central.bean.factory.config.DependencyDescriptor
+import central.bean.factory.support.GenericBeanProvider
+import central.convert.Converter
+
+/**
+ * 由 Bean 索引生成的 Bean 工厂
+ *
+ * 生成的子类直接调用构造函数或 @Bean 方法创建实例，不需要在运行时通过反射选择构造函数、解析参数注解
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see BeanIndex
+ */
+abstract class IndexedFactoryBean<T>(
+    private val type: Class<T>,
+    override val singleton: Boolean,
+    override val lazy: Boolean
+) : FactoryBean<T>, ApplicationContextAware {
+
+    override lateinit var applicationContext: ApplicationContext
+
+    override fun getBean(): T {
+        return this.create()
+    }
+
+    override fun getBeanType(): Class<*> {
+        return this.type
+    }
+
+    /**
+     * 创建实例
+     */
+    protected abstract fun create(): T
+
+    /**
+     * 获取配置类实例，用于调用配置类中带有 @Bean 注解的方法
+     *
+     * @param name 配置类的 Bean 名称
+     */
+    protected fun <C> configuration(name: String): C {
+        return this.applicationContext.requireBean(name)
+    }
+
+    /**
+     * 解析 BeanProvider<T> 类型的参数
+     *
+     * @param type BeanProvider 提供的 Bean 类型
+     * @param qualifier 限定的 Bean 名称
+     */
+    protected fun <A> provider(type: Class<A>, qualifier: String?): BeanProvider<A> {
+        return GenericBeanProvider(this.applicationContext, type, qualifier)
+    }
+
+    /**
+     * 解析参数
+     *
+     * @param type 参数类型
+     * @param qualifier 限定的 Bean 名称
+     * @param value @Value 注解的值
+     * @param required 是否必须
+     */
+    protected fun <A> argument(type: Class<A>, qualifier: String?, value: String?, required: Boolean): A? {
+        if (value != null) {
+            val str = if (required) {
+                this.applicationContext.environment.resolveRequiredPlaceholders(value)
+            } else {
+                this.applicationContext.environment.resolvePlaceholders(value)
+            }
+            return this.applicationContext.requireBean(Converter::class.java).convert(str, type)
+        }
+
+        // 有 qualifier 时根据实体名获取 Bean，否则根据类型获取 Bean
+        @Suppress("UNCHECKED_CAST")
+        val argument = this.applicationContext.resolveDependency(DependencyDescriptor(type, qualifier, required)) as A?
+
+        if (argument == null && required) {
+            throw BeanCreationException("Cannot find any beans of type [${type.name}] for bean [${this.type.name}]")
+        }
+        return argument
+    }
+}
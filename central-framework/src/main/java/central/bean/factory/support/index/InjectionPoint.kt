@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support.index
+
+/**
+ * 注入点
+ *
+ * 描述组件中需要通过 @Autowired 或 @Qualifier 注入的字段或方法
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class InjectionPoint(
+    /**
+     * 注入点类型
+     */
+    val kind: Kind,
+    /**
+     * 字段名或方法名
+     */
+    val name: String,
+    /**
+     * 待注入的类型。字段注入时只有一个元素，方法注入时为方法的参数类型
+     */
+    val types: Array<Class<*>>,
+    /**
+     * 限定的 Bean 名称，没有限定时为 null
+     */
+    val qualifiers: Array<String?>,
+    /**
+     * 是否必须注入
+     */
+    val required: BooleanArray
+) {
+    enum class Kind {
+        /**
+         * 字段注入
+         */
+        FIELD,
+
+        /**
+         * 方法注入
+         */
+        METHOD
+    }
+
+    override fun toString(): String {
+        return "${InjectionPoint::class.java.simpleName}(kind=${this.kind}, name=${this.name}, types=${this.types.joinToString { it.name }})"
+    }
+}
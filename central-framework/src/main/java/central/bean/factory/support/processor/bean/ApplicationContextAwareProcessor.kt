@@ -40,13 +40,17 @@ import central.bean.factory.config.FactoryBeanPostProcessor
  */
 class ApplicationContextAwareProcessor(private val applicationContext: ApplicationContext) : BeanPostProcessor, FactoryBeanPostProcessor {
 
+    override fun supports(beanType: Class<*>): Boolean {
+        return ApplicationContextAware::class.java.isAssignableFrom(beanType)
+    }
+
     override fun processBeforeInitialization(name: String, bean: Any): Any {
         return bean.also {
             (it as? ApplicationContextAware)?.applicationContext = this.applicationContext
         }
     }
 
-    override fun postProcessFactoryBean(factory: FactoryBean<*>) {
+    override fun postProcessFactoryBean(name: String, factory: FactoryBean<*>) {
         (factory as? ApplicationContextAware)?.applicationContext = this.applicationContext
     }
 }
\ No newline at end of file
@@ -36,6 +36,10 @@ import central.bean.factory.config.BeanPostProcessor
  */
 class ApplicationListenerDetector(private val applicationContext: ApplicationContext) : BeanPostProcessor {
 
+    override fun supports(beanType: Class<*>): Boolean {
+        return ApplicationListener::class.java.isAssignableFrom(beanType)
+    }
+
     override fun processAfterInitialization(name: String, bean: Any): Any {
         if (bean is ApplicationListener<*>) {
             this.applicationContext.addApplicationListener(bean)
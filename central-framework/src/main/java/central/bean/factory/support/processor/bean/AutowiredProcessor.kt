@@ -29,8 +29,12 @@ import central.bean.factory.Autowired
 import central.bean.factory.NoSuchBeanException
 import central.bean.factory.Qualifier
 import central.bean.factory.config.BeanPostProcessor
+import central.bean.factory.config.DependencyDescriptor
+import central.bean.factory.support.index.BeanIndexes
+import central.bean.factory.support.index.InjectionPoint
 import java.lang.reflect.Field
 import java.lang.reflect.Modifier
+import java.util.concurrent.ConcurrentHashMap
 
 /**
  * 用于处理 @Autowired 注入
@@ -42,18 +46,113 @@ import java.lang.reflect.Modifier
  */
 class AutowiredProcessor(private val applicationContext: ApplicationContext) : BeanPostProcessor {
 
+    /**
+     * 注入元数据缓存
+     *
+     * bean type -> metadata
+     */
+    private val metadataCache = ConcurrentHashMap<Class<*>, InjectionMetadata>()
+
+    /**
+     * 用于解析需要注入的 Bean
+     */
+    private val resolver: (DependencyDescriptor) -> Any? = this::resolve
+
+    override fun supports(beanType: Class<*>): Boolean {
+        return !this.findInjectionMetadata(beanType).isEmpty
+    }
+
     override fun processBeforeInitialization(name: String, bean: Any): Any {
-        this.injectFields(bean)
-        this.injectMethods(bean)
+        this.findInjectionMetadata(bean::class.java).inject(bean, this.resolver)
+        return bean
+    }
+
+    override fun getDependencies(beanType: Class<*>): List<DependencyDescriptor> {
+        return this.findInjectionMetadata(beanType).dependencies
+    }
 
+    /**
+     * 获取指定类型的注入元数据，每个类型只解析一次
+     */
+    fun findInjectionMetadata(type: Class<*>): InjectionMetadata {
+        return this.metadataCache[type] ?: this.metadataCache.computeIfAbsent(type) {
+            val injectionPoints = BeanIndexes.getInjectionPoints(it)
+            if (injectionPoints != null) {
+                // 组件已在编译期建立索引，直接按索引记录的注入点构建，不需要扫描所有字段和方法
+                this.buildIndexedMetadata(it, injectionPoints)
+            } else {
+                this.buildMetadata(it)
+            }
+        }
+    }
+
+    /**
+     * 获取已解析过的所有类型的注入点，用于生成上下文快照
+     */
+    fun getResolvedInjectionPoints(): Map<Class<*>, List<InjectionPoint>> {
+        return this.metadataCache.mapValues { it.value.getInjectionPoints() }
+    }
+
+    /**
+     * 注册指定类型的注入点（如从上下文快照中恢复），该类型不需要再扫描字段和方法
+     */
+    fun registerInjectionPoints(type: Class<*>, injectionPoints: List<InjectionPoint>) {
+        this.metadataCache.putIfAbsent(type, if (injectionPoints.isEmpty()) InjectionMetadata.empty(type) else this.buildIndexedMetadata(type, injectionPoints))
+    }
+
+    /**
+     * 解析需要注入的 Bean
+     *
+     * 依赖是必须的时候，如果没有找到符合条件的 Bean，将抛出 NoSuchBeanException
+     */
+    private fun resolve(descriptor: DependencyDescriptor): Any? {
+        val bean = this.applicationContext.resolveDependency(descriptor)
+        if (bean == null && descriptor.required) {
+            if (descriptor.qualifier != null) {
+                throw NoSuchBeanException("Cannot find bean with name '${descriptor.qualifier}' and type '${descriptor.type.name}'")
+            } else {
+                throw NoSuchBeanException("Cannot find bean with type '${descriptor.type.name}'")
+            }
+        }
         return bean
     }
 
+    /**
+     * 根据索引记录的注入点构建注入元数据
+     */
+    private fun buildIndexedMetadata(type: Class<*>, injectionPoints: List<InjectionPoint>): InjectionMetadata {
+        val elements = injectionPoints.map { point ->
+            when (point.kind) {
+                InjectionPoint.Kind.FIELD -> {
+                    val field = type.getDeclaredField(point.name)
+                    InjectionMetadata.FieldElement(field, DependencyDescriptor(point.types[0], point.qualifiers[0], point.required[0], field.genericType))
+                }
+                InjectionPoint.Kind.METHOD -> {
+                    val method = type.getDeclaredMethod(point.name, *point.types)
+                    InjectionMetadata.MethodElement(method, Array(point.types.size) {
+                        DependencyDescriptor(point.types[it], point.qualifiers[it], point.required[it], method.genericParameterTypes[it])
+                    })
+                }
+            }
+        }
+        return InjectionMetadata(type, elements.toTypedArray())
+    }
+
+    /**
+     * 扫描字段和方法，构建注入元数据
+     */
+    private fun buildMetadata(type: Class<*>): InjectionMetadata {
+        val elements = mutableListOf<InjectionMetadata.InjectedElement>()
+        this.findFieldElements(type, elements)
+        this.findMethodElements(type, elements)
+        return if (elements.isEmpty()) InjectionMetadata.empty(type) else InjectionMetadata(type, elements.toTypedArray())
+    }
+
     /**
      * 字段注入
      */
-    private fun injectFields(bean: Any) {
-        for (field in bean::class.java.declaredFields) {
+    private fun findFieldElements(type: Class<*>, elements: MutableList<InjectionMetadata.InjectedElement>) {
+        for (field in type.declaredFields) {
             val autowired = field.getAnnotation(Autowired::class.java)
             val qualifier = field.getAnnotation(Qualifier::class.java)
 
@@ -62,32 +161,15 @@ class AutowiredProcessor(private val applicationContext: ApplicationContext) : B
                 continue
             }
 
-            field.isAccessible = true
-            if (qualifier != null) {
-                val fieldBean = if (autowired?.required != false) {
-                    this.applicationContext.requireBean(qualifier.value, field.type)
-                } else {
-                    this.applicationContext.getBean(qualifier.value, field.type)
-                }
-
-                field.set(bean, fieldBean)
-            } else {
-                val fieldBean = if (autowired?.required != false) {
-                    this.applicationContext.requireBean(field.type)
-                } else {
-                    this.applicationContext.getBean(field.type)
-                }
-
-                field.set(bean, fieldBean)
-            }
+            elements.add(InjectionMetadata.FieldElement(field, DependencyDescriptor(field.type, qualifier?.value, autowired?.required != false, field.genericType)))
         }
     }
 
     /**
      * 方法注入
      */
-    private fun injectMethods(bean: Any) {
-        for (method in bean::class.java.declaredMethods) {
+    private fun findMethodElements(type: Class<*>, elements: MutableList<InjectionMetadata.InjectedElement>) {
+        for (method in type.declaredMethods) {
             if (Modifier.isStatic(method.modifiers)) {
                 // 静态方法一般情况下不执行注入，但是在 kotlin 里，如果直接在 private lateinit var propertyField 上面标注 @Autowired 注解的话，
                 // kotlin 会为这个字段生成一个 getter 方法(private static void xxx.xxx.getPropertyField$annotations())，用于保存注解信息
@@ -100,28 +182,13 @@ class AutowiredProcessor(private val applicationContext: ApplicationContext) : B
 
                     var field: Field? = null
                     try {
-                        field = bean::class.java.getDeclaredField(method.name.removePrefix("get").removeSuffix("\$annotations").replaceFirstChar { it.lowercaseChar() })
-                    } catch (ignored: NoSuchBeanException){}
+                        field = type.getDeclaredField(method.name.removePrefix("get").removeSuffix("\$annotations").replaceFirstChar { it.lowercaseChar() })
+                    } catch (ignored: NoSuchFieldException){}
                     if (field == null){
                         continue
                     }
 
-                    val injectBean = if (qualifier != null) {
-                        if (autowired?.required != false) {
-                            this.applicationContext.requireBean(qualifier.value, field.type)
-                        } else {
-                            this.applicationContext.getBean(qualifier.value, field.type)
-                        }
-                    } else {
-                        if (autowired?.required != false) {
-                            this.applicationContext.requireBean(field.type)
-                        } else {
-                            this.applicationContext.getBean(field.type)
-                        }
-                    }
-
-                    field.isAccessible = true
-                    field.set(bean, injectBean)
+                    elements.add(InjectionMetadata.FieldElement(field, DependencyDescriptor(field.type, qualifier?.value, autowired?.required != false, field.genericType)))
                 }
                 continue
             }
@@ -138,49 +205,16 @@ class AutowiredProcessor(private val applicationContext: ApplicationContext) : B
                 if (autowired == null && qualifier == null) {
                     continue
                 }
-                if (qualifier != null) {
-                    val injectBean = if (autowired?.required != false) {
-                        this.applicationContext.requireBean(qualifier.value, method.parameters[0].type)
-                    } else {
-                        this.applicationContext.getBean(qualifier.value, method.parameters[0].type)
-                    }
-                    method.invoke(bean, injectBean)
-                } else {
-                    val injectBean = if (autowired?.required != false) {
-                        this.applicationContext.requireBean(method.parameters[0].type)
-                    } else {
-                        this.applicationContext.getBean(method.parameters[0].type)
-                    }
-
-                    method.invoke(bean, injectBean)
-                }
-                continue
+                elements.add(InjectionMetadata.MethodElement(method, arrayOf(DependencyDescriptor(method.parameterTypes[0], qualifier?.value, autowired?.required != false, method.genericParameterTypes[0]))))
             } else if (method.isAnnotationPresent(Autowired::class.java)) {
                 // 非 setter 方法，则只要方法上带上 @Autowired，都执行注入。注入时，参数的注入方式由参数的 @Qualifier 注解决定
-                val arguments = arrayOfNulls<Any>(method.parameterCount)
-
-                method.parameters.forEachIndexed { index, parameter ->
+                val descriptors = method.parameters.map { parameter ->
                     val autowired = parameter.getAnnotation(Autowired::class.java)
                     val qualifier = parameter.getAnnotation(Qualifier::class.java)
-
-                    val injectBean = if (qualifier != null) {
-                        if (autowired?.required != false) {
-                            this.applicationContext.requireBean(qualifier.value, method.parameters[index].type)
-                        } else {
-                            this.applicationContext.getBean(qualifier.value, method.parameters[index].type)
-                        }
-                    } else {
-                        if (autowired?.required != false) {
-                            this.applicationContext.requireBean(method.parameters[index].type)
-                        } else {
-                            this.applicationContext.getBean(method.parameters[index].type)
-                        }
-                    }
-
-                    arguments[index] = injectBean
+                    DependencyDescriptor(parameter.type, qualifier?.value, autowired?.required != false, parameter.parameterizedType)
                 }
 
-                method.invoke(bean, *arguments)
+                elements.add(InjectionMetadata.MethodElement(method, descriptors.toTypedArray()))
             }
         }
     }
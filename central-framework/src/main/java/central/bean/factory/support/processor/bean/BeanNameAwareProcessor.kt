@@ -37,13 +37,17 @@ import central.bean.factory.config.FactoryBeanPostProcessor
  * @since 2023/01/30
  */
 class BeanNameAwareProcessor : BeanPostProcessor, FactoryBeanPostProcessor {
+    override fun supports(beanType: Class<*>): Boolean {
+        return BeanNameAware::class.java.isAssignableFrom(beanType)
+    }
+
     override fun processBeforeInitialization(name: String, bean: Any): Any {
         return bean.also {
             (it as? BeanNameAware)?.beanName = name
         }
     }
 
-    override fun postProcessFactoryBean(factory: FactoryBean<*>) {
-        TODO("Not yet implemented")
+    override fun postProcessFactoryBean(name: String, factory: FactoryBean<*>) {
+        (factory as? BeanNameAware)?.beanName = name
     }
 }
\ No newline at end of file
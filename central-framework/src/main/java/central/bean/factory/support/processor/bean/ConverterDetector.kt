@@ -36,6 +36,10 @@ import central.convert.TypeConverter
  */
 class ConverterDetector(private val converter: ConfigurableConverter) : BeanPostProcessor {
 
+    override fun supports(beanType: Class<*>): Boolean {
+        return TypeConverter::class.java.isAssignableFrom(beanType)
+    }
+
     override fun processAfterInitialization(name: String, bean: Any): Any {
         if (bean is TypeConverter<*>) {
             converter.register(bean)
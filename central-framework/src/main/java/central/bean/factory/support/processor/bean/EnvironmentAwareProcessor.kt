@@ -38,6 +38,10 @@ import central.env.Environment
  */
 class EnvironmentAwareProcessor(private val environment: Environment) : BeanPostProcessor {
 
+    override fun supports(beanType: Class<*>): Boolean {
+        return EnvironmentAware::class.java.isAssignableFrom(beanType)
+    }
+
     override fun processBeforeInitialization(name: String, bean: Any): Any {
         return bean.also {
             (it as? EnvironmentAware)?.environment = this.environment
@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support.processor.bean
+
+import central.bean.factory.config.DependencyDescriptor
+import central.bean.factory.support.index.InjectionPoint
+import java.lang.reflect.Field
+import java.lang.reflect.Method
+
+/**
+ * 注入元数据
+ *
+ * 记录了指定类型需要注入的字段和方法。注入元数据只需要解析一次，后续创建的实例直接按照元数据注入即可，
+ * 不需要重复扫描字段、方法和注解
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ * @see AutowiredProcessor
+ */
+class InjectionMetadata(
+    /**
+     * 目标类型
+     */
+    val targetClass: Class<*>,
+    /**
+     * 注入点
+     */
+    private val elements: Array<InjectedElement>
+) {
+
+    /**
+     * 注入点需要的依赖
+     */
+    val dependencies: List<DependencyDescriptor> = elements.flatMap { it.descriptors.asList() }
+
+    /**
+     * 是否没有需要注入的字段或方法
+     */
+    val isEmpty: Boolean
+        get() = elements.isEmpty()
+
+    /**
+     * 注入
+     *
+     * @param bean 目标实例
+     * @param resolver 用于解析需要注入的 Bean
+     */
+    fun inject(bean: Any, resolver: (DependencyDescriptor) -> Any?) {
+        for (element in this.elements) {
+            element.inject(bean, resolver)
+        }
+    }
+
+    /**
+     * 获取注入点描述
+     */
+    fun getInjectionPoints(): List<InjectionPoint> {
+        return this.elements.map { it.toInjectionPoint() }
+    }
+
+    override fun toString(): String {
+        return "${InjectionMetadata::class.java.simpleName}(targetClass=${this.targetClass.name}, elements=${this.elements.contentToString()})"
+    }
+
+    /**
+     * 注入点
+     */
+    abstract class InjectedElement(
+        /**
+         * 注入点需要的依赖
+         */
+        val descriptors: Array<DependencyDescriptor>
+    ) {
+        /**
+         * 注入
+         */
+        abstract fun inject(bean: Any, resolver: (DependencyDescriptor) -> Any?)
+
+        /**
+         * 转换为注入点描述，用于持久化
+         */
+        abstract fun toInjectionPoint(): InjectionPoint
+    }
+
+    /**
+     * 字段注入点
+     */
+    class FieldElement(private val field: Field, descriptor: DependencyDescriptor) : InjectedElement(arrayOf(descriptor)) {
+        init {
+            this.field.isAccessible = true
+        }
+
+        override fun inject(bean: Any, resolver: (DependencyDescriptor) -> Any?) {
+            this.field.set(bean, resolver(this.descriptors[0]))
+        }
+
+        override fun toInjectionPoint(): InjectionPoint {
+            val descriptor = this.descriptors[0]
+            return InjectionPoint(InjectionPoint.Kind.FIELD, this.field.name, arrayOf(this.field.type), arrayOf(descriptor.qualifier), booleanArrayOf(descriptor.required))
+        }
+
+        override fun toString(): String {
+            return "${FieldElement::class.java.simpleName}(field=${this.field.name})"
+        }
+    }
+
+    /**
+     * 方法注入点
+     */
+    class MethodElement(private val method: Method, descriptors: Array<DependencyDescriptor>) : InjectedElement(descriptors) {
+        init {
+            this.method.isAccessible = true
+        }
+
+        override fun inject(bean: Any, resolver: (DependencyDescriptor) -> Any?) {
+            val arguments = arrayOfNulls<Any>(this.descriptors.size)
+            for (index in this.descriptors.indices) {
+                arguments[index] = resolver(this.descriptors[index])
+            }
+            this.method.invoke(bean, *arguments)
+        }
+
+        override fun toInjectionPoint(): InjectionPoint {
+            return InjectionPoint(
+                InjectionPoint.Kind.METHOD,
+                this.method.name,
+                this.method.parameterTypes,
+                Array(this.descriptors.size) { this.descriptors[it].qualifier },
+                BooleanArray(this.descriptors.size) { this.descriptors[it].required }
+            )
+        }
+
+        override fun toString(): String {
+            return "${MethodElement::class.java.simpleName}(method=${this.method.name})"
+        }
+    }
+
+    companion object {
+        /**
+         * 没有任何注入点的元数据
+         */
+        @JvmStatic
+        fun empty(targetClass: Class<*>): InjectionMetadata = InjectionMetadata(targetClass, emptyArray())
+    }
+}
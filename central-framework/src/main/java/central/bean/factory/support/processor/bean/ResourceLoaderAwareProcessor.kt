@@ -38,6 +38,10 @@ import central.io.ResourceLoader
  */
 class ResourceLoaderAwareProcessor(private val resourceLoader: ResourceLoader) : BeanPostProcessor {
 
+    override fun supports(beanType: Class<*>): Boolean {
+        return ResourceLoaderAware::class.java.isAssignableFrom(beanType)
+    }
+
     override fun processBeforeInitialization(name: String, bean: Any): Any {
         return bean.also {
             (it as? ResourceLoaderAware)?.resourceLoader = this.resourceLoader
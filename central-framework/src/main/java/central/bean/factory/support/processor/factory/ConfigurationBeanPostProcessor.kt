@@ -30,9 +30,8 @@ import central.bean.factory.config.*
 import central.bean.factory.support.BeanReference
 import central.bean.factory.support.GenericBeanDefinition
 import central.bean.factory.support.RootBeanDefinition
-import central.io.ResourceLoader
-import central.io.support.ClassPathResourceLoader
-import java.util.*
+import central.bean.factory.support.index.BeanIndexes
+import central.io.support.ImportsIndex
 
 /**
  * 用于处理配置类
@@ -46,16 +45,14 @@ class ConfigurationBeanPostProcessor : BeanFactoryPostProcessor, Prioritized {
     override val priority: Int = Prioritized.HIGHEST_PRIORITY
 
     /**
-     * 资源加载器
-     *
-     * 默认使用 ClassPathResourceLoader
+     * 引入文件索引
      */
-    private val resourceLoaders = mutableListOf<ResourceLoader>(ClassPathResourceLoader(GenericBeanDefinition::class.java.classLoader!!))
+    private val importsIndex = ImportsIndex.of(GenericBeanDefinition::class.java.classLoader!!)
 
     /**
      * 配置类解析器
      */
-    private val resolvers = listOf(ConfigurationBeanResolver(), ImportBeanResolver(), ResourceImportBeanResolver(this))
+    private val resolvers = listOf(IndexBeanResolver(), ConfigurationBeanResolver(), ImportBeanResolver(), ResourceImportBeanResolver(this))
 
     /**
      * 用于记录已解析的配置类
@@ -123,12 +120,29 @@ class ConfigurationBeanPostProcessor : BeanFactoryPostProcessor, Prioritized {
         fun resolve(definition: BeanDefinition): List<BeanDefinition>
     }
 
+    /**
+     * 通过编译期生成的 Bean 索引解析配置类
+     *
+     * 配置类存在索引时，@Import 注解与 @Bean 方法都由索引提供，不再通过反射解析
+     */
+    class IndexBeanResolver : BeanResolver {
+        override fun support(definition: BeanDefinition): Boolean {
+            return BeanIndexes.find(definition.type) != null
+        }
+
+        override fun resolve(definition: BeanDefinition): List<BeanDefinition> {
+            val index = BeanIndexes.find(definition.type) ?: return emptyList()
+            return index.getDefinitions(definition)
+        }
+    }
+
     /**
      * 解析 @Import 注解
      */
     class ImportBeanResolver : BeanResolver {
         override fun support(definition: BeanDefinition): Boolean {
             return definition.type.isAnnotationPresent(Configuration::class.java) && definition.type.isAnnotationPresent(Import::class.java)
+                    && BeanIndexes.find(definition.type) == null
         }
 
         override fun resolve(definition: BeanDefinition): List<BeanDefinition> {
@@ -153,28 +167,8 @@ class ConfigurationBeanPostProcessor : BeanFactoryPostProcessor, Prioritized {
         }
 
         override fun resolve(definition: BeanDefinition): List<BeanDefinition> {
-            val definitions = mutableListOf<BeanDefinition>()
-
             // 从配置文件中引用 Bean
-            for (resourceLoader in processor.resourceLoaders) {
-                val imports = resourceLoader.getResources("META-INF/${definition.type.name}.imports")
-                for (resource in imports) {
-                    if (resource.isExists()) {
-                        val properties = Properties()
-                        properties.load(resource.getInputStream())
-                        val imported = properties.getProperty("imports")
-                        if (!imported.isNullOrBlank()) {
-                            imported.split(",").map { it.trim() }.forEach {
-                                val klass = Class.forName(it)
-                                val component = RootBeanDefinition(klass)
-                                definitions.add(component)
-                            }
-                        }
-                    }
-                }
-            }
-
-            return definitions
+            return processor.importsIndex.getImportedClasses(definition.type.name).map { RootBeanDefinition(it) }
         }
     }
 
@@ -183,7 +177,7 @@ class ConfigurationBeanPostProcessor : BeanFactoryPostProcessor, Prioritized {
      */
     class ConfigurationBeanResolver : BeanResolver {
         override fun support(definition: BeanDefinition): Boolean {
-            return definition.type.isAnnotationPresent(Configuration::class.java)
+            return definition.type.isAnnotationPresent(Configuration::class.java) && BeanIndexes.find(definition.type) == null
         }
 
         override fun resolve(definition: BeanDefinition): List<BeanDefinition> {
@@ -202,7 +196,9 @@ class ConfigurationBeanPostProcessor : BeanFactoryPostProcessor, Prioritized {
                         lazyInit = factory.lazy,
                         dependsOn = dependsOn?.value?.toList() ?: emptyList(),
                         primary = method.isAnnotationPresent(Primary::class.java),
-                        factory = factory
+                        factory = factory,
+                        mainThread = method.isAnnotationPresent(MainThreadInit::class.java),
+                        scope = ScopeTarget.resolve(method.getAnnotation(Scope::class.java))
                     )
                 )
             }
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.convert.support
+
+import central.convert.TypeConverter
+
+/**
+ * 多跳转换器
+ *
+ * 没有可以直接转换的转换器时，由多个转换器依次转换，如 String -> Long -> Date。任意一步返回 null 时，转换结果为 null
+ *
+ * @param steps 依次执行的转换器
+ *
+ * @author Alan Yeh
+ * @see GenericConverter
+ * @since 2026/10/17
+ */
+internal class ConverterChain(private val steps: Array<TypeConverter<*>>) : TypeConverter<Any> {
+
+    override fun support(source: Class<*>): Boolean = this.steps.first().support(source)
+
+    override fun convert(source: Any): Any? {
+        var current: Any = source
+        for (step in this.steps) {
+            current = step.convert(current) ?: return null
+        }
+        return current
+    }
+
+    override fun toString(): String = this.steps.joinToString(" -> ") { it.javaClass.simpleName }
+}
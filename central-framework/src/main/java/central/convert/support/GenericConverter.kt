@@ -30,15 +30,21 @@ import central.convert.ConvertException
 import central.convert.Converter
 import central.convert.TypeConverter
 import central.convert.support.impl.UnsupportedConverter
+import central.io.support.ImportsIndex
 import central.lang.Assertx
 import java.lang.reflect.ParameterizedType
 import java.lang.reflect.Type
 import java.util.*
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
 
 /**
  * 标准转换服务
  *
+ * 没有可以直接转换的转换器时，会在已注册的转换器之间查找最短的转换路径（最多 [MAX_HOPS] 步），如 String -> Long -> Date，
+ * 并将该路径组合为一个转换器缓存起来。长度相同的路径中，优先经过先注册的转换器。
+ * 支持任意源类型的转换器（如 String 转换器）不会作为中间步骤，否则几乎所有类型都可以通过 toString() 转换为其它类型
+ *
  * @author Alan Yeh
  * @since 2023/02/06
  */
@@ -48,32 +54,42 @@ class GenericConverter : ConfigurableConverter {
      *
      * target class name -> converter
      */
-    private val converters = ConcurrentHashMap<String, MutableList<TypeConverter<*>>>()
+    private val converters = ConcurrentHashMap<String, CopyOnWriteArrayList<TypeConverter<*>>>()
 
     /**
      * 已缓存的转换器
      *
      * 因为如果没找到转换器的话，需要依次调用各个 Converter::support 方法来判断是否支持的数据转换，相对来说比较低效。
      * 因此将已知的已匹配的类型保存起来，这样下次就可以直接获取到指定的转换器了
+     *
+     * target class -> source class -> converter
+     *
+     * Class 没有重写 equals 与 hashCode，因此两级查找都是按对象标识进行的，命中缓存时不需要创建任何对象。
+     * 原始类型直接作为键缓存，只有未命中时才需要转换为包装类型
+     */
+    private val cached = ConcurrentHashMap<Class<*>, ConcurrentHashMap<Class<*>, TypeConverter<*>>>()
+
+    /**
+     * 查找转换路径时可以作为中间步骤的转换器，按注册顺序排列
+     *
+     * target class -> converter
      */
-    private val cached = ConcurrentHashMap<MatchedKey, TypeConverter<*>>()
+    private var edges: List<Pair<Class<*>, TypeConverter<*>>>? = null
+
+    /**
+     * 所有转换器的目标类型，按注册顺序排列
+     *
+     * converter -> target class
+     */
+    private val targets = LinkedHashMap<TypeConverter<*>, Class<*>>()
 
     init {
-        // 预注册转换器
-        val resources = Thread.currentThread().contextClassLoader?.getResources("META-INF/${Converter::class.java.name}.imports")
-        if (resources != null) {
-            while (resources.hasMoreElements()) {
-                val properties = Properties()
-                properties.load(resources.nextElement().openStream())
-                val classes = properties.getProperty("imports")
-                classes.split(",")
-                    // 将 properties 里面指定的类加载出来
-                    .map { Class.forName(it) }
-                    .onEach { Assertx.mustAssignableFrom(TypeConverter::class.java, it) { InitializeException(it, "") } }
-                    .map { it.newInstance() }
-                    .forEach { this.register(it as TypeConverter<*>) }
-            }
-        }
+        // 预注册转换器，引入文件的扫描结果与加载出来的类由 ImportsIndex 缓存，不需要每次创建时都扫描类路径
+        val classLoader = Thread.currentThread().contextClassLoader ?: GenericConverter::class.java.classLoader
+        ImportsIndex.of(classLoader).getImportedClasses(Converter::class.java.name)
+            .onEach { Assertx.mustAssignableFrom(TypeConverter::class.java, it) { InitializeException(it, "") } }
+            .map { it.newInstance() }
+            .forEach { this.register(it as TypeConverter<*>) }
     }
 
     /**
@@ -84,8 +100,11 @@ class GenericConverter : ConfigurableConverter {
     override fun register(converter: TypeConverter<*>) {
         val targetType = Assertx.requireNotNull(this.findTargetType(converter), "Register converter failed: Cannot find interface Converter<?> from '${converter::javaClass.name}'")
 
-        this.converters.computeIfAbsent(targetType.typeName) { mutableListOf() }.add(converter)
-        this.cached.clear()
+        synchronized(this.cached) {
+            this.converters.computeIfAbsent(targetType.typeName) { CopyOnWriteArrayList() }.add(converter)
+            (targetType as? Class<*>)?.let { this.targets[converter] = it }
+            this.invalidate(targetType.typeName)
+        }
     }
 
     /**
@@ -94,8 +113,24 @@ class GenericConverter : ConfigurableConverter {
     override fun deregister(converter: TypeConverter<*>) {
         val targetType = this.findTargetType(converter) ?: return
 
-        this.converters.computeIfAbsent(targetType.typeName) { mutableListOf() }.remove(converter)
-        this.cached.clear()
+        synchronized(this.cached) {
+            this.converters[targetType.typeName]?.remove(converter)
+            this.targets.remove(converter)
+            this.invalidate(targetType.typeName)
+        }
+    }
+
+    /**
+     * 清除指定目标类型的缓存。其它目标类型只清除多跳转换器与不支持的记录（转换路径可能发生了变化），直接匹配的转换器不受影响
+     *
+     * @param targetTypeName 目标类型名称
+     */
+    private fun invalidate(targetTypeName: String) {
+        this.edges = null
+        this.cached.keys.removeIf { toObjectType(it).typeName == targetTypeName }
+        for (converters in this.cached.values) {
+            converters.values.removeIf { it === UNSUPPORTED || it is ConverterChain }
+        }
     }
 
     /**
@@ -128,7 +163,7 @@ class GenericConverter : ConfigurableConverter {
             return source as T
         }
 
-        val converter = this.getConverter(source::class.java, target)
+        val converter = this.getConverter(source.javaClass, target)
         Assertx.mustTrue(converter !is UnsupportedConverter) { ConvertException(source, target) }
 
         return converter.convert(source) as T
@@ -146,32 +181,88 @@ class GenericConverter : ConfigurableConverter {
 
     private fun getConverter(source: Class<*>, target: Class<*>): TypeConverter<*> {
         // 查询之前已匹配的记录
-        return cached.computeIfAbsent(MatchedKey(this.toObjectType(source), this.toObjectType(target))) { key ->
-            // 如果没有找到，则需要重新查找合适的转换器
-            this.converters.computeIfAbsent(key.target.typeName) { mutableListOf() }
-                // 依次判断转换器是否支持转换源数据类型
-                // 找到第一个支持的转换器即可
-                .firstOrNull { it.support(key.source) } ?: UnsupportedConverter()
+        return this.cached[target]?.get(source) ?: this.resolveConverter(source, target)
+    }
+
+    private fun resolveConverter(source: Class<*>, target: Class<*>): TypeConverter<*> {
+        // 与注册、取消注册互斥，防止将已失效的查找结果写入缓存
+        synchronized(this.cached) {
+            val converters = this.cached.computeIfAbsent(target) { ConcurrentHashMap() }
+            return converters.getOrPut(source) {
+                // 如果没有找到，则需要重新查找合适的转换器
+                val sourceType = toObjectType(source)
+                val targetType = toObjectType(target)
+                this.findDirectConverter(sourceType, targetType) ?: this.findConverterChain(sourceType, targetType) ?: UNSUPPORTED
+            }
         }
     }
 
-    private fun toObjectType(type: Class<*>): Class<*> {
-        return if (type.isPrimitive) {
-            when (type.name) {
-                "long" -> Long::class.javaObjectType
-                "int" -> Int::class.javaObjectType
-                "short" -> Short::class.javaObjectType
-                "float" -> Float::class.javaObjectType
-                "double" -> Double::class.javaObjectType
-                "char" -> Char::class.javaObjectType
-                "byte" -> Byte::class.javaObjectType
-                "boolean" -> Boolean::class.javaObjectType
-                else -> throw IllegalArgumentException("未知的原始类型[${type.name}]")
+    private fun findDirectConverter(source: Class<*>, target: Class<*>): TypeConverter<*>? {
+        // 依次判断转换器是否支持转换源数据类型
+        // 找到第一个支持的转换器即可
+        return this.converters[target.typeName].orEmpty().firstOrNull { it.support(source) }
+    }
+
+    /**
+     * 按广度优先查找最短的转换路径
+     */
+    private fun findConverterChain(source: Class<*>, target: Class<*>): TypeConverter<*>? {
+        val edges = this.edges ?: this.targets.entries.filter { !it.key.support(Any::class.java) }.map { it.value to it.key }.also { this.edges = it }
+
+        val visited = hashSetOf<Class<*>>(source)
+        var paths = listOf(source to emptyList<TypeConverter<*>>())
+        for (hop in 1 until MAX_HOPS) {
+            val next = mutableListOf<Pair<Class<*>, List<TypeConverter<*>>>>()
+            for ((type, steps) in paths) {
+                for ((intermediate, converter) in edges) {
+                    if (intermediate in visited || !converter.support(type)) {
+                        continue
+                    }
+                    val path = steps + converter
+                    if (target.isAssignableFrom(intermediate)) {
+                        return ConverterChain(path.toTypedArray())
+                    }
+                    this.findDirectConverter(intermediate, target)?.let {
+                        return ConverterChain((path + it).toTypedArray())
+                    }
+                    visited.add(intermediate)
+                    next.add(intermediate to path)
+                }
             }
-        } else {
-            type
+            if (next.isEmpty()) {
+                return null
+            }
+            paths = next
         }
+        return null
     }
 
-    private data class MatchedKey(val source: Class<*>, val target: Class<*>)
+    companion object {
+        /**
+         * 多跳转换最多经过的转换器数量
+         */
+        const val MAX_HOPS = 3
+
+        /**
+         * 用于标记不支持的转换
+         */
+        private val UNSUPPORTED = UnsupportedConverter()
+
+        /**
+         * 原始类型 -> 包装类型
+         */
+        private val OBJECT_TYPES = IdentityHashMap<Class<*>, Class<*>>().apply {
+            for (type in listOf(Long::class, Int::class, Short::class, Float::class, Double::class, Char::class, Byte::class, Boolean::class)) {
+                this[type.javaPrimitiveType!!] = type.javaObjectType
+            }
+        }
+
+        private fun toObjectType(type: Class<*>): Class<*> {
+            return if (type.isPrimitive) {
+                OBJECT_TYPES[type] ?: throw IllegalArgumentException("未知的原始类型[${type.name}]")
+            } else {
+                type
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.io.support
+
+import java.lang.ref.SoftReference
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+import java.util.stream.Collectors
+
+/**
+ * META-INF 引入文件索引
+ *
+ * 引入文件位于 `META-INF/<name>.imports`，使用 Properties 格式，通过 `imports` 属性列出需要引入的类（以逗号分隔），
+ * 如 `META-INF/central.convert.Converter.imports` 列出了需要预注册的类型转换器。
+ *
+ * 同一个 [ClassLoader] 共享一个索引：每个引入文件只扫描、解析一次，解析结果与加载出来的类都会被缓存起来。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class ImportsIndex private constructor(private val classLoader: ClassLoader) {
+    /**
+     * 已解析的引入文件
+     *
+     * name -> class names
+     */
+    private val imports = ConcurrentHashMap<String, List<String>>()
+
+    /**
+     * 已加载的类
+     *
+     * name -> classes
+     */
+    private val classes = ConcurrentHashMap<String, List<Class<*>>>()
+
+    /**
+     * 获取引入文件中列出的类名
+     *
+     * @param name 引入文件名称（不包含 `META-INF/` 与 `.imports`），一般为接口或配置类的全限定名
+     */
+    fun getImports(name: String): List<String> {
+        return this.imports.computeIfAbsent(name) {
+            // 合并类路径中所有同名的引入文件
+            val names = LinkedHashSet<String>()
+            for (url in this.classLoader.getResources(getLocation(it))) {
+                val properties = url.openStream().use { stream -> Properties().also { p -> p.load(stream) } }
+                names.addAll(split(properties.getProperty(PROPERTY)))
+            }
+            names.toList()
+        }
+    }
+
+    /**
+     * 获取引入文件中列出的类。类较多时并行加载
+     *
+     * @param name 引入文件名称（不包含 `META-INF/` 与 `.imports`），一般为接口或配置类的全限定名
+     * @throws ClassNotFoundException 找不到引入的类
+     */
+    fun getImportedClasses(name: String): List<Class<*>> {
+        val cached = this.classes[name]
+        if (cached != null) {
+            return cached
+        }
+
+        val names = this.getImports(name)
+        val classes = if (names.size < PARALLEL_THRESHOLD) {
+            names.map { Class.forName(it, true, this.classLoader) }
+        } else {
+            names.parallelStream().map { Class.forName(it, true, this.classLoader) }.collect(Collectors.toList())
+        }
+        return this.classes.putIfAbsent(name, classes) ?: classes
+    }
+
+    companion object {
+        /**
+         * 引入文件中列出引入类的属性
+         */
+        const val PROPERTY = "imports"
+
+        /**
+         * 引入的类达到该数量时，并行加载
+         */
+        private const val PARALLEL_THRESHOLD = 8
+
+        /**
+         * ClassLoader -> 索引
+         *
+         * 索引（及其加载的类）强引用了 ClassLoader，因此使用软引用保存索引，否则弱引用的键永远不会被回收
+         */
+        private val indexes = WeakHashMap<ClassLoader, SoftReference<ImportsIndex>>()
+
+        /**
+         * 获取指定 ClassLoader 的引入文件索引
+         */
+        @JvmStatic
+        fun of(classLoader: ClassLoader): ImportsIndex {
+            synchronized(this.indexes) {
+                this.indexes[classLoader]?.get()?.let { return it }
+                return ImportsIndex(classLoader).also { this.indexes[classLoader] = SoftReference(it) }
+            }
+        }
+
+        /**
+         * 获取引入文件的位置
+         */
+        @JvmStatic
+        fun getLocation(name: String): String {
+            return "META-INF/$name.imports"
+        }
+
+        private fun split(value: String?): List<String> {
+            return value?.split(",")?.map { it.trim() }?.filter { it.isNotEmpty() }.orEmpty()
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.util.concurrent
+
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 框架内置的后台执行器
+ *
+ * 没有配置执行器的组件（如异步方法、异步事件）使用这里创建的线程池
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+internal object BackgroundExecutors {
+    /**
+     * 创建内置的线程池
+     *
+     * 线程数量为 CPU 核心数（2 至 4 个），空闲 30 秒后回收线程；线程为守护线程，不会阻止进程退出
+     *
+     * @param threadName 线程名称前缀
+     */
+    fun create(threadName: String): ThreadPoolExecutor {
+        val threads = Runtime.getRuntime().availableProcessors().coerceIn(2, 4)
+        val counter = AtomicInteger()
+        return ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS, LinkedBlockingQueue()) { runnable ->
+            Thread(runnable, "$threadName-${counter.incrementAndGet()}").also { it.isDaemon = true }
+        }.also { it.allowCoreThreadTimeOut(true) }
+    }
+
+    /**
+     * 将后台任务抛出的异常交给当前线程的未捕获异常处理器处理，与执行器中的任务抛出异常时的行为一致
+     */
+    fun reportUncaught(throwable: Throwable) {
+        val thread = Thread.currentThread()
+        thread.uncaughtExceptionHandler?.uncaughtException(thread, throwable)
+    }
+}
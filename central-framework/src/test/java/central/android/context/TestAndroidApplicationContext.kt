@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.android.context
+
+import central.bean.factory.BeanException
+import central.bean.factory.config.Bean
+import central.bean.factory.config.Configuration
+import central.bean.factory.support.GenericBeanFactory
+import central.bean.factory.support.RootBeanDefinition
+import central.bean.factory.support.processor.factory.ConfigurationBeanPostProcessor
+import org.junit.Assert.*
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * AndroidApplicationContext Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestAndroidApplicationContext {
+
+    class Slow {
+        init {
+            // 等待测试用例放行
+            assertTrue(gate.await(5, TimeUnit.SECONDS))
+        }
+
+        companion object {
+            lateinit var gate: CountDownLatch
+        }
+    }
+
+    class Repository
+
+    class Service(val repository: Repository)
+
+    class Broken {
+        init {
+            throw IllegalStateException("broken")
+        }
+    }
+
+    class Client(val configuration: ClientConfiguration)
+
+    @Configuration
+    class ClientConfiguration {
+        @Bean
+        fun client(): Client = Client(this)
+    }
+
+    private fun createContext(vararg types: Class<*>): AndroidApplicationContext {
+        val context = AndroidApplicationContext()
+        (context.beanFactory as GenericBeanFactory).preInstantiationParallelism = 1
+        for (type in types) {
+            context.beanFactory.registry.registerDefinition(RootBeanDefinition(type))
+        }
+        return context
+    }
+
+    /**
+     * 测试异步刷新时，按需创建还没有初始化的 Bean
+     */
+    @Test
+    fun case1() {
+        Slow.gate = CountDownLatch(1)
+        val context = createContext(Slow::class.java, Repository::class.java, Service::class.java)
+
+        val result = AtomicReference<Any>()
+        context.refreshAsync { Thread(it, "central-refresh").start() }
+        context.whenRefreshed { result.set(it ?: "refreshed") }
+
+        // 刷新线程阻塞在 Slow 上，Service 及其依赖会被按需创建
+        val service = context.requireBean(Service::class.java)
+        assertSame(context.requireBean(Repository::class.java), service.repository)
+        assertFalse(context.awaitRefresh(0, TimeUnit.MILLISECONDS))
+        assertNull(result.get())
+
+        Slow.gate.countDown()
+        assertTrue(context.awaitRefresh(5, TimeUnit.SECONDS))
+        assertEquals("refreshed", result.get())
+        assertSame(service, context.requireBean(Service::class.java))
+
+        // 刷新结束后添加的回调会立即执行
+        context.whenRefreshed { result.set(it ?: "again") }
+        assertEquals("again", result.get())
+    }
+
+    /**
+     * 测试异步刷新失败
+     */
+    @Test
+    fun case2() {
+        val context = createContext(Broken::class.java)
+
+        context.refreshAsync { Thread(it, "central-refresh").start() }
+        assertTrue(context.awaitRefresh(5, TimeUnit.SECONDS))
+
+        val error = AtomicReference<Throwable>()
+        context.whenRefreshed { error.set(it) }
+        assertNotNull(error.get())
+
+        assertThrows(BeanException::class.java) { context.getBean(Repository::class.java) }
+    }
+
+    /**
+     * 测试销毁单例后，@Bean 方法在重新创建的配置类上调用
+     */
+    @Test
+    fun case3() {
+        val context = createContext(ClientConfiguration::class.java)
+        context.addBeanFactoryPostProcessor(ConfigurationBeanPostProcessor())
+        context.refresh()
+
+        val first = context.requireBean(Client::class.java)
+        assertSame(context.requireBean(ClientConfiguration::class.java), first.configuration)
+
+        context.beanFactory.destroySingletons()
+        val second = context.requireBean(Client::class.java)
+        assertNotSame(first, second)
+        assertNotSame(first.configuration, second.configuration)
+        assertSame(context.requireBean(ClientConfiguration::class.java), second.configuration)
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.cache
+
+import central.bean.aop.support.AopProxyProcessor
+import org.junit.Assert.*
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * CachingPointcut Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestCachingPointcut {
+
+    interface Repository {
+        fun find(id: Int): String
+
+        fun find(group: String, id: Int): String
+
+        fun slow(id: Int): String
+
+        fun update()
+    }
+
+    class DefaultRepository : Repository {
+        val calls = AtomicInteger()
+
+        var latch = CountDownLatch(0)
+
+        @Cacheable("repository", maximumSize = 2, expireAfterWrite = 10, timeUnit = TimeUnit.SECONDS)
+        override fun find(id: Int): String {
+            this.calls.incrementAndGet()
+            if (id < 0) {
+                throw IllegalArgumentException("id")
+            }
+            return "item-$id"
+        }
+
+        @Cacheable
+        override fun find(group: String, id: Int): String {
+            this.calls.incrementAndGet()
+            return "$group-$id"
+        }
+
+        @Cacheable
+        override fun slow(id: Int): String {
+            this.calls.incrementAndGet()
+            this.latch.await()
+            return "slow-$id"
+        }
+
+        @CacheEvict("repository")
+        override fun update() {
+        }
+    }
+
+    /**
+     * 测试按参数缓存结果与统计信息
+     */
+    @Test
+    fun case1() {
+        val pointcut = CachingPointcut()
+        val target = DefaultRepository()
+        val repository = AopProxyProcessor(listOf(pointcut)).processAfterInitialization("repository", target) as Repository
+
+        assertEquals("item-1", repository.find(1))
+        assertEquals("item-1", repository.find(1))
+        assertEquals("item-2", repository.find(2))
+        assertEquals(2, target.calls.get())
+
+        assertEquals("a-1", repository.find("a", 1))
+        assertEquals("a-1", repository.find("a", 1))
+        assertEquals("b-1", repository.find("b", 1))
+        assertEquals(4, target.calls.get())
+
+        // 异常不缓存
+        assertThrows(IllegalArgumentException::class.java) { repository.find(-1) }
+        assertThrows(IllegalArgumentException::class.java) { repository.find(-1) }
+        assertEquals(6, target.calls.get())
+
+        val stats = pointcut.getCache("repository")!!.getStats()
+        assertEquals(1, stats.hitCount)
+        assertEquals(4, stats.missCount)
+        assertEquals(2, stats.loadFailureCount)
+        // 计算 -1 时淘汰了最久未使用的 1
+        assertEquals(1, stats.size)
+        assertEquals(1, stats.evictionCount)
+    }
+
+    /**
+     * 测试容量、过期与主动清空
+     */
+    @Test
+    fun case2() {
+        val now = AtomicLong()
+        val pointcut = CachingPointcut { now.get() }
+        val target = DefaultRepository()
+        val repository = AopProxyProcessor(listOf(pointcut)).processAfterInitialization("repository", target) as Repository
+        val cache = pointcut.getCache("repository")!!
+
+        repository.find(1)
+        repository.find(2)
+        repository.find(1)
+        // 淘汰最久未使用的 2
+        repository.find(3)
+        assertEquals(1, cache.getStats().evictionCount)
+        assertEquals(3, target.calls.get())
+        repository.find(1)
+        assertEquals(3, target.calls.get())
+        repository.find(2)
+        assertEquals(4, target.calls.get())
+
+        // 过期
+        now.set(TimeUnit.SECONDS.toNanos(11))
+        repository.find(2)
+        assertEquals(5, target.calls.get())
+
+        // 主动移除
+        cache.invalidate(2)
+        repository.find(2)
+        assertEquals(6, target.calls.get())
+
+        // 通过 CacheEvict 清空
+        repository.update()
+        assertEquals(0, cache.size)
+        repository.find(2)
+        assertEquals(7, target.calls.get())
+    }
+
+    /**
+     * 测试并发请求同一个缓存键时只计算一次
+     */
+    @Test
+    fun case3() {
+        val pointcut = CachingPointcut()
+        val target = DefaultRepository().also { it.latch = CountDownLatch(1) }
+        val repository = AopProxyProcessor(listOf(pointcut)).processAfterInitialization("repository", target) as Repository
+
+        val executor = Executors.newFixedThreadPool(4)
+        try {
+            val futures = (1..4).map { executor.submit<String> { repository.slow(1) } }
+            while (target.calls.get() == 0) {
+                Thread.sleep(1)
+            }
+            Thread.sleep(50)
+            target.latch.countDown()
+
+            assertTrue(futures.all { it.get(5, TimeUnit.SECONDS) == "slow-1" })
+            assertEquals(1, target.calls.get())
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    /**
+     * 测试计算过程中递归请求同一个缓存键时抛出异常，而不是等待自己
+     */
+    @Test
+    fun case4() {
+        val cache = MethodCache("recursive", 10, 0)
+
+        val ex = assertThrows(IllegalStateException::class.java) {
+            cache.get(1) { cache.get(1) { "inner" } }
+        }
+        assertTrue(ex.message!!.contains("recursive"))
+        assertEquals(0, cache.size)
+
+        // 递归请求其它缓存键不受影响
+        assertEquals("outer-inner", cache.get(1) { "outer-" + cache.get(2) { "inner" } })
+        assertEquals("outer-inner", cache.get(1) { "unused" })
+    }
+}
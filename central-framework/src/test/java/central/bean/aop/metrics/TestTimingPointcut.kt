@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.metrics
+
+import central.bean.aop.support.AopProxyProcessor
+import org.junit.Assert.*
+import org.junit.Test
+
+/**
+ * TimingPointcut Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestTimingPointcut {
+
+    interface Calculator {
+        fun add(a: Int, b: Int): Int
+
+        fun negate(a: Int): Int
+    }
+
+    class DefaultCalculator : Calculator {
+        @Timed("calculator.add")
+        override fun add(a: Int, b: Int): Int = a + b
+
+        override fun negate(a: Int): Int = -a
+    }
+
+    @Timed
+    class TimedCalculator : Calculator {
+        override fun add(a: Int, b: Int): Int = a + b
+
+        override fun negate(a: Int): Int = -a
+    }
+
+    /**
+     * 测试直方图的分桶与百分位
+     */
+    @Test
+    fun case1() {
+        val histogram = LatencyHistogram()
+        for (value in 1L..1000L) {
+            histogram.record(value * 1000)
+        }
+
+        val snapshot = histogram.getSnapshot()
+        assertEquals(1000, snapshot.count)
+        assertEquals(1000, snapshot.min)
+        assertEquals(1_000_000, snapshot.max)
+        assertEquals(500_500.0, snapshot.mean, 0.001)
+
+        // 相对误差不超过 1/16
+        val tolerance = 1.0 / LatencyHistogram.SUB_BUCKETS
+        assertEquals(500_000.0, snapshot.p50.toDouble(), 500_000 * tolerance)
+        assertEquals(990_000.0, snapshot.p99.toDouble(), 990_000 * tolerance)
+        assertEquals(1_000_000, snapshot.getValueAtPercentile(100.0))
+
+        // 每个值都落在所在桶的范围内
+        for (value in listOf(0L, 15L, 16L, 17L, 1023L, 1024L, 123_456_789L, LatencyHistogram.HIGHEST_TRACKABLE_VALUE)) {
+            val index = LatencyHistogram.indexOf(value)
+            assertTrue(index < LatencyHistogram.BUCKETS)
+            assertTrue(LatencyHistogram.highestValueOf(index) >= value)
+            assertTrue(index == 0 || LatencyHistogram.highestValueOf(index - 1) < value)
+        }
+
+        histogram.reset()
+        assertEquals(0, histogram.getSnapshot().count)
+        assertEquals(0, histogram.getSnapshot().p99)
+    }
+
+    /**
+     * 测试按注解统计耗时
+     */
+    @Test
+    fun case2() {
+        val pointcut = TimingPointcut()
+        val processor = AopProxyProcessor(listOf(pointcut))
+
+        val calculator = processor.processAfterInitialization("calculator", DefaultCalculator()) as Calculator
+        repeat(10) { assertEquals(3, calculator.add(1, 2)) }
+        assertEquals(-1, calculator.negate(1))
+
+        assertEquals(10, pointcut.getSnapshot("calculator.add")!!.count)
+        assertEquals(setOf("calculator.add"), pointcut.getSnapshots().keys)
+
+        val timed = processor.processAfterInitialization("timed", TimedCalculator()) as Calculator
+        timed.negate(1)
+        assertEquals(1, pointcut.getSnapshot("${TimedCalculator::class.java.name}.negate")!!.count)
+        assertTrue(pointcut.toSummary().contains("calculator.add"))
+
+        pointcut.reset()
+        assertEquals(0, pointcut.getSnapshot("calculator.add")!!.count)
+    }
+
+    /**
+     * 测试按包名统计耗时
+     */
+    @Test
+    fun case3() {
+        val pointcut = TimingPointcut(listOf("central.bean.aop.*"))
+        val processor = AopProxyProcessor(listOf(pointcut))
+
+        val calculator = processor.processAfterInitialization("calculator", DefaultCalculator()) as Calculator
+        calculator.negate(1)
+        // 不匹配子包
+        assertNull(pointcut.getSnapshot("${DefaultCalculator::class.java.name}.negate"))
+
+        val nested = TimingPointcut(listOf("central.bean.**"))
+        val proxy = AopProxyProcessor(listOf(nested)).processAfterInitialization("calculator", DefaultCalculator()) as Calculator
+        proxy.negate(1)
+        assertEquals(1, nested.getSnapshot("${DefaultCalculator::class.java.name}.negate")!!.count)
+    }
+}
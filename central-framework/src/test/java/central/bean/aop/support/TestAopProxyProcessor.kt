@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.aop.support
+
+import central.android.context.AndroidApplicationContext
+import central.bean.aop.MethodInvocation
+import central.bean.aop.Pointcut
+import central.bean.factory.Autowired
+import central.bean.factory.BeanCreationException
+import central.bean.factory.support.RootBeanDefinition
+import org.junit.Assert.*
+import org.junit.Test
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * AopProxyProcessor Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestAopProxyProcessor {
+
+    interface Greeter {
+        fun greet(name: String): String
+
+        fun plain(): String
+
+        fun fail()
+    }
+
+    class DefaultGreeter : Greeter {
+        val calls = AtomicInteger()
+
+        override fun greet(name: String): String {
+            this.calls.incrementAndGet()
+            return "Hello, $name"
+        }
+
+        override fun plain(): String = "plain"
+
+        override fun fail() {
+            throw IllegalStateException("failed")
+        }
+    }
+
+    class NoInterface
+
+    interface Ping {
+        fun ping(): String
+    }
+
+    interface Pong {
+        fun pong(): String
+    }
+
+    class DefaultPing : Ping {
+        @Autowired
+        lateinit var pong: Pong
+
+        override fun ping(): String = "ping"
+    }
+
+    class DefaultPong : Pong {
+        @Autowired
+        lateinit var ping: Ping
+
+        override fun pong(): String = "pong"
+    }
+
+    /**
+     * 拦截指定名称的方法
+     */
+    open class NamedPointcut(private val name: String, private val action: (MethodInvocation) -> Any?) : Pointcut {
+        val matches = AtomicInteger()
+
+        override fun matches(method: Method, targetClass: Class<*>): Boolean {
+            this.matches.incrementAndGet()
+            return method.name == this.name
+        }
+
+        override fun invoke(invocation: MethodInvocation): Any? = this.action(invocation)
+    }
+
+    /**
+     * 测试只拦截匹配的方法，并缓存匹配结果
+     */
+    @Test
+    fun case1() {
+        val pointcut = NamedPointcut("greet") { "[${it.proceed()}]" }
+        val processor = AopProxyProcessor(listOf(pointcut))
+
+        val target = DefaultGreeter()
+        assertTrue(processor.supports(DefaultGreeter::class.java))
+        assertFalse(processor.supports(NoInterface::class.java))
+
+        val greeter = processor.processAfterInitialization("greeter", target) as Greeter
+        assertTrue(Proxy.isProxyClass(greeter.javaClass))
+        assertEquals("[Hello, Alan]", greeter.greet("Alan"))
+        assertEquals("[Hello, Yeh]", greeter.greet("Yeh"))
+        assertEquals("plain", greeter.plain())
+        assertEquals(greeter, greeter)
+        // 代理对象的相等性满足对称性
+        assertNotEquals(greeter, target)
+        assertNotEquals(target, greeter)
+        assertEquals(greeter, processor.processAfterInitialization("greeter", target))
+        assertEquals(target.hashCode(), greeter.hashCode())
+        assertEquals(2, hashSetOf<Any>(greeter, target).size)
+
+        // 每个方法只判断一次
+        val matches = pointcut.matches.get()
+        processor.processAfterInitialization("another", DefaultGreeter()) as Greeter
+        greeter.greet("Again")
+        assertEquals(matches, pointcut.matches.get())
+
+        // 目标方法抛出的异常原样抛出
+        assertThrows(IllegalStateException::class.java) { greeter.fail() }
+    }
+
+    /**
+     * 测试切面链的执行顺序、重试与修改参数
+     */
+    @Test
+    fun case2() {
+        val order = mutableListOf<String>()
+        val retry = NamedPointcut("greet") {
+            order.add("retry")
+            it.proceed()
+            it.proceed(arrayOf("Retry"))
+        }
+        val inner = NamedPointcut("greet") {
+            order.add("inner:${it.getArguments()[0]}")
+            it.proceed()
+        }
+        val runtime = object : NamedPointcut("greet", { "skipped" }) {
+            override val isRuntime: Boolean = true
+
+            override fun matches(method: Method, targetClass: Class<*>, arguments: Array<Any?>): Boolean = arguments[0] == "Never"
+        }
+
+        val target = DefaultGreeter()
+        val greeter = AopProxyProcessor(listOf(retry, inner, runtime)).processAfterInitialization("greeter", target) as Greeter
+
+        assertEquals("Hello, Retry", greeter.greet("Alan"))
+        assertEquals(listOf("retry", "inner:Alan", "inner:Retry"), order)
+        assertEquals(2, target.calls.get())
+    }
+
+    /**
+     * 测试在应用上下文中自动代理
+     */
+    @Test
+    fun case3() {
+        val context = AndroidApplicationContext()
+        context.beanFactory.registerSingleton("pointcut", NamedPointcut("greet") { "[${it.proceed()}]" })
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(DefaultGreeter::class.java))
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(NoInterface::class.java))
+        context.refresh()
+
+        assertEquals("[Hello, Alan]", context.requireBean<Greeter>("defaultGreeter").greet("Alan"))
+        assertFalse(Proxy.isProxyClass(context.requireBean<Any>("noInterface").javaClass))
+    }
+
+    /**
+     * 测试在其它线程中执行调用的副本
+     */
+    @Test
+    fun case4() {
+        val order = mutableListOf<String>()
+        val caller = Thread.currentThread()
+        val dispatcher = NamedPointcut("greet") { invocation ->
+            val copy = invocation.copy()
+            invocation.getArguments()[0] = "Changed"
+            var result: Any? = null
+            Thread { result = copy.proceed() }.also { it.start() }.join()
+            result
+        }
+        val inner = NamedPointcut("greet") {
+            order.add("inner:${Thread.currentThread() === caller}")
+            it.proceed()
+        }
+
+        val greeter = AopProxyProcessor(listOf(dispatcher, inner)).processAfterInitialization("greeter", DefaultGreeter()) as Greeter
+
+        // 副本从下一个切面开始执行，并且不受原调用参数变化的影响
+        assertEquals("Hello, Alan", greeter.greet("Alan"))
+        assertEquals(listOf("inner:false"), order)
+    }
+
+    /**
+     * 测试循环依赖的 Bean 被代理时，不会把未代理的早期引用注入给其它 Bean
+     */
+    @Test
+    fun case5() {
+        val context = AndroidApplicationContext()
+        context.beanFactory.registerSingleton("pointcut", NamedPointcut("ping") { "[${it.proceed()}]" })
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(DefaultPing::class.java))
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(DefaultPong::class.java))
+
+        val exception = assertThrows(BeanCreationException::class.java) { context.refresh() }
+        var cause: Throwable? = exception
+        while (cause != null && cause.message?.contains("in its raw version") != true) {
+            cause = cause.cause
+        }
+        assertNotNull(cause)
+        assertTrue(cause!!.message!!.contains("'defaultPing'"))
+    }
+}
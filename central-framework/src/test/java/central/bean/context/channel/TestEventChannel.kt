@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.channel
+
+import central.bean.context.ApplicationEvent
+import org.junit.Assert.*
+import org.junit.Test
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * EventChannel Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestEventChannel {
+
+    class ProgressEvent(override val source: Any, val progress: Int) : ApplicationEvent
+
+    private fun EventChannel<ProgressEvent>.drainAll(): List<Pair<Any, Int>> {
+        val events = mutableListOf<Pair<Any, Int>>()
+        this.drain { events.add(it.source to it.progress) }
+        return events
+    }
+
+    /**
+     * 测试丢弃最早的事件
+     */
+    @Test
+    fun case1() {
+        val channel = EventChannel<ProgressEvent>(3)
+        assertEquals(4, channel.capacity)
+
+        for (i in 1..10) {
+            assertTrue(channel.offer(ProgressEvent("page", i)))
+        }
+        assertEquals((7..10).map { "page" to it }, channel.drainAll())
+        assertEquals(0, channel.size)
+
+        val statistics = channel.getStatistics()
+        assertEquals(10, statistics.offeredCount)
+        assertEquals(6, statistics.droppedCount)
+        assertEquals(4, statistics.drainedCount)
+    }
+
+    /**
+     * 测试合并同一个键的事件
+     */
+    @Test
+    fun case2() {
+        val channel = EventChannel<ProgressEvent>(4, coalescingKey = { it.source })
+        for (i in 1..100) {
+            channel.offer(ProgressEvent("a", i))
+            channel.offer(ProgressEvent("b", i))
+        }
+        channel.offer(ProgressEvent("c", 1))
+        // 保留每个键第一次出现的位置与最新的值
+        assertEquals(listOf("a" to 100, "b" to 100, "c" to 1), channel.drainAll())
+        assertEquals(198, channel.getStatistics().coalescedCount)
+
+        // 缓冲区已满时丢弃最早的事件，被丢弃的键不再参与合并
+        for (key in listOf("a", "b", "c", "d", "e", "a", "e")) {
+            channel.offer(ProgressEvent(key, channel.getStatistics().offeredCount.toInt()))
+        }
+        assertEquals(listOf("c" to 203, "d" to 204, "e" to 207, "a" to 206), channel.drainAll())
+    }
+
+    /**
+     * 测试采样
+     */
+    @Test
+    fun case3() {
+        val channel = EventChannel<ProgressEvent>(2, BackpressurePolicy.SAMPLE)
+        for (i in 1..10) {
+            channel.offer(ProgressEvent("page", i))
+        }
+        assertEquals(listOf("page" to 1, "page" to 10), channel.drainAll())
+        assertEquals(8, channel.getStatistics().droppedCount)
+    }
+
+    /**
+     * 测试阻塞生产者，以及自动消费
+     */
+    @Test
+    fun case4() {
+        val channel = EventChannel<ProgressEvent>(2, BackpressurePolicy.BLOCK)
+        assertTrue(channel.offer(ProgressEvent("page", 1)))
+        assertTrue(channel.offer(ProgressEvent("page", 2)))
+        assertFalse(channel.offer(ProgressEvent("page", 3), 10, TimeUnit.MILLISECONDS))
+
+        val executor = Executors.newSingleThreadExecutor()
+        try {
+            val received = Collections.synchronizedList(mutableListOf<Int>())
+            val finished = CountDownLatch(1)
+            channel.dispatchTo(executor) {
+                received.add(it.progress)
+                if (it.progress == 1000) {
+                    finished.countDown()
+                }
+            }
+            for (i in 3..1000) {
+                assertTrue(channel.offer(ProgressEvent("page", i)))
+            }
+            assertTrue(finished.await(5, TimeUnit.SECONDS))
+            // 阻塞策略不会丢弃事件
+            assertEquals(listOf(1, 2) + (3..1000).toList(), received)
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.bean.context.ApplicationEvent
+import central.bean.context.ApplicationListener
+import central.bean.context.AsyncApplicationListener
+import central.bean.context.event.EventDelivery
+import central.bean.context.event.EventDeliveryMode
+import central.bean.factory.support.GenericBeanFactory
+import org.junit.Assert.*
+import org.junit.Test
+import java.util.Collections
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * AsyncApplicationPublisher Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestAsyncApplicationPublisher {
+
+    class NumberEvent(override val source: Any, val number: Int) : ApplicationEvent
+
+    class OrderedListener(private val expected: Int) : AsyncApplicationListener<NumberEvent> {
+        val numbers: MutableList<Int> = Collections.synchronizedList(mutableListOf())
+        val threads: MutableSet<Thread> = Collections.synchronizedSet(mutableSetOf())
+        val finished = CountDownLatch(1)
+
+        override fun onApplicationEvent(event: NumberEvent) {
+            this.threads.add(Thread.currentThread())
+            this.numbers.add(event.number)
+            if (event.number == 13) {
+                throw IllegalStateException("unlucky")
+            }
+            if (this.numbers.size == this.expected) {
+                this.finished.countDown()
+            }
+        }
+    }
+
+    @EventDelivery(EventDeliveryMode.SYNC)
+    class SyncListener : ApplicationListener<NumberEvent> {
+        val thread = AtomicInteger()
+
+        override fun onApplicationEvent(event: NumberEvent) {
+            this.thread.set(System.identityHashCode(Thread.currentThread()))
+        }
+    }
+
+    @EventDelivery(EventDeliveryMode.ASYNC)
+    class AnnotatedListener : ApplicationListener<NumberEvent> {
+        val count = AtomicInteger()
+
+        override fun onApplicationEvent(event: NumberEvent) {
+            this.count.incrementAndGet()
+        }
+    }
+
+    /**
+     * 测试异步监听器按发布顺序接收事件，同步监听器在发布线程中执行
+     */
+    @Test
+    fun case1() {
+        val executor = Executors.newFixedThreadPool(4)
+        val errors = AtomicInteger()
+        try {
+            val publisher = AsyncApplicationPublisher(GenericBeanFactory(), executor, errorHandler = { _, _, _ -> errors.incrementAndGet() })
+            val first = OrderedListener(200)
+            val second = OrderedListener(200)
+            val sync = SyncListener()
+            val annotated = AnnotatedListener()
+            publisher.addApplicationListener(first)
+            publisher.addApplicationListener(second)
+            publisher.addApplicationListener(sync)
+            publisher.addApplicationListener(annotated)
+
+            for (i in 1..200) {
+                publisher.publishEvent(NumberEvent(this, i))
+            }
+            assertEquals(System.identityHashCode(Thread.currentThread()), sync.thread.get())
+
+            assertTrue(first.finished.await(5, TimeUnit.SECONDS))
+            assertTrue(second.finished.await(5, TimeUnit.SECONDS))
+            assertEquals((1..200).toList(), first.numbers)
+            assertEquals((1..200).toList(), second.numbers)
+            assertFalse(first.threads.contains(Thread.currentThread()))
+
+            // 异常交给异常处理器，不影响后续事件
+            while (publisher.queueDepth > 0) {
+                Thread.sleep(1)
+            }
+            assertEquals(2, errors.get())
+            assertEquals(200, annotated.count.get())
+
+            val statistics = publisher.getStatistics().associateBy { it.listener }
+            val stats = statistics[OrderedListener::class.java.name]!!
+            assertEquals(EventDeliveryMode.ASYNC, stats.mode)
+            assertEquals(199, stats.deliveredCount)
+            assertEquals(1, stats.failedCount)
+            assertEquals(200, stats.latency.count)
+            assertEquals(EventDeliveryMode.SYNC, statistics[SyncListener::class.java.name]!!.mode)
+            assertEquals(EventDeliveryMode.ASYNC, statistics[AnnotatedListener::class.java.name]!!.mode)
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    /**
+     * 测试没有指定执行器时使用内置的线程池
+     */
+    @Test
+    fun case2() {
+        val publisher = AsyncApplicationPublisher(GenericBeanFactory())
+        val listener = OrderedListener(3)
+        publisher.addApplicationListener(listener)
+        for (i in 1..3) {
+            publisher.publishEvent(NumberEvent(this, i))
+        }
+        assertTrue(listener.finished.await(5, TimeUnit.SECONDS))
+        assertEquals(listOf(1, 2, 3), listener.numbers)
+        publisher.destroy()
+
+        // 销毁后重新创建内置的线程池
+        val another = OrderedListener(1)
+        publisher.addApplicationListener(another)
+        publisher.publishEvent(NumberEvent(this, 4))
+        assertTrue(another.finished.await(5, TimeUnit.SECONDS))
+        publisher.destroy()
+    }
+
+    /**
+     * 测试执行器拒绝执行后，之后的事件仍然可以投递
+     */
+    @Test
+    fun case3() {
+        val pool = Executors.newSingleThreadExecutor()
+        val rejected = AtomicBoolean(true)
+        val executor = Executor { command ->
+            if (rejected.getAndSet(false)) {
+                throw RejectedExecutionException("busy")
+            }
+            pool.execute(command)
+        }
+        try {
+            val publisher = AsyncApplicationPublisher(GenericBeanFactory(), executor)
+            val listener = OrderedListener(1)
+            publisher.addApplicationListener(listener)
+
+            assertThrows(RejectedExecutionException::class.java) { publisher.publishEvent(NumberEvent(this, 1)) }
+            assertEquals(0, publisher.queueDepth)
+
+            publisher.publishEvent(NumberEvent(this, 2))
+            assertTrue(listener.finished.await(5, TimeUnit.SECONDS))
+            assertEquals(listOf(2), listener.numbers)
+        } finally {
+            pool.shutdownNow()
+        }
+    }
+
+    /**
+     * 测试移除以 Bean 名称添加的监听器时，同时移除该监听器的投递器
+     */
+    @Test
+    fun case4() {
+        val beanFactory = GenericBeanFactory()
+        val listener = AnnotatedListener()
+        beanFactory.registerSingleton("annotatedListener", listener)
+        val publisher = AsyncApplicationPublisher(beanFactory, Executor { it.run() })
+
+        // 同时以对象和 Bean 名称添加，只移除 Bean 名称时仍然保留投递器
+        publisher.addApplicationListener(listener)
+        publisher.addApplicationListenerBean("annotatedListener")
+        publisher.publishEvent(NumberEvent(this, 1))
+        assertEquals(1, listener.count.get())
+        publisher.removeApplicationListenerBean("annotatedListener")
+        assertEquals(1, publisher.getStatistics().size)
+
+        publisher.removeApplicationListener(listener)
+        assertTrue(publisher.getStatistics().isEmpty())
+
+        publisher.addApplicationListenerBean("annotatedListener")
+        publisher.publishEvent(NumberEvent(this, 2))
+        assertEquals(2, listener.count.get())
+        assertEquals(1, publisher.getStatistics().size)
+        publisher.removeApplicationListenerBean("annotatedListener")
+        assertTrue(publisher.getStatistics().isEmpty())
+    }
+}
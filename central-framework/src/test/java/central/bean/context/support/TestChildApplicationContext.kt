@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.android.context.AndroidApplicationContext
+import central.bean.factory.Autowired
+import central.bean.factory.DestroyableBean
+import central.bean.factory.support.RootBeanDefinition
+import central.convert.TypeConverter
+import org.junit.Assert.*
+import org.junit.Test
+
+/**
+ * ChildApplicationContext Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestChildApplicationContext {
+
+    class Repository : DestroyableBean {
+        var destroyed = false
+
+        override fun destroy() {
+            this.destroyed = true
+        }
+    }
+
+    class Page(val repository: Repository) : DestroyableBean {
+        @Autowired
+        lateinit var state: PageState
+
+        var destroyed = false
+
+        override fun destroy() {
+            this.destroyed = true
+        }
+    }
+
+    class PageState
+
+    class Theme(val name: String)
+
+    class ThemeConverter : TypeConverter<Theme> {
+        override fun support(source: Class<*>): Boolean = source == String::class.java
+
+        override fun convert(source: Any): Theme = Theme(source as String)
+    }
+
+    private fun createParent(): AndroidApplicationContext {
+        val context = AndroidApplicationContext()
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(Repository::class.java))
+        context.refresh()
+        return context
+    }
+
+    /**
+     * 测试子上下文从父上下文中查找 Bean，并独立销毁
+     */
+    @Test
+    fun case1() {
+        val parent = createParent()
+        val repository = parent.requireBean(Repository::class.java)
+
+        val child = ChildApplicationContext(parent)
+        child.register(Page::class.java, PageState::class.java)
+        child.refresh()
+
+        // 子上下文中的 Bean 可以依赖父上下文中的 Bean
+        val page = child.requireBean(Page::class.java)
+        assertSame(repository, page.repository)
+        assertSame(child.requireBean(PageState::class.java), page.state)
+        assertSame(repository, child.requireBean<Repository>("repository"))
+        assertTrue(child.containsBean("repository"))
+        assertSame(parent, child.parent)
+
+        // 父上下文看不到子上下文中的 Bean
+        assertNull(parent.getBean(Page::class.java))
+        assertFalse(parent.containsBean("page"))
+
+        // 关闭子上下文只销毁子上下文中的单例
+        child.close()
+        assertTrue(page.destroyed)
+        assertFalse(repository.destroyed)
+
+        // 每个子上下文都有独立的单例
+        val another = ChildApplicationContext(parent)
+        another.register(Page::class.java, PageState::class.java)
+        another.refresh()
+        assertNotSame(page, another.requireBean(Page::class.java))
+        another.close()
+
+        parent.close()
+        assertTrue(repository.destroyed)
+    }
+
+    /**
+     * 测试父上下文完成初始化前创建的子上下文，使用父上下文最终的类型转换服务
+     */
+    @Test
+    fun case2() {
+        val parent = AndroidApplicationContext()
+        parent.beanFactory.registry.registerDefinition(RootBeanDefinition(ThemeConverter::class.java))
+
+        val child = ChildApplicationContext(parent)
+        assertFalse(child.beanFactory.converter.support(String::class.java, Theme::class.java))
+
+        parent.refresh()
+        // 父上下文刷新时发现的转换器，子上下文也可以使用
+        assertTrue(child.beanFactory.converter.support(String::class.java, Theme::class.java))
+        assertEquals("dark", child.beanFactory.converter.convert("dark", Theme::class.java)!!.name)
+
+        child.close()
+        parent.close()
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.android.context.AndroidApplicationContext
+import central.bean.factory.Autowired
+import central.bean.factory.config.Bean
+import central.bean.factory.config.Configuration
+import central.bean.factory.config.Import
+import central.bean.factory.metrics.BufferingApplicationStartup
+import central.bean.factory.support.RootBeanDefinition
+import central.bean.factory.support.processor.factory.ConfigurationBeanPostProcessor
+import org.junit.Assert.*
+import org.junit.Test
+import java.io.File
+
+/**
+ * ContextSnapshot Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestContextSnapshot {
+
+    class Repository
+
+    class Service(val repository: Repository) {
+        constructor() : this(Repository())
+    }
+
+    class Controller {
+        @Autowired
+        lateinit var service: Service
+    }
+
+    class Client(val name: String)
+
+    @Configuration
+    @Import(Repository::class, Service::class, Controller::class)
+    class SnapshotConfiguration {
+        @Bean
+        fun client(repository: Repository): Client = Client(repository.javaClass.simpleName)
+
+        @Bean
+        fun timeout(): Long = 30L
+    }
+
+    private fun refresh(file: File, key: String): Pair<AndroidApplicationContext, BufferingApplicationStartup> {
+        val context = AndroidApplicationContext()
+        val startup = BufferingApplicationStartup()
+        context.applicationStartup = startup
+        context.snapshotFile = file
+        context.snapshotKey = key
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(SnapshotConfiguration::class.java))
+        context.addBeanFactoryPostProcessor(ConfigurationBeanPostProcessor())
+        context.refresh()
+        return context to startup
+    }
+
+    private fun resolvedConfigurations(startup: BufferingApplicationStartup): Boolean {
+        return startup.getSteps().any { it.name == "context.beanFactory.postProcessor" }
+    }
+
+    /**
+     * 测试保存快照，并在下次刷新时从快照恢复
+     */
+    @Test
+    fun case1() {
+        val file = File.createTempFile("central-context", ".snapshot")
+        file.delete()
+        try {
+            val (first, firstStartup) = refresh(file, "1")
+            assertTrue(file.isFile)
+            assertTrue(resolvedConfigurations(firstStartup))
+
+            // 从快照恢复，不再执行配置类解析
+            val (second, secondStartup) = refresh(file, "1")
+            assertFalse(resolvedConfigurations(secondStartup))
+            assertEquals(first.beanFactory.registry.getDefinitionNames(), second.beanFactory.registry.getDefinitionNames())
+
+            // 构造函数使用快照中记录的构造函数
+            val controller = second.requireBean<Controller>("controller")
+            assertSame(second.requireBean<Repository>("repository"), controller.service.repository)
+            assertEquals("Repository", second.requireBean<Client>("client").name)
+            // 原始类型的 Bean
+            assertEquals(Long::class.javaPrimitiveType, second.beanFactory.registry.getDefinition("timeout")!!.type)
+
+            // 快照键变化后，快照失效
+            val (_, thirdStartup) = refresh(file, "2")
+            assertTrue(resolvedConfigurations(thirdStartup))
+        } finally {
+            file.delete()
+        }
+    }
+}
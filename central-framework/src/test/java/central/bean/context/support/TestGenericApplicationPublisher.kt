@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.context.support
+
+import central.android.context.AndroidApplicationContext
+import central.bean.context.ApplicationEvent
+import central.bean.context.ApplicationListener
+import central.bean.context.event.ContextClosedEvent
+import central.bean.context.event.ContextRefreshedEvent
+import central.bean.factory.support.GenericBeanFactory
+import central.bean.factory.support.RootBeanDefinition
+import org.junit.Assert.*
+import org.junit.Test
+import java.lang.reflect.Proxy
+
+/**
+ * GenericApplicationPublisher Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestGenericApplicationPublisher {
+
+    class CustomEvent(override val source: Any) : ApplicationEvent
+
+    class SubCustomEvent(source: Any) : ApplicationEvent by CustomEvent(source)
+
+    abstract class AbstractListener<E : ApplicationEvent> : ApplicationListener<E> {
+        val events = mutableListOf<ApplicationEvent>()
+
+        override fun onApplicationEvent(event: E) {
+            this.events.add(event)
+        }
+    }
+
+    class CustomListener : AbstractListener<CustomEvent>()
+
+    class RefreshedListener : AbstractListener<ContextRefreshedEvent>() {
+        init {
+            created++
+        }
+
+        companion object {
+            var created = 0
+        }
+    }
+
+    /**
+     * 测试按事件类型分发事件
+     */
+    @Test
+    fun case1() {
+        val publisher = GenericApplicationPublisher(GenericBeanFactory())
+        val custom = CustomListener()
+        val all = object : AbstractListener<ApplicationEvent>() {}
+        publisher.addApplicationListener(custom)
+        publisher.addApplicationListener(all)
+        publisher.addApplicationListener(custom)
+
+        assertEquals(CustomEvent::class.java, GenericApplicationPublisher.resolveEventType(CustomListener::class.java))
+        assertEquals(ApplicationEvent::class.java, GenericApplicationPublisher.resolveEventType(all.javaClass))
+
+        val event = CustomEvent(this)
+        publisher.publishEvent(event)
+        publisher.publishEvent(SubCustomEvent(this))
+        assertEquals(listOf(event), custom.events)
+        assertEquals(2, all.events.size)
+
+        publisher.removeApplicationListener(custom)
+        publisher.publishEvent(event)
+        assertEquals(1, custom.events.size)
+        assertEquals(3, all.events.size)
+
+        publisher.removeAllListeners()
+        publisher.publishEvent(event)
+        assertEquals(3, all.events.size)
+    }
+
+    /**
+     * 测试以 Bean 名称添加的监听器在收到匹配的事件时才创建，并且不会与直接添加的监听器重复执行
+     */
+    @Test
+    fun case2() {
+        RefreshedListener.created = 0
+        val context = AndroidApplicationContext()
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(RefreshedListener::class.java, lazyInit = true))
+        context.beanFactory.registry.registerDefinition(RootBeanDefinition(CustomListener::class.java))
+        context.refresh()
+
+        // 延迟初始化的监听器在收到 ContextRefreshedEvent 时创建
+        assertEquals(1, RefreshedListener.created)
+        val refreshed = context.requireBean(RefreshedListener::class.java)
+        assertEquals(1, refreshed.events.size)
+
+        val custom = context.requireBean(CustomListener::class.java)
+        context.publishEvent(CustomEvent(this))
+        context.publishEvent(CustomEvent(this))
+        assertEquals(2, custom.events.size)
+        assertEquals(1, refreshed.events.size)
+
+        context.publishEvent(ContextClosedEvent(context))
+        assertEquals(1, RefreshedListener.created)
+    }
+
+    /**
+     * 测试无法解析事件类型的监听器只忽略事件本身的类型转换异常
+     */
+    @Test
+    fun case3() {
+        val events = mutableListOf<CustomEvent>()
+        var failure: Any = 0
+        // 代理类只实现了原始类型的 ApplicationListener，无法解析事件类型
+        val listener = Proxy.newProxyInstance(javaClass.classLoader, arrayOf(ApplicationListener::class.java)) { _, method, args ->
+            if (method.name != "onApplicationEvent") {
+                return@newProxyInstance if (method.name == "hashCode") 0 else method.name == "equals"
+            }
+            val event = args[0] as CustomEvent
+            failure as Int
+            events.add(event)
+        } as ApplicationListener<*>
+        assertNull(GenericApplicationPublisher.resolveEventType(listener.javaClass))
+
+        val publisher = GenericApplicationPublisher(GenericBeanFactory())
+        publisher.addApplicationListener(listener)
+        publisher.publishEvent(SubCustomEvent(this))
+        publisher.publishEvent(CustomEvent(this))
+        assertEquals(1, events.size)
+
+        // 监听器内部的其它类型转换异常不能被忽略
+        failure = "failure"
+        assertThrows(ClassCastException::class.java) { publisher.publishEvent(CustomEvent(this)) }
+        assertEquals(1, events.size)
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import central.bean.factory.BeanConflictException
+import central.bean.factory.config.InstanceFactoryBean
+import org.junit.Assert.*
+import org.junit.Test
+import java.io.Serializable
+
+/**
+ * GenericBeanDefinitionRegistry Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestGenericBeanDefinitionRegistry {
+
+    interface Service
+
+    open class ServiceImpl : Service, Serializable
+
+    class ExtendedServiceImpl : ServiceImpl()
+
+    /**
+     * 测试按类型查找 Bean 定义
+     */
+    @Test
+    fun case1() {
+        val registry = GenericBeanDefinitionRegistry()
+        registry.registerDefinition(RootBeanDefinition(ServiceImpl::class.java, factory = InstanceFactoryBean(ServiceImpl())))
+        registry.registerDefinition(RootBeanDefinition(ExtendedServiceImpl::class.java, factory = InstanceFactoryBean(ExtendedServiceImpl())))
+
+        assertEquals(listOf("serviceImpl", "extendedServiceImpl"), registry.getDefinitionNamesForType(Service::class.java))
+        assertEquals(listOf("serviceImpl", "extendedServiceImpl"), registry.getDefinitionNamesForType(Serializable::class.java))
+        assertEquals(listOf("serviceImpl", "extendedServiceImpl"), registry.getDefinitionNamesForType(Any::class.java))
+        assertEquals(listOf("extendedServiceImpl"), registry.getDefinitionNamesForType(ExtendedServiceImpl::class.java))
+        assertTrue(registry.getDefinitionNamesForType(String::class.java).isEmpty())
+
+        // 索引结果与遍历结果一致
+        for (type in listOf(Service::class.java, ServiceImpl::class.java, ExtendedServiceImpl::class.java, Serializable::class.java)) {
+            assertEquals(registry.getDefinitions { it.isTypeMatched(type) }.map { it.name }, registry.getDefinitionNamesForType(type))
+        }
+    }
+
+    /**
+     * 测试移除 Bean 定义后更新索引
+     */
+    @Test
+    fun case2() {
+        val registry = GenericBeanDefinitionRegistry()
+        registry.registerDefinition(RootBeanDefinition(ServiceImpl::class.java, factory = InstanceFactoryBean(ServiceImpl())))
+        registry.registerDefinition(RootBeanDefinition(ExtendedServiceImpl::class.java, factory = InstanceFactoryBean(ExtendedServiceImpl())))
+
+        registry.removeDefinition("serviceImpl")
+        assertEquals(listOf("extendedServiceImpl"), registry.getDefinitionNamesForType(Service::class.java))
+
+        registry.removeDefinition("extendedServiceImpl")
+        assertTrue(registry.getDefinitionNamesForType(Service::class.java).isEmpty())
+
+        // 重复注册
+        registry.registerDefinition(RootBeanDefinition(ServiceImpl::class.java, factory = InstanceFactoryBean(ServiceImpl())))
+        assertThrows(BeanConflictException::class.java) {
+            registry.registerDefinition(RootBeanDefinition(ServiceImpl::class.java, factory = InstanceFactoryBean(ServiceImpl())))
+        }
+        assertEquals(listOf("serviceImpl"), registry.getDefinitionNamesForType(Service::class.java))
+    }
+}
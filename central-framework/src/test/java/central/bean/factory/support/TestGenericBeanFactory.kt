@@ -0,0 +1,467 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.factory.support
+
+import central.bean.factory.BeanCreationException
+import central.bean.factory.BeanProvider
+import central.bean.factory.DestroyableBean
+import central.bean.factory.FactoryBean
+import central.bean.factory.config.BeanPostProcessor
+import central.bean.factory.config.DependencyDescriptor
+import central.bean.factory.config.ScopeTarget
+import central.bean.factory.metrics.BufferingApplicationStartup
+import org.junit.Assert.*
+import org.junit.Test
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * GenericBeanFactory Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestGenericBeanFactory {
+
+    class FirstBean
+
+    class SecondBean
+
+    class ThirdBean
+
+    class Formatter : DestroyableBean {
+        var destroyed = false
+
+        override fun destroy() {
+            this.destroyed = true
+        }
+    }
+
+    interface Greeting {
+        fun greet(): String
+    }
+
+    class GreetingImpl : Greeting {
+        override fun greet(): String = "hello"
+    }
+
+    /**
+     * 用于获取 BeanProvider<Greeting> 的泛型类型
+     */
+    @Suppress("unused")
+    lateinit var greetingProvider: BeanProvider<Greeting>
+
+    /**
+     * 通过函数创建 Bean 的工厂
+     */
+    class SupplierFactoryBean<T : Any>(
+        private val type: Class<T>,
+        override val singleton: Boolean = true,
+        private val dependencies: List<DependencyDescriptor> = emptyList(),
+        private val supplier: () -> T
+    ) : FactoryBean<T> {
+        override val lazy: Boolean = false
+
+        override fun getBean(): T = supplier()
+
+        override fun getBeanType(): Class<*> = type
+
+        override fun getDependencies(): List<DependencyDescriptor> = dependencies
+    }
+
+    /**
+     * 测试单例只创建一次，原型每次都创建
+     */
+    @Test
+    fun case1() {
+        val factory = GenericBeanFactory()
+        factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, factory = SupplierFactoryBean(FirstBean::class.java) { FirstBean() }))
+        factory.registry.registerDefinition(RootBeanDefinition(SecondBean::class.java, singleton = false, factory = SupplierFactoryBean(SecondBean::class.java, false) { SecondBean() }))
+
+        assertSame(factory.requireBean<FirstBean>("firstBean"), factory.requireBean(FirstBean::class.java))
+        assertNotSame(factory.requireBean<SecondBean>("secondBean"), factory.requireBean(SecondBean::class.java))
+    }
+
+    /**
+     * 测试不相关的单例可以在不同的线程中同时创建
+     */
+    @Test
+    fun case2() {
+        val factory = GenericBeanFactory()
+        // 两个单例必须同时处于创建中，才能越过屏障
+        val barrier = CyclicBarrier(2)
+        factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, factory = SupplierFactoryBean(FirstBean::class.java) {
+            barrier.await(5, TimeUnit.SECONDS)
+            FirstBean()
+        }))
+        factory.registry.registerDefinition(RootBeanDefinition(SecondBean::class.java, factory = SupplierFactoryBean(SecondBean::class.java) {
+            barrier.await(5, TimeUnit.SECONDS)
+            SecondBean()
+        }))
+
+        val executor = Executors.newFixedThreadPool(4)
+        try {
+            val first = listOf(executor.submit<Any> { factory.requireBean("firstBean") }, executor.submit<Any> { factory.requireBean("firstBean") })
+            val second = executor.submit<Any> { factory.requireBean("secondBean") }
+
+            assertSame(first[0].get(10, TimeUnit.SECONDS), first[1].get(10, TimeUnit.SECONDS))
+            assertNotNull(second.get(10, TimeUnit.SECONDS))
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    /**
+     * 测试注册单例
+     */
+    @Test
+    fun case3() {
+        val factory = GenericBeanFactory()
+        val instance = FirstBean()
+        factory.registerSingleton("myBean", instance)
+
+        assertSame(instance, factory.getBean("myBean"))
+        assertSame(instance, factory.getBean(FirstBean::class.java))
+
+        factory.clearBeans()
+        assertSame(instance, factory.getBean("myBean"))
+    }
+
+    /**
+     * 测试按依赖关系并行预初始化单例
+     */
+    @Test
+    fun case4() {
+        val factory = GenericBeanFactory()
+        factory.preInstantiationParallelism = 4
+
+        // 记录每个 Bean 的创建线程
+        val threads = ConcurrentHashMap<String, Thread>()
+        // 两个没有依赖关系的单例必须同时处于创建中，才能越过屏障
+        val barrier = CyclicBarrier(2)
+        factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, factory = SupplierFactoryBean(FirstBean::class.java) {
+            barrier.await(5, TimeUnit.SECONDS)
+            threads["firstBean"] = Thread.currentThread()
+            FirstBean()
+        }))
+        factory.registry.registerDefinition(RootBeanDefinition(SecondBean::class.java, factory = SupplierFactoryBean(SecondBean::class.java) {
+            barrier.await(5, TimeUnit.SECONDS)
+            threads["secondBean"] = Thread.currentThread()
+            SecondBean()
+        }))
+        // 需要在主线程中创建，并且依赖上面两个单例
+        val dependencies = listOf(DependencyDescriptor(FirstBean::class.java), DependencyDescriptor(SecondBean::class.java, "secondBean"))
+        factory.registry.registerDefinition(RootBeanDefinition(ThirdBean::class.java, mainThread = true, factory = SupplierFactoryBean(ThirdBean::class.java, dependencies = dependencies) {
+            assertTrue(threads.containsKey("firstBean"))
+            assertTrue(threads.containsKey("secondBean"))
+            threads["thirdBean"] = Thread.currentThread()
+            ThirdBean()
+        }))
+
+        factory.preInstantiateSingletons()
+
+        assertNotSame(threads["firstBean"], threads["secondBean"])
+        assertSame(Thread.currentThread(), threads["thirdBean"])
+        assertNotNull(factory.getBean("thirdBean"))
+    }
+
+    /**
+     * 测试预初始化时检测到无法解决的循环依赖
+     */
+    @Test
+    fun case5() {
+        val factory = GenericBeanFactory()
+        factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, factory = SupplierFactoryBean(FirstBean::class.java, dependencies = listOf(DependencyDescriptor(SecondBean::class.java))) {
+            factory.requireBean(SecondBean::class.java)
+            FirstBean()
+        }))
+        factory.registry.registerDefinition(RootBeanDefinition(SecondBean::class.java, factory = SupplierFactoryBean(SecondBean::class.java, dependencies = listOf(DependencyDescriptor(FirstBean::class.java))) {
+            factory.requireBean(FirstBean::class.java)
+            SecondBean()
+        }))
+        factory.registry.registerDefinition(RootBeanDefinition(ThirdBean::class.java, factory = SupplierFactoryBean(ThirdBean::class.java) { ThirdBean() }))
+
+        val exception = assertThrows(BeanCreationException::class.java) { factory.preInstantiateSingletons() }
+        assertTrue(exception.message!!.contains("firstBean -> secondBean -> firstBean"))
+        // 不在循环中的单例已经创建
+        assertNotNull(factory.getBean("thirdBean"))
+    }
+
+    /**
+     * 测试延迟初始化的单例不会被预初始化，注入时得到延迟解析的代理或 BeanProvider
+     */
+    @Test
+    fun case6() {
+        val factory = GenericBeanFactory()
+        val created = AtomicInteger()
+        factory.registry.registerDefinition(RootBeanDefinition(GreetingImpl::class.java, lazyInit = true, factory = SupplierFactoryBean(GreetingImpl::class.java) {
+            created.incrementAndGet()
+            GreetingImpl()
+        }))
+
+        factory.preInstantiateSingletons()
+        assertEquals(0, created.get())
+
+        // 注入接口时得到代理对象，第一次调用时才创建单例
+        val greeting = factory.resolveDependency(DependencyDescriptor(Greeting::class.java)) as Greeting
+        assertFalse(greeting is GreetingImpl)
+        assertEquals(0, created.get())
+        // equals、hashCode、toString 不会创建单例
+        assertTrue(greeting == greeting)
+        assertFalse(greeting.equals(GreetingImpl()))
+        assertEquals(System.identityHashCode(greeting), greeting.hashCode())
+        assertTrue(hashSetOf(greeting).contains(greeting))
+        assertEquals("Lazy proxy for bean 'greetingImpl'", greeting.toString())
+        assertEquals(0, created.get())
+        assertEquals("hello", greeting.greet())
+        assertEquals("hello", greeting.greet())
+        assertEquals(1, created.get())
+
+        // 注入 BeanProvider<T> 时，在使用时才获取 Bean
+        val field = TestGenericBeanFactory::class.java.getDeclaredField("greetingProvider")
+        @Suppress("UNCHECKED_CAST")
+        val provider = factory.resolveDependency(DependencyDescriptor(field.type, genericType = field.genericType)) as BeanProvider<Greeting>
+        assertSame(factory.getBean(Greeting::class.java), provider.getObject())
+        assertEquals(1, created.get())
+
+        // 已创建的单例直接注入
+        assertTrue(factory.resolveDependency(DependencyDescriptor(Greeting::class.java)) is GreetingImpl)
+    }
+
+    /**
+     * 测试线程作用域
+     */
+    @Test
+    fun case7() {
+        val factory = GenericBeanFactory()
+        factory.registry.registerDefinition(RootBeanDefinition(Formatter::class.java, scope = ScopeTarget.THREAD, factory = SupplierFactoryBean(Formatter::class.java, false) { Formatter() }))
+        factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, scope = "unknown", factory = SupplierFactoryBean(FirstBean::class.java, false) { FirstBean() }))
+
+        // 相同线程返回同一实例
+        val formatter = factory.requireBean<Formatter>("formatter")
+        assertSame(formatter, factory.requireBean(Formatter::class.java))
+
+        // 不同线程返回不同实例，任务结束后销毁
+        val scope = factory.getRegisteredScope(ScopeTarget.THREAD) as ThreadScope
+        val executor = Executors.newSingleThreadExecutor()
+        try {
+            var other: Formatter? = null
+            executor.submit(scope.wrap { other = factory.requireBean("formatter") }).get(5, TimeUnit.SECONDS)
+            assertNotSame(formatter, other)
+            assertTrue(other!!.destroyed)
+        } finally {
+            executor.shutdownNow()
+        }
+
+        // 清空当前线程中的 Bean
+        scope.clear()
+        assertTrue(formatter.destroyed)
+        assertNotSame(formatter, factory.requireBean("formatter"))
+
+        // 销毁回调的异常不会覆盖任务的异常
+        scope.registerDestructionCallback("failing") { throw IllegalStateException("destroy") }
+        val ex = assertThrows(IllegalArgumentException::class.java) { scope.wrap { throw IllegalArgumentException("task") }.run() }
+        assertEquals("destroy", ex.suppressed.single().message)
+        scope.registerDestructionCallback("failing") { throw IllegalStateException("destroy") }
+        assertThrows(IllegalStateException::class.java) { scope.wrap { }.run() }
+
+        // 未注册的作用域
+        assertThrows(BeanCreationException::class.java) { factory.getBean<FirstBean>("firstBean") }
+    }
+
+    /**
+     * 测试记录 Bean 的创建步骤
+     */
+    @Test
+    fun case8() {
+        val factory = GenericBeanFactory()
+        val startup = BufferingApplicationStartup()
+        factory.applicationStartup = startup
+        factory.registry.registerDefinition(RootBeanDefinition(SecondBean::class.java, factory = SupplierFactoryBean(SecondBean::class.java) { SecondBean() }))
+        factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, factory = SupplierFactoryBean(FirstBean::class.java) {
+            factory.requireBean<SecondBean>("secondBean")
+            FirstBean()
+        }))
+
+        factory.requireBean<FirstBean>("firstBean")
+
+        val names = startup.getSteps().map { it.name }
+        assertEquals(2, names.count { it == "bean.instantiate" })
+        assertEquals(2, names.count { it == "bean.factory" })
+
+        // secondBean 的创建是由 firstBean 触发的
+        val summary = startup.toSummary()
+        assertTrue(summary.contains("bean.instantiate secondBean <- firstBean"))
+        assertTrue(startup.toChromeTrace().contains("traceEvents"))
+
+        startup.clear()
+        assertTrue(startup.getSteps().isEmpty())
+    }
+
+    /**
+     * 测试只对支持的类型执行后置处理，且不处理 Bean 工厂
+     */
+    @Test
+    fun case9() {
+        val factory = GenericBeanFactory()
+        val processed = mutableListOf<Any>()
+        factory.addBeanPostProcessor(object : BeanPostProcessor {
+            override fun supports(beanType: Class<*>): Boolean = beanType == FirstBean::class.java
+
+            override fun processBeforeInitialization(name: String, bean: Any): Any = bean.also { processed.add(it) }
+        })
+        factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, singleton = false, factory = SupplierFactoryBean(FirstBean::class.java, false) { FirstBean() }))
+        factory.registry.registerDefinition(RootBeanDefinition(SecondBean::class.java, singleton = false, factory = SupplierFactoryBean(SecondBean::class.java, false) { SecondBean() }))
+
+        val first = factory.requireBean<FirstBean>("firstBean")
+        factory.requireBean<SecondBean>("secondBean")
+        assertEquals(listOf<Any>(first), processed)
+
+        // 后置处理器变化后重新计算
+        factory.clearBeanPostProcessors()
+        factory.requireBean<FirstBean>("firstBean")
+        assertEquals(1, processed.size)
+    }
+
+    /**
+     * 记录销毁顺序的 Bean
+     */
+    class RecordingBean(private val name: String, private val destroyed: MutableCollection<String>, private val delay: Long = 0) : DestroyableBean {
+        override fun destroy() {
+            Thread.sleep(this.delay)
+            this.destroyed.add(this.name)
+        }
+    }
+
+    /**
+     * 测试按依赖关系的逆序销毁单例，并记录销毁耗时
+     */
+    @Test
+    fun case10() {
+        val factory = GenericBeanFactory()
+        factory.destructionParallelism = 4
+        val destroyed = ConcurrentLinkedQueue<String>()
+        // first -> second -> third, fourth 与其它 Bean 没有依赖关系
+        factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "third", factory = SupplierFactoryBean(RecordingBean::class.java) { RecordingBean("third", destroyed) }))
+        factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "second", factory = SupplierFactoryBean(RecordingBean::class.java, dependencies = listOf(DependencyDescriptor(RecordingBean::class.java, "third"))) { RecordingBean("second", destroyed) }))
+        factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "first", factory = SupplierFactoryBean(RecordingBean::class.java, dependencies = listOf(DependencyDescriptor(RecordingBean::class.java, "second"))) { RecordingBean("first", destroyed) }))
+        factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "fourth", factory = SupplierFactoryBean(RecordingBean::class.java) { RecordingBean("fourth", destroyed) }))
+        factory.preInstantiateSingletons()
+
+        val report = factory.destroySingletons(5, TimeUnit.SECONDS)
+        assertTrue(report.isCompleted)
+        assertEquals(setOf("first", "second", "third", "fourth"), report.timings.keys)
+        val order = destroyed.toList()
+        assertTrue(order.indexOf("first") < order.indexOf("second"))
+        assertTrue(order.indexOf("second") < order.indexOf("third"))
+
+        // 销毁后重新创建
+        assertNotNull(factory.getBean<RecordingBean>("first"))
+    }
+
+    /**
+     * 测试销毁超时与销毁单个 Bean
+     */
+    @Test
+    fun case11() {
+        val factory = GenericBeanFactory()
+        factory.destructionParallelism = 4
+        val destroyed = ConcurrentLinkedQueue<String>()
+        factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "slow", factory = SupplierFactoryBean(RecordingBean::class.java) { RecordingBean("slow", destroyed, 500) }))
+        factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "dependent", factory = SupplierFactoryBean(RecordingBean::class.java, dependencies = listOf(DependencyDescriptor(RecordingBean::class.java, "slow"))) { RecordingBean("dependent", destroyed) }))
+        factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "other", factory = SupplierFactoryBean(RecordingBean::class.java) { RecordingBean("other", destroyed) }))
+        factory.preInstantiateSingletons()
+
+        // 销毁 slow 之前需要先销毁依赖它的 Bean
+        factory.destroyBean("slow")
+        assertEquals(listOf("dependent", "slow"), destroyed.toList())
+
+        // 超时后不再销毁剩余的 Bean
+        factory.requireBean<RecordingBean>("slow")
+        factory.requireBean<RecordingBean>("dependent")
+        destroyed.clear()
+        val report = factory.destroySingletons(100, TimeUnit.MILLISECONDS)
+        assertFalse(report.isCompleted)
+        assertTrue(report.unfinished.contains("slow"))
+        assertFalse(destroyed.contains("slow"))
+    }
+
+    /**
+     * 测试大量没有依赖关系的单例与主线程单例一起预初始化时，所有单例都在返回前创建完毕
+     */
+    @Test
+    fun case12() {
+        repeat(50) {
+            val factory = GenericBeanFactory()
+            factory.preInstantiationParallelism = 4
+
+            val created = AtomicInteger()
+            for (index in 1..32) {
+                factory.registry.registerDefinition(RootBeanDefinition(FirstBean::class.java, name = "bean$index", factory = SupplierFactoryBean(FirstBean::class.java) {
+                    created.incrementAndGet()
+                    FirstBean()
+                }))
+            }
+            val mainThread = AtomicReference<Thread>()
+            factory.registry.registerDefinition(RootBeanDefinition(SecondBean::class.java, mainThread = true, factory = SupplierFactoryBean(SecondBean::class.java) {
+                mainThread.set(Thread.currentThread())
+                created.incrementAndGet()
+                SecondBean()
+            }))
+
+            factory.preInstantiateSingletons()
+
+            assertEquals(33, created.get())
+            assertSame(Thread.currentThread(), mainThread.get())
+        }
+    }
+
+    /**
+     * 测试大量没有依赖关系的单例与主线程单例一起销毁时，所有单例都在返回前销毁完毕
+     */
+    @Test
+    fun case13() {
+        repeat(50) {
+            val factory = GenericBeanFactory()
+            factory.destructionParallelism = 4
+
+            val destroyed = ConcurrentLinkedQueue<String>()
+            factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "main", mainThread = true, factory = SupplierFactoryBean(RecordingBean::class.java) { RecordingBean("main", destroyed) }))
+            for (index in 1..32) {
+                factory.registry.registerDefinition(RootBeanDefinition(RecordingBean::class.java, name = "bean$index", factory = SupplierFactoryBean(RecordingBean::class.java) { RecordingBean("bean$index", destroyed) }))
+            }
+            factory.preInstantiateSingletons()
+
+            val report = factory.destroySingletons(5, TimeUnit.SECONDS)
+            assertTrue(report.isCompleted)
+            assertEquals(33, destroyed.size)
+        }
+    }
+}
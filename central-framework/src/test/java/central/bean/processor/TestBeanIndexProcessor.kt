@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.bean.processor
+
+import central.android.context.AndroidApplicationContext
+import central.bean.factory.config.BeanDefinition
+import central.bean.factory.support.index.BeanIndex
+import central.bean.factory.support.index.BeanIndexes
+import central.bean.factory.support.index.IndexedFactoryBean
+import central.bean.factory.support.processor.factory.ConfigurationBeanPostProcessor
+import org.junit.Assert.*
+import org.junit.Test
+import java.io.File
+import java.net.URI
+import java.net.URLClassLoader
+import java.nio.file.Files
+import javax.tools.Diagnostic
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.SimpleJavaFileObject
+import javax.tools.StandardLocation
+import javax.tools.ToolProvider
+
+/**
+ * BeanIndexProcessor Test Cases
+ *
+ * 使用 JDK 自带的编译器在测试中编译示例配置类，由 [BeanIndexProcessor] 生成索引，再加载生成的索引验证运行时行为
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestBeanIndexProcessor {
+
+    companion object {
+        private const val REPOSITORY = """
+            package sample;
+            public class Repository {
+            }
+        """
+
+        private const val SERVICE = """
+            package sample;
+            import central.bean.factory.Autowired;
+            public class Service {
+                public final Repository repository;
+                public Service() { this(null); }
+                @Autowired
+                public Service(Repository repository) { this.repository = repository; }
+            }
+        """
+
+        private const val CONTROLLER = """
+            package sample;
+            import central.bean.factory.Autowired;
+            public class Controller {
+                @Autowired
+                public Service service;
+            }
+        """
+
+        private const val HIDDEN = """
+            package sample;
+            public class Hidden {
+                Hidden() { }
+            }
+        """
+
+        private const val CLIENT = """
+            package sample;
+            public class Client {
+                public final Service service;
+                public Client(Service service) { this.service = service; }
+            }
+        """
+
+        /**
+         * 配置类，`%s` 为引入的组件
+         */
+        private const val CONFIGURATION = """
+            package sample;
+            import central.bean.factory.Value;
+            import central.bean.factory.config.Bean;
+            import central.bean.factory.config.Configuration;
+            import central.bean.factory.config.Import;
+            import central.bean.factory.config.LazyInit;
+            import central.bean.factory.config.Scope;
+            @Configuration
+            @Import({%s})
+            public class SampleConfiguration {
+                @Bean
+                public Client client(Service service) { return new Client(service); }
+                @Bean
+                @LazyInit
+                public Integer port(@Value("${'$'}{server.port:8080}") int port) { return port; }
+                @Bean(name = "timeout")
+                public long timeout() { return 30L; }
+                @Bean
+                @Scope(singleton = false)
+                public StringBuilder buffer() { return new StringBuilder(); }
+                @Configuration
+                public static class Nested {
+                    @Bean
+                    public static Repository nestedRepository() { return new Repository(); }
+                }
+            }
+        """
+
+        /**
+         * 父配置类，其中的 @Bean 方法会被子类重写
+         */
+        private const val BASE_CONFIGURATION = """
+            package sample;
+            import central.bean.factory.config.Bean;
+            public class BaseConfiguration {
+                @Bean
+                public Repository repository() { return new Repository(); }
+                @Bean
+                public Service service() { return new Service(); }
+            }
+        """
+
+        private const val DERIVED_CONFIGURATION = """
+            package sample;
+            import central.bean.factory.config.Bean;
+            import central.bean.factory.config.Configuration;
+            @Configuration
+            public class DerivedConfiguration extends BaseConfiguration {
+                public static final Repository REPOSITORY = new Repository();
+                @Bean
+                @Override
+                public Repository repository() { return REPOSITORY; }
+                @Override
+                public Service service() { return new Service(); }
+            }
+        """
+    }
+
+    /**
+     * 编译结果
+     */
+    private class Compilation(val success: Boolean, val diagnostics: List<Diagnostic<out JavaFileObject>>, val classes: File, val sources: File) {
+        val classLoader: ClassLoader by lazy { URLClassLoader(arrayOf(this.classes.toURI().toURL()), TestBeanIndexProcessor::class.java.classLoader) }
+    }
+
+    /**
+     * 使用 BeanIndexProcessor 编译源码（类名 -> 源码）
+     */
+    private fun compile(sources: Map<String, String>): Compilation {
+        val compiler = ToolProvider.getSystemJavaCompiler()
+        assertNotNull("Tests must run on a JDK", compiler)
+
+        val classes = Files.createTempDirectory("central-processor-classes").toFile()
+        val generated = Files.createTempDirectory("central-processor-sources").toFile()
+
+        val units = sources.map { (name, content) ->
+            object : SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+                override fun getCharContent(ignoreEncodingErrors: Boolean): CharSequence = content.trimIndent()
+            }
+        }
+
+        val diagnostics = DiagnosticCollector<JavaFileObject>()
+        compiler.getStandardFileManager(diagnostics, null, null).use { fileManager ->
+            // 生成的索引需要引用框架中的类型
+            fileManager.setLocation(StandardLocation.CLASS_PATH, listOf(getLocation(BeanIndex::class.java), getLocation(Unit::class.java)))
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, listOf(classes))
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, listOf(generated))
+
+            val task = compiler.getTask(null, fileManager, diagnostics, listOf("-source", "8", "-target", "8", "-Xlint:-options"), null, units)
+            task.setProcessors(listOf(BeanIndexProcessor()))
+            return Compilation(task.call(), diagnostics.diagnostics, classes, generated)
+        }
+    }
+
+    private fun getLocation(type: Class<*>): File {
+        return File(type.protectionDomain.codeSource.location.toURI())
+    }
+
+    /**
+     * 示例源码
+     *
+     * @param hidden 是否引入没有公开构造函数的组件。这类组件只能通过反射创建，而运行时只支持公开的构造函数
+     */
+    private fun sampleSources(hidden: Boolean): Map<String, String> {
+        val sources = sortedMapOf(
+            "sample.Repository" to REPOSITORY,
+            "sample.Service" to SERVICE,
+            "sample.Controller" to CONTROLLER,
+            "sample.Client" to CLIENT
+        )
+        if (hidden) {
+            sources["sample.Hidden"] = HIDDEN
+            sources["sample.SampleConfiguration"] = CONFIGURATION.format("Repository.class, Service.class, Controller.class, Hidden.class")
+        } else {
+            sources["sample.SampleConfiguration"] = CONFIGURATION.format("Repository.class, Service.class, Controller.class")
+        }
+        return sources
+    }
+
+    private fun createContext(configuration: Class<*>): AndroidApplicationContext {
+        val context = AndroidApplicationContext()
+        context.beanFactory.registry.registerDefinition(BeanIndexes.reflective(configuration))
+        context.addBeanFactoryPostProcessor(ConfigurationBeanPostProcessor())
+        context.refresh()
+        return context
+    }
+
+    private fun Any.field(name: String): Any? = this.javaClass.getField(name).get(this)
+
+    /**
+     * 测试为配置类与嵌套配置类生成索引
+     */
+    @Test
+    fun case1() {
+        val compilation = compile(sampleSources(true))
+        assertTrue(compilation.diagnostics.toString(), compilation.success)
+        assertTrue(File(compilation.sources, "sample/SampleConfiguration_BeanIndex.java").isFile)
+        assertTrue(File(compilation.sources, "sample/SampleConfiguration_Nested_BeanIndex.java").isFile)
+
+        val classLoader = compilation.classLoader
+        val configuration = classLoader.loadClass("sample.SampleConfiguration")
+        val index = BeanIndexes.find(configuration)
+        assertNotNull(index)
+
+        val definitions = index!!.getDefinitions(BeanIndexes.reflective(configuration))
+        assertEquals(listOf("repository", "service", "controller", "hidden", "client", "port", "timeout", "buffer"), definitions.map { it.name })
+
+        val byName = definitions.associateBy(BeanDefinition::name)
+        // 没有公开构造函数的组件通过反射创建
+        assertFalse(byName.getValue("hidden").factory is IndexedFactoryBean<*>)
+        assertTrue(byName.getValue("service").factory is IndexedFactoryBean<*>)
+        assertEquals(Long::class.javaPrimitiveType, byName.getValue("timeout").type)
+        assertFalse(byName.getValue("buffer").singleton)
+        assertTrue(byName.getValue("port").lazyInit)
+        // 通过 @Value 注入的参数不依赖其它 Bean，只依赖配置类
+        assertEquals(1, byName.getValue("port").factory.getDependencies().size)
+
+        // 注入点
+        assertNotNull(BeanIndexes.getInjectionPoints(classLoader.loadClass("sample.Controller")))
+
+        // 嵌套的配置类
+        val nested = classLoader.loadClass("sample.SampleConfiguration\$Nested")
+        val nestedIndex = BeanIndexes.find(nested)
+        assertNotNull(nestedIndex)
+        assertEquals(listOf("nestedRepository"), nestedIndex!!.getDefinitions(BeanIndexes.reflective(nested)).map { it.name })
+    }
+
+    /**
+     * 测试应用上下文通过生成的索引创建 Bean
+     */
+    @Test
+    fun case2() {
+        val compilation = compile(sampleSources(false))
+        assertTrue(compilation.diagnostics.toString(), compilation.success)
+
+        val context = createContext(compilation.classLoader.loadClass("sample.SampleConfiguration"))
+        assertTrue(context.beanFactory.registry.getDefinition("client")!!.factory is IndexedFactoryBean<*>)
+
+        val repository = context.getBean<Any>("repository")
+        val service = context.getBean<Any>("service")!!
+        assertSame(repository, service.field("repository"))
+
+        val controller = context.getBean<Any>("controller")!!
+        assertSame(service, controller.field("service"))
+
+        val client = context.getBean<Any>("client")!!
+        assertSame(service, client.field("service"))
+
+        assertEquals(30L, context.getBean<Any>("timeout"))
+        assertNotSame(context.getBean<Any>("buffer"), context.getBean<Any>("buffer"))
+    }
+
+    /**
+     * 测试配置类之外的源码不会生成索引
+     */
+    @Test
+    fun case3() {
+        val compilation = compile(mapOf("sample.Repository" to REPOSITORY))
+        assertTrue(compilation.diagnostics.toString(), compilation.success)
+
+        val generated = File(compilation.sources, "sample").listFiles()
+        assertTrue(generated == null || generated.isEmpty())
+    }
+
+    /**
+     * 测试子类重写的 @Bean 方法只生成一次，并以子类的声明为准
+     */
+    @Test
+    fun case4() {
+        val compilation = compile(sortedMapOf(
+            "sample.Repository" to REPOSITORY,
+            "sample.Service" to SERVICE,
+            "sample.BaseConfiguration" to BASE_CONFIGURATION,
+            "sample.DerivedConfiguration" to DERIVED_CONFIGURATION
+        ))
+        assertTrue(compilation.diagnostics.toString(), compilation.success)
+
+        val configuration = compilation.classLoader.loadClass("sample.DerivedConfiguration")
+        val index = BeanIndexes.find(configuration)
+        assertNotNull(index)
+        // 子类重写时没有标注 @Bean 的方法不再是 Bean，与运行时通过反射解析的结果一致
+        assertEquals(listOf("repository"), index!!.getDefinitions(BeanIndexes.reflective(configuration)).map { it.name })
+
+        val context = createContext(configuration)
+        assertSame(configuration.getField("REPOSITORY").get(null), context.getBean<Any>("repository"))
+    }
+}
@@ -29,6 +29,7 @@ import central.util.LazyValue
 import org.junit.Assert.*
 import org.junit.Test
 import java.sql.Timestamp
+import java.time.LocalDateTime
 import java.util.*
 
 /**
@@ -352,6 +353,52 @@ class TestConverter {
         assertEquals(1, value?.get())
     }
 
+    /**
+     * Test Deregister
+     */
+    @Test
+    fun case11() {
+        val converter = GenericConverter()
+        assertEquals(1, converter.convert("1", Int::class.javaPrimitiveType!!))
+
+        val lazy = LazyConverter()
+        converter.register(lazy)
+        assertTrue(converter.support(Int::class.javaPrimitiveType!!, LazyValue::class.java))
+
+        converter.deregister(lazy)
+        assertFalse(converter.support(Int::class.javaPrimitiveType!!, LazyValue::class.java))
+        assertEquals(2L, converter.convert("2", Long::class.java))
+    }
+
+    /**
+     * Test Multi-hop Conversion
+     */
+    @Test
+    fun case12() {
+        val converter = GenericConverter()
+        val millis = 1700000000000L
+
+        // String -> Double -> Date
+        assertTrue(converter.support(String::class.java, Date::class.java))
+        assertEquals(Date(millis), converter.convert(millis.toString(), Date::class.java))
+        assertEquals(Timestamp(millis), converter.convert(millis.toString(), Timestamp::class.java))
+        assertEquals(converter.convert(millis, LocalDateTime::class.java), converter.convert(millis.toString(), LocalDateTime::class.java))
+
+        // 不存在的转换路径
+        assertFalse(converter.support(Date::class.java, LazyValue::class.java))
+
+        // String 转换器支持任意源类型，但不能作为中间步骤
+        assertTrue(converter.support(AnyBean::class.java, String::class.java))
+        assertFalse(converter.support(AnyBean::class.java, Long::class.java))
+        assertFalse(converter.support(AnyBean::class.java, Date::class.java))
+        assertThrows(ConvertException::class.java) { converter.convert(AnyBean(), Long::class.java) }
+        assertThrows(ConvertException::class.java) { converter.convert(AnyBean(), Date::class.java) }
+    }
+
+    class AnyBean {
+        override fun toString(): String = "1700000000000"
+    }
+
     class LazyConverter : TypeConverter<LazyValue<*>> {
         override fun support(source: Class<*>): Boolean = true
 
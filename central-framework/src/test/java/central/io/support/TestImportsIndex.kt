@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.io.support
+
+import central.convert.Converter
+import central.convert.support.impl.lang.BooleanConverter
+import org.junit.Assert.*
+import org.junit.Test
+import java.io.File
+import java.net.URLClassLoader
+import java.nio.file.Files
+
+/**
+ * ImportsIndex Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/17
+ */
+class TestImportsIndex {
+
+    /**
+     * 创建只包含指定资源的 ClassLoader
+     */
+    private fun createClassLoader(vararg resources: Pair<String, String>): URLClassLoader {
+        val root = Files.createTempDirectory("central-imports").toFile()
+        for ((path, content) in resources) {
+            File(root, path).also { it.parentFile.mkdirs() }.writeText(content)
+        }
+        return URLClassLoader(arrayOf(root.toURI().toURL()), null)
+    }
+
+    /**
+     * 测试读取类路径中的引入文件
+     */
+    @Test
+    fun case1() {
+        val index = ImportsIndex.of(TestImportsIndex::class.java.classLoader)
+        assertSame(index, ImportsIndex.of(TestImportsIndex::class.java.classLoader))
+
+        val classes = index.getImportedClasses(Converter::class.java.name)
+        assertTrue(classes.contains(BooleanConverter::class.java))
+        // 加载出来的类会被缓存
+        assertSame(classes, index.getImportedClasses(Converter::class.java.name))
+
+        assertTrue(index.getImports("central.io.support.NotExists").isEmpty())
+    }
+
+    /**
+     * 测试解析引入文件，重复的类名只保留一次
+     */
+    @Test
+    fun case2() {
+        val classLoader = createClassLoader(
+            ImportsIndex.getLocation("test.Imports") to "imports=java.lang.String, java.lang.Integer,\\\n  java.lang.Long, java.lang.String\n"
+        )
+
+        val index = ImportsIndex.of(classLoader)
+        assertEquals(listOf("java.lang.String", "java.lang.Integer", "java.lang.Long"), index.getImports("test.Imports"))
+        assertEquals(listOf(String::class.java, Int::class.javaObjectType, Long::class.javaObjectType), index.getImportedClasses("test.Imports"))
+    }
+}
@@ -23,3 +23,5 @@ dependencyResolutionManagement {
 rootProject.name = "central-framework-android"
 include(":app")
 include(":central-framework")
+include(":central-framework-processor")
+include(":central-framework-benchmark")
\ No newline at end of file